@@ -20,21 +20,34 @@ package org.jpmml.evaluator.example;
 
 import java.io.Console;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
 import java.text.NumberFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.validators.PositiveInteger;
@@ -45,20 +58,32 @@ import com.codahale.metrics.Timer;
 import com.google.common.cache.CacheBuilderSpec;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.dmg.pmml.Field;
+import org.dmg.pmml.HasFieldReference;
 import org.dmg.pmml.PMML;
 import org.dmg.pmml.PMMLObject;
 import org.jpmml.evaluator.CacheUtil;
+import org.jpmml.evaluator.ColumnarTableReader;
 import org.jpmml.evaluator.Evaluator;
 import org.jpmml.evaluator.EvaluatorUtil;
 import org.jpmml.evaluator.FieldNameSet;
 import org.jpmml.evaluator.FunctionNameStack;
 import org.jpmml.evaluator.HasGroupFields;
 import org.jpmml.evaluator.InputField;
+import org.jpmml.evaluator.ModelEvaluationContext;
+import org.jpmml.evaluator.ModelEvaluator;
 import org.jpmml.evaluator.ModelEvaluatorBuilder;
 import org.jpmml.evaluator.ModelEvaluatorFactory;
 import org.jpmml.evaluator.OutputFilters;
+import org.jpmml.evaluator.PrimitiveColumn;
+import org.jpmml.evaluator.ResultField;
+import org.jpmml.evaluator.RetainedSize;
+import org.jpmml.evaluator.RetainedSizeEstimator;
 import org.jpmml.evaluator.Table;
 import org.jpmml.evaluator.TableCollector;
+import org.jpmml.evaluator.TableReader;
+import org.jpmml.evaluator.TableSpliterator;
+import org.jpmml.evaluator.TableWriter;
 import org.jpmml.evaluator.ValueFactoryFactory;
 import org.jpmml.evaluator.visitors.AttributeFinalizerBattery;
 import org.jpmml.evaluator.visitors.AttributeInternerBattery;
@@ -66,8 +91,8 @@ import org.jpmml.evaluator.visitors.AttributeOptimizerBattery;
 import org.jpmml.evaluator.visitors.ElementFinalizerBattery;
 import org.jpmml.evaluator.visitors.ElementInternerBattery;
 import org.jpmml.evaluator.visitors.ElementOptimizerBattery;
+import org.jpmml.model.PMMLException;
 import org.jpmml.model.visitors.LocatorNullifier;
-import org.jpmml.model.visitors.MemoryMeasurer;
 import org.jpmml.model.visitors.VisitorBattery;
 
 public class EvaluationExample extends Example {
@@ -82,7 +107,7 @@ public class EvaluationExample extends Example {
 
 	@Parameter (
 		names = {"--input"},
-		description = "Input CSV file",
+		description = "Input CSV or columnar table file",
 		required = true,
 		order = 2
 	)
@@ -90,7 +115,7 @@ public class EvaluationExample extends Example {
 
 	@Parameter (
 		names = {"--output"},
-		description = "Output CSV file",
+		description = "Output CSV or columnar table file",
 		required = true,
 		order = 3
 	)
@@ -163,6 +188,64 @@ public class EvaluationExample extends Example {
 	)
 	private boolean copyColumns = false;
 
+	@Parameter (
+		names = {"--chunk-size"},
+		description = "The number of rows per chunk. If positive, input CSV file is streamed through the main evaluation loop chunk by chunk, with bounded memory usage",
+		order = 13
+	)
+	private int chunkSize = 0;
+
+	@Parameter (
+		names = {"--parse-parallelism"},
+		description = "The parallelism level of input CSV file parsing",
+		order = 14
+	)
+	private int parseParallelism = 1;
+
+	@Parameter (
+		names = {"--min-chunk-size"},
+		description = "The minimum number of rows per parallel evaluation task",
+		validateWith = PositiveInteger.class,
+		order = 15
+	)
+	private int minChunkSize = 1;
+
+	@Parameter (
+		names = {"--executor"},
+		description = "The executor of the main evaluation loop. One of \"fork-join\" (parallel streams), \"fixed\" (fixed thread pool) or \"virtual\" (a new virtual thread per task; requires Java 21 or newer)",
+		order = 16
+	)
+	private String executor = "fork-join";
+
+	@Parameter (
+		names = {"--task-size"},
+		description = "The number of rows per task. Applies to \"fixed\" and \"virtual\" executors",
+		validateWith = PositiveInteger.class,
+		order = 17
+	)
+	private int taskSize = 1;
+
+	@Parameter (
+		names = {"--report-latency"},
+		description = "Report per-row evaluation latency percentiles",
+		order = 18
+	)
+	private boolean reportLatency = false;
+
+	@Parameter (
+		names = {"--output-format"},
+		description = "The format of output file. One of \"csv\" or \"columnar\". If missing, the format of input file is used",
+		order = 19
+	)
+	private String outputFormat = null;
+
+	@Parameter (
+		names = {"--compact-errors"},
+		description = "Record evaluation errors as error code, field name and message columns, and skip the capture of their stack traces",
+		order = 20
+	)
+	private boolean compactErrors = false;
+
 	@Parameter (
 		names = {"--wait-before-init"},
 		description = "Pause before initializing the JPMML stack",
@@ -221,7 +304,7 @@ public class EvaluationExample extends Example {
 
 	@Parameter (
 		names = "--measure",
-		description = "Measure PMML class model. Requires JPMML agent",
+		description = "Estimate the retained heap size of the model evaluator",
 		hidden = true
 	)
 	private boolean measure = false;
@@ -248,6 +331,16 @@ public class EvaluationExample extends Example {
 	)
 	private boolean waitAfterLoop = false;
 
+	/**
+	 * Per-row cost measurements, shared between successive runs of the main evaluation loop.
+	 */
+	private TableSpliterator.CostTracker costTracker = new TableSpliterator.CostTracker(TimeUnit.MILLISECONDS.toNanos(1));
+
+	/**
+	 * Per-row latency measurements, accumulated over all runs of the main evaluation loop.
+	 */
+	private LatencyHistogram latencyHistogram = new LatencyHistogram();
+
 
 	static
 	public void main(String... args) throws Exception {
@@ -272,7 +365,41 @@ public class EvaluationExample extends Example {
 		// Perform self-testing
 		evaluator.verify();
 
-		Table inputTable = loadInput(evaluator);
+		boolean columnarInput = ColumnarTableReader.isColumnar(this.input);
+		boolean columnarOutput = columnarInput;
+
+		if(this.outputFormat != null){
+
+			switch(this.outputFormat){
+				case "csv":
+					columnarOutput = false;
+					break;
+				case "columnar":
+					columnarOutput = true;
+					break;
+				default:
+					throw new IllegalArgumentException("Output format " + this.outputFormat + " is not supported");
+			}
+		}
+
+		if(this.chunkSize > 0){
+
+			if(columnarInput || columnarOutput){
+				throw new IllegalArgumentException("Streaming mode does not support columnar table files");
+			}
+
+			executeStreaming(metricRegistry, evaluator);
+
+			if(this.loop > 1){
+				reporter.report();
+			}
+
+			reporter.close();
+
+			return;
+		}
+
+		Table inputTable = loadInput(evaluator, columnarInput);
 
 		if(this.waitBeforeLoop){
 			waitForUserInput();
@@ -282,58 +409,215 @@ public class EvaluationExample extends Example {
 
 		metricRegistry.register("main", timer);
 
-		ForkJoinPool forkJoinPool;
+		ForkJoinPool forkJoinPool = null;
 
-		if(this.parallelism == -1){
-			forkJoinPool = ForkJoinPool.commonPool();
-		} else
+		ExecutorService executorService = null;
 
-		if(this.parallelism == 1){
-			forkJoinPool = null;
-		} else
+		switch(this.executor){
+			case "fork-join":
+				{
+					if(this.parallelism == -1){
+						forkJoinPool = ForkJoinPool.commonPool();
+					} else
 
-		{
-			forkJoinPool = new ForkJoinPool(this.parallelism);
+					if(this.parallelism == 1){
+						forkJoinPool = null;
+					} else
+
+					{
+						forkJoinPool = new ForkJoinPool(this.parallelism);
+					}
+				}
+				break;
+			case "fixed":
+				{
+					int parallelism = (this.parallelism == -1 ? Runtime.getRuntime().availableProcessors() : this.parallelism);
+
+					executorService = Executors.newFixedThreadPool(Math.max(1, parallelism));
+				}
+				break;
+			case "virtual":
+				{
+					executorService = newVirtualThreadPerTaskExecutor();
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Executor " + this.executor + " is not supported");
 		}
 
 		Table outputTable = new Table(0);
 
-		for(int i = 0; i < this.loop; i++){
-			Timer.Context context = timer.time();
+		try {
+			for(int i = 0; i < this.loop; i++){
+				Timer.Context context = timer.time();
 
-			try {
-				outputTable = evaluate(evaluator, forkJoinPool, inputTable);
-			} finally {
-				context.close();
+				try {
+					if(executorService != null){
+						outputTable = evaluateTasks(evaluator, executorService, inputTable);
+					} else
+
+					{
+						outputTable = evaluate(evaluator, forkJoinPool, inputTable);
+					}
+				} finally {
+					context.close();
+				}
 			}
+		} finally {
+
+			if(forkJoinPool != null && forkJoinPool != ForkJoinPool.commonPool()){
+				forkJoinPool.shutdown();
+			} // End if
+
+			if(executorService != null){
+				executorService.shutdown();
+			}
+		}
+
+		if(this.waitAfterLoop){
+			waitForUserInput();
 		}
 
-		if(forkJoinPool != null && forkJoinPool != ForkJoinPool.commonPool()){
-			forkJoinPool.shutdown();
+		if(this.copyColumns){
+			outputTable = copyColumns(inputTable, outputTable);
+		}
+
+		saveOutput(evaluator, outputTable, columnarOutput);
+
+		if(this.loop > 1){
+			reporter.report();
 		} // End if
 
+		if(this.reportLatency){
+			this.latencyHistogram.report("row", System.out);
+		}
+
+		reporter.close();
+	}
+
+	/**
+	 * <p>
+	 * Streams input CSV file through the main evaluation loop.
+	 * </p>
+	 *
+	 * <p>
+	 * Chunks are evaluated on a worker pool, and written to output CSV file in the original order.
+	 * The number of chunks in flight is capped at twice the parallelism level.
+	 * Reading is blocked until the oldest chunk has been written.
+	 * </p>
+	 */
+	private void executeStreaming(MetricRegistry metricRegistry, Evaluator evaluator) throws Exception {
+
+		if(evaluator instanceof HasGroupFields){
+			throw new IllegalArgumentException("Streaming mode does not support models with group fields");
+		}
+
+		int parallelism = this.parallelism;
+		if(parallelism == -1){
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+
+		parallelism = Math.max(1, parallelism);
+
+		if(this.waitBeforeLoop){
+			waitForUserInput();
+		}
+
+		Timer timer = new Timer(new SlidingWindowReservoir(this.loop));
+
+		metricRegistry.register("main", timer);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+
+		try {
+			for(int i = 0; i < this.loop; i++){
+				Timer.Context context = timer.time();
+
+				try {
+					stream(evaluator, executorService, 2 * parallelism);
+				} finally {
+					context.close();
+				}
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+
 		if(this.waitAfterLoop){
 			waitForUserInput();
 		}
+	}
 
-		if(this.copyColumns && (inputTable.getNumberOfRows() == outputTable.getNumberOfRows())){
-			Map<String, List<?>> outputColumnValues = outputTable.getValues();
+	private void stream(Evaluator evaluator, ExecutorService executorService, int maxPendingChunks) throws Exception {
+		TableReader tableReader = new TableReader(this.separator);
+		TableWriter tableWriter = new TableWriter(this.separator);
 
-			Collection<? extends Map.Entry<String, List<?>>> entries = outputColumnValues.entrySet();
-			for(Map.Entry<String, List<?>> entry : entries){
-				inputTable.setValues(entry.getKey(), entry.getValue());
+		Deque<Future<Table>> pendingChunks = new ArrayDeque<>();
+
+		try(InputStream is = new FileInputStream(this.input); OutputStream os = new FileOutputStream(this.output)){
+
+			try(TableReader.ChunkReader chunkReader = tableReader.open(is, this.chunkSize); TableWriter.ChunkWriter chunkWriter = tableWriter.open(os)){
+
+				while(true){
+					Table inputTable = chunkReader.read();
+					if(inputTable == null){
+						break;
+					}
+
+					Callable<Table> task = () -> {
+						return evaluateChunk(evaluator, inputTable);
+					};
+
+					pendingChunks.addLast(executorService.submit(task));
+
+					while(pendingChunks.size() >= maxPendingChunks){
+						chunkWriter.write(take(pendingChunks));
+					}
+				}
+
+				while(!pendingChunks.isEmpty()){
+					chunkWriter.write(take(pendingChunks));
+				}
 			}
+		} finally {
 
-			outputTable = inputTable;
+			for(Future<Table> pendingChunk : pendingChunks){
+				pendingChunk.cancel(true);
+			}
 		}
+	}
 
-		saveOutput(evaluator, outputTable);
+	private Table evaluateChunk(Evaluator evaluator, Table inputTable) throws Exception {
+		inputTable = prepareInput(evaluator, inputTable);
 
-		if(this.loop > 1){
-			reporter.report();
+		// Chunks are evaluated in parallel, but the rows of a chunk are evaluated sequentially
+		ForkJoinPool forkJoinPool = null;
+
+		Table outputTable = evaluate(evaluator, forkJoinPool, inputTable);
+
+		if(this.copyColumns){
+			outputTable = copyColumns(inputTable, outputTable);
 		}
 
-		reporter.close();
+		// Keep the header row stable across chunks, even if some chunks fail completely
+		List<ResultField> resultFields = new ArrayList<>();
+		resultFields.addAll(evaluator.getTargetFields());
+		resultFields.addAll(evaluator.getOutputFields());
+
+		for(ResultField resultField : resultFields){
+			outputTable.addColumn(resultField.getName());
+		}
+
+		if(this.catchErrors && this.errorColumn != null){
+
+			for(String errorColumn : getErrorColumns()){
+				outputTable.addColumn(errorColumn);
+			}
+		}
+
+		outputTable.canonicalize();
+
+		return formatOutput(outputTable, true);
 	}
 
 	private Evaluator loadModel() throws Exception {
@@ -370,54 +654,110 @@ public class EvaluationExample extends Example {
 
 		visitorBattery.applyTo(pmml);
 
+		ModelEvaluatorBuilder evaluatorBuilder = new ModelEvaluatorBuilder(pmml, this.modelName)
+			.setModelEvaluatorFactory((ModelEvaluatorFactory)newInstance(this.modelEvaluatorFactoryClazz))
+			.setValueFactoryFactory((ValueFactoryFactory)newInstance(this.valueFactoryFactoryClazz))
+			.setOutputFilter(this.filterOutput ? OutputFilters.KEEP_FINAL_RESULTS : OutputFilters.KEEP_ALL);
+
+		if(this.safe){
+			evaluatorBuilder = evaluatorBuilder
+				.setDerivedFieldGuard(new FieldNameSet(8))
+				.setFunctionGuard(new FunctionNameStack(4));
+		} // End if
+
+		if(this.compactErrors){
+			evaluatorBuilder = evaluatorBuilder
+				.setStackTraceEnabled(false);
+		}
+
+		Evaluator evaluator = evaluatorBuilder.build();
+
 		if(this.measure){
-			MemoryMeasurer memoryMeasurer = new MemoryMeasurer();
-			memoryMeasurer.applyTo(pmml);
+			RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+
+			RetainedSize retainedSize = estimator.estimate((ModelEvaluator<?>)evaluator);
 
 			NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
 			numberFormat.setGroupingUsed(true);
 
-			long size = memoryMeasurer.getSize();
-			System.out.println("Bytesize of the object graph: " + numberFormat.format(size));
-
-			Set<Object> objects = memoryMeasurer.getObjects();
+			System.out.println("Estimated bytesize of the model evaluator: " + numberFormat.format(retainedSize.getSize()));
+			System.out.println("\t" + "Shared between segments: " + numberFormat.format(retainedSize.getSharedSize()));
+			System.out.println("\t" + "Held by interner caches (not included): " + numberFormat.format(retainedSize.getInternedSize()));
 
-			long objectCount = objects.size();
+			System.out.println("Number of distinct Java objects in the object graph: " + numberFormat.format(retainedSize.getObjectCount()));
 
-			System.out.println("Number of distinct Java objects in the object graph: " + numberFormat.format(objectCount));
+			Map<Class<?>, Long> typeSizes = retainedSize.getTypeSizes();
+			Map<Class<?>, Long> typeCounts = retainedSize.getTypeCounts();
 
-			long pmmlObjectCount = objects.stream()
-				.filter(PMMLObject.class::isInstance)
-				.count();
+			long pmmlObjectCount = (typeCounts.entrySet()).stream()
+				.filter(entry -> PMMLObject.class.isAssignableFrom(entry.getKey()))
+				.mapToLong(entry -> entry.getValue())
+				.sum();
 
 			System.out.println("\t" + "PMML class model objects: " + numberFormat.format(pmmlObjectCount));
-			System.out.println("\t" + "Other objects: " + numberFormat.format(objectCount - pmmlObjectCount));
-		}
+			System.out.println("\t" + "Other objects: " + numberFormat.format(retainedSize.getObjectCount() - pmmlObjectCount));
 
-		ModelEvaluatorBuilder evaluatorBuilder = new ModelEvaluatorBuilder(pmml, this.modelName)
-			.setModelEvaluatorFactory((ModelEvaluatorFactory)newInstance(this.modelEvaluatorFactoryClazz))
-			.setValueFactoryFactory((ValueFactoryFactory)newInstance(this.valueFactoryFactoryClazz))
-			.setOutputFilter(this.filterOutput ? OutputFilters.KEEP_FINAL_RESULTS : OutputFilters.KEEP_ALL);
+			System.out.println("Largest object types:");
 
-		if(this.safe){
-			evaluatorBuilder = evaluatorBuilder
-				.setDerivedFieldGuard(new FieldNameSet(8))
-				.setFunctionGuard(new FunctionNameStack(4));
-		}
+			(typeSizes.entrySet()).stream()
+				.sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
+				.limit(10)
+				.forEach(entry -> System.out.println("\t" + (entry.getKey()).getName() + ": " + numberFormat.format(entry.getValue()) + " (" + numberFormat.format(typeCounts.get(entry.getKey())) + " objects)"));
 
-		Evaluator evaluator = evaluatorBuilder.build();
+			Map<String, Long> segmentSizes = retainedSize.getSegmentSizes();
+			if(!segmentSizes.isEmpty()){
+				LongSummaryStatistics segmentStatistics = (segmentSizes.values()).stream()
+					.mapToLong(Long::longValue)
+					.summaryStatistics();
+
+				System.out.println("Number of segments: " + numberFormat.format(segmentStatistics.getCount()));
+				System.out.println("\t" + "Segment bytesize (min/avg/max): " + numberFormat.format(segmentStatistics.getMin()) + "/" + numberFormat.format((long)segmentStatistics.getAverage()) + "/" + numberFormat.format(segmentStatistics.getMax()));
+			}
+		}
 
 		return evaluator;
 	}
 
-	private Table loadInput(Evaluator evaluator) throws Exception {
-		Function<String, String> cellParser = createCellParser(!this.missingValues.isEmpty() ? new HashSet<>(this.missingValues) : null);
+	private Table loadInput(Evaluator evaluator, boolean columnar) throws Exception {
+		Table table;
+
+		if(columnar){
+			table = readColumnarTable(this.input);
+		} else
+
+		if(this.parseParallelism > 1){
+			ExecutorService executorService = Executors.newFixedThreadPool(this.parseParallelism);
+
+			try {
+				table = readTable(this.input, this.separator, executorService, 4 * this.parseParallelism);
+			} finally {
+				executorService.shutdown();
+			}
+		} else
+
+		{
+			table = readTable(this.input, this.separator);
+		}
 
-		Table table = readTable(this.input, this.separator);
-		table.apply(cellParser);
+		return prepareInput(evaluator, table);
+	}
+
+	private Table prepareInput(Evaluator evaluator, Table table){
+		Function<String, String> cellParser = createCellParser(!this.missingValues.isEmpty() ? new HashSet<>(this.missingValues) : null);
 
 		List<String> inputColumns = table.getColumns();
 
+		for(String inputColumn : inputColumns){
+			List<?> values = table.getValues(inputColumn);
+
+			// Primitive columns hold typed values, and keep track of missing values separately
+			if(values instanceof PrimitiveColumn){
+				continue;
+			}
+
+			table.apply(inputColumn, cellParser);
+		}
+
 		List<InputField> inputFields = evaluator.getInputFields();
 		List<InputField> groupFields = Collections.emptyList();
 
@@ -466,14 +806,89 @@ public class EvaluationExample extends Example {
 		return table;
 	}
 
-	private Table evaluate(Evaluator evaluator, ForkJoinPool forkJoinPool, Table table){
+	private Table evaluateTasks(Evaluator evaluator, ExecutorService executorService, Table table) throws Exception {
+		Function<Table.Row, Object> function = createFunction(evaluator);
+
+		int numberOfRows = table.getNumberOfRows();
+
+		List<Future<List<Object>>> futures = new ArrayList<>();
+
+		for(int origin = 0; origin < numberOfRows; origin += this.taskSize){
+			int fence = Math.min(origin + this.taskSize, numberOfRows);
+
+			Table.Row row = table.createReaderRow(origin, fence);
+
+			Callable<List<Object>> task = () -> {
+				List<Object> results = new ArrayList<>(row.estimateAdvances());
+
+				while(row.canAdvance()){
+					results.add(function.apply(row));
+
+					row.advance();
+				}
+
+				return results;
+			};
+
+			futures.add(executorService.submit(task));
+		}
+
+		List<Object> results = new ArrayList<>(numberOfRows);
+
+		try {
+			for(Future<List<Object>> future : futures){
+				results.addAll(get(future));
+			}
+		} finally {
+
+			for(Future<List<Object>> future : futures){
+				future.cancel(true);
+			}
+		}
+
+		return results.stream()
+			.collect(new TableCollector());
+	}
+
+	private Function<Table.Row, Object> createFunction(Evaluator evaluator){
+		// Each worker thread keeps reusing its own evaluation context
+		ThreadLocal<ModelEvaluationContext> contextProvider = new ThreadLocal<>(){
+
+			@Override
+			protected ModelEvaluationContext initialValue(){
+
+				if(evaluator instanceof ModelEvaluator){
+					ModelEvaluator<?> modelEvaluator = (ModelEvaluator<?>)evaluator;
+
+					return modelEvaluator.createEvaluationContext();
+				}
+
+				return null;
+			}
+		};
+
+		LatencyHistogram latencyHistogram = (this.reportLatency ? this.latencyHistogram : null);
+
 		Function<Table.Row, Object> function = new Function<>(){
 
 			@Override
 			public Object apply(Table.Row arguments){
+				long startTime = (latencyHistogram != null ? System.nanoTime() : 0L);
 
 				try {
-					Map<String, ?> results = evaluator.evaluate(arguments);
+					ModelEvaluationContext context = contextProvider.get();
+
+					Map<String, ?> results;
+
+					if(context != null){
+						ModelEvaluator<?> modelEvaluator = (ModelEvaluator<?>)evaluator;
+
+						results = modelEvaluator.evaluate(arguments, context);
+					} else
+
+					{
+						results = evaluator.evaluate(arguments);
+					}
 
 					return results;
 				} catch(Exception e){
@@ -483,14 +898,29 @@ public class EvaluationExample extends Example {
 					}
 
 					return e;
+				} finally {
+
+					if(latencyHistogram != null){
+						latencyHistogram.record(System.nanoTime() - startTime);
+					}
 				}
 			}
 		};
 
+		return function;
+	}
+
+	private Table evaluate(Evaluator evaluator, ForkJoinPool forkJoinPool, Table table){
+		Function<Table.Row, Object> function = createFunction(evaluator);
+
 		// Parallel evaluation
 		if(forkJoinPool != null){
+			TableSpliterator spliterator = table.spliterator()
+				.setMinChunkSize(this.minChunkSize)
+				.setCostTracker(this.costTracker);
+
 			ForkJoinTask<Table> forkJoinTask = ForkJoinTask.adapt(() -> {
-				return table.parallelStream()
+				return StreamSupport.stream(spliterator, true)
 					.map(function)
 					.collect(new TableCollector());
 			});
@@ -506,19 +936,193 @@ public class EvaluationExample extends Example {
 		}
 	}
 
-	private void saveOutput(Evaluator evaluator, Table table) throws Exception {
-		Function<Object, String> cellFormatter = createCellFormatter(!this.missingValues.isEmpty() ? this.missingValues.get(0) : null);
+	private void saveOutput(Evaluator evaluator, Table table, boolean columnar) throws Exception {
+		table = formatOutput(table, !columnar);
+
+		if(columnar){
+			writeColumnarTable(table, this.output);
+		} else
+
+		{
+			writeTable(table, this.output, this.separator);
+		}
+	}
+
+	private Table formatOutput(Table table, boolean formatCells){
 
 		if(table.hasExceptions()){
 
 			if(this.errorColumn != null){
-				table.setValues(this.errorColumn, table.getExceptions());
+				setErrorValues(table);
+			}
+		} // End if
+
+		if(formatCells){
+			Function<Object, String> cellFormatter = createCellFormatter(!this.missingValues.isEmpty() ? this.missingValues.get(0) : null);
+
+			List<String> columns = table.getColumns();
+
+			for(String column : columns){
+				List<?> values = table.getValues(column);
+
+				// Primitive columns cannot hold formatted values
+				if(values instanceof PrimitiveColumn){
+					table.setValues(column, new ArrayList<>(values));
+				}
+			}
+
+			table.apply(cellFormatter);
+		}
+
+		return table;
+	}
+
+	private List<String> getErrorColumns(){
+
+		if(this.compactErrors){
+			return Arrays.asList(this.errorColumn, this.errorColumn + "_field", this.errorColumn + "_message");
+		}
+
+		return Collections.singletonList(this.errorColumn);
+	}
+
+	/**
+	 * <p>
+	 * Moves table exceptions into error column(s).
+	 * </p>
+	 *
+	 * <p>
+	 * In compact mode, every exception is reduced to an error code (the simple name of its class),
+	 * the name of the offending field (if known) and the message.
+	 * Otherwise, every exception is reduced to its string representation, so that all output formats contain the same error values.
+	 * </p>
+	 */
+	private void setErrorValues(Table table){
+		List<Exception> exceptions = table.getExceptions();
+
+		if(this.compactErrors){
+			List<String> errorColumns = getErrorColumns();
+
+			List<String> codes = new ArrayList<>(exceptions.size());
+			List<String> fields = new ArrayList<>(exceptions.size());
+			List<String> messages = new ArrayList<>(exceptions.size());
+
+			for(Exception exception : exceptions){
+
+				if(exception == null){
+					codes.add(null);
+					fields.add(null);
+					messages.add(null);
+
+					continue;
+				}
+
+				codes.add((exception.getClass()).getSimpleName());
+				fields.add(getErrorField(exception));
+				messages.add(exception.getMessage());
+			}
+
+			table.setValues(errorColumns.get(0), codes);
+			table.setValues(errorColumns.get(1), fields);
+			table.setValues(errorColumns.get(2), messages);
+		} else
+
+		{
+			List<String> errors = new ArrayList<>(exceptions.size());
+
+			for(Exception exception : exceptions){
+				errors.add(exception != null ? exception.toString() : null);
 			}
+
+			table.setValues(this.errorColumn, errors);
 		}
+	}
+
+	static
+	private String getErrorField(Exception exception){
+
+		if(exception instanceof PMMLException){
+			PMMLException pmmlException = (PMMLException)exception;
 
-		table.apply(cellFormatter);
+			PMMLObject context = pmmlException.getContext();
 
-		writeTable(table, this.output, this.separator);
+			if(context instanceof HasFieldReference){
+				HasFieldReference<?> hasFieldReference = (HasFieldReference<?>)context;
+
+				return hasFieldReference.getField();
+			} else
+
+			if(context instanceof Field){
+				Field<?> field = (Field<?>)context;
+
+				return field.getName();
+			}
+		}
+
+		return null;
+	}
+
+	static
+	private Table copyColumns(Table inputTable, Table outputTable){
+
+		if(inputTable.getNumberOfRows() == outputTable.getNumberOfRows()){
+			Map<String, List<?>> outputColumnValues = outputTable.getValues();
+
+			Collection<? extends Map.Entry<String, List<?>>> entries = outputColumnValues.entrySet();
+			for(Map.Entry<String, List<?>> entry : entries){
+				inputTable.setValues(entry.getKey(), entry.getValue());
+			}
+
+			if(outputTable.hasExceptions()){
+				List<Exception> exceptions = outputTable.getExceptions();
+
+				for(int i = 0; i < exceptions.size(); i++){
+					inputTable.setException(i, exceptions.get(i));
+				}
+			}
+
+			return inputTable;
+		}
+
+		return outputTable;
+	}
+
+	static
+	private <E> E take(Deque<Future<E>> futures) throws Exception {
+		Future<E> future = futures.removeFirst();
+
+		return get(future);
+	}
+
+	static
+	private <E> E get(Future<E> future) throws Exception {
+
+		try {
+			return future.get();
+		} catch(ExecutionException ee){
+			Throwable cause = ee.getCause();
+
+			if(cause instanceof Exception){
+				throw (Exception)cause;
+			}
+
+			throw ee;
+		}
+	}
+
+	static
+	private ExecutorService newVirtualThreadPerTaskExecutor(){
+
+		// The project is compiled against the Java 11 API (release 11), which does not have this method
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+			return (ExecutorService)method.invoke(null);
+		} catch(NoSuchMethodException nsme){
+			throw new IllegalArgumentException("Virtual threads require Java 21 or newer");
+		} catch(ReflectiveOperationException roe){
+			throw new RuntimeException(roe);
+		}
 	}
 
 	static
@@ -28,6 +28,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -38,7 +39,10 @@ import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.ParameterException;
 import org.dmg.pmml.PMML;
+import org.jpmml.evaluator.ColumnarTableReader;
+import org.jpmml.evaluator.ColumnarTableWriter;
 import org.jpmml.evaluator.EvaluatorUtil;
+import org.jpmml.evaluator.NumberFormatUtil;
 import org.jpmml.evaluator.Table;
 import org.jpmml.evaluator.TableReader;
 import org.jpmml.evaluator.TableWriter;
@@ -137,6 +141,13 @@ public class Example {
 		}
 	}
 
+	static
+	public Table readTable(File file, char separator, ExecutorService executorService, int numberOfChunks) throws IOException {
+		TableReader tableReader = new TableReader(separator);
+
+		return tableReader.read(file, executorService, numberOfChunks);
+	}
+
 	static
 	public void writeTable(Table table, File file, char separator) throws IOException {
 		TableWriter tableWriter = new TableWriter(separator);
@@ -146,6 +157,20 @@ public class Example {
 		}
 	}
 
+	static
+	public Table readColumnarTable(File file) throws IOException {
+		ColumnarTableReader tableReader = new ColumnarTableReader();
+
+		return tableReader.read(file);
+	}
+
+	static
+	public void writeColumnarTable(Table table, File file) throws IOException {
+		ColumnarTableWriter tableWriter = new ColumnarTableWriter();
+
+		tableWriter.write(table, file);
+	}
+
 	static
 	public Object newInstance(String name) throws ReflectiveOperationException {
 		Class<?> clazz = Class.forName(name);
@@ -198,7 +223,7 @@ public class Example {
 					return missingValue;
 				}
 
-				return object.toString();
+				return NumberFormatUtil.format(object);
 			}
  		};
 
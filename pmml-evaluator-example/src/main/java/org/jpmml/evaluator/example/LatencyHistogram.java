@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.example;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A fixed-memory, log-linear histogram of latencies in the style of HdrHistogram.
+ * </p>
+ *
+ * <p>
+ * Values are bucketed by their power of two, and every power of two is split into 128 linear sub-buckets.
+ * The relative error of any reported percentile is therefore less than 1%.
+ * Recording is lock-free, and can be done concurrently from any number of threads.
+ * </p>
+ */
+public class LatencyHistogram {
+
+	private AtomicLongArray counts = new AtomicLongArray((Long.SIZE - LatencyHistogram.SUB_BUCKET_BITS + 1) << LatencyHistogram.SUB_BUCKET_BITS);
+
+	private AtomicLong totalCount = new AtomicLong();
+
+	private AtomicLong totalValue = new AtomicLong();
+
+	private AtomicLong maxValue = new AtomicLong();
+
+
+	public LatencyHistogram(){
+	}
+
+	/**
+	 * @param value The latency in nanoseconds.
+	 */
+	public void record(long value){
+
+		if(value < 0){
+			value = 0;
+		}
+
+		this.counts.incrementAndGet(index(value));
+
+		this.totalCount.incrementAndGet();
+		this.totalValue.addAndGet(value);
+
+		for(long maxValue = this.maxValue.get(); value > maxValue; maxValue = this.maxValue.get()){
+
+			if(this.maxValue.compareAndSet(maxValue, value)){
+				break;
+			}
+		}
+	}
+
+	public long getTotalCount(){
+		return this.totalCount.get();
+	}
+
+	public double getMean(){
+		long totalCount = getTotalCount();
+
+		if(totalCount == 0){
+			return 0d;
+		}
+
+		return (double)this.totalValue.get() / (double)totalCount;
+	}
+
+	public long getMax(){
+		return this.maxValue.get();
+	}
+
+	/**
+	 * @param percentile The percentile, between <code>0</code> and <code>100</code>.
+	 *
+	 * @return The highest value that is equivalent to the value at the given percentile.
+	 */
+	public long getValueAtPercentile(double percentile){
+
+		if(percentile < 0d || percentile > 100d){
+			throw new IllegalArgumentException();
+		}
+
+		long totalCount = getTotalCount();
+		if(totalCount == 0){
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long)Math.ceil((percentile / 100d) * totalCount));
+
+		long count = 0L;
+
+		for(int i = 0, max = this.counts.length(); i < max; i++){
+			count += this.counts.get(i);
+
+			if(count >= rank){
+				return Math.min(highestEquivalentValue(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	public void reset(){
+
+		for(int i = 0, max = this.counts.length(); i < max; i++){
+			this.counts.set(i, 0L);
+		}
+
+		this.totalCount.set(0L);
+		this.totalValue.set(0L);
+		this.maxValue.set(0L);
+	}
+
+	public void report(String name, PrintStream ps){
+		ps.println("-- Latencies " + name + " --");
+		ps.println(String.format(Locale.US, "%16s = %d", "count", getTotalCount()));
+		ps.println(String.format(Locale.US, "%16s = %.3f microseconds", "mean", toMicros(getMean())));
+
+		double[] percentiles = {50d, 90d, 99d, 99.9d, 100d};
+		for(double percentile : percentiles){
+			ps.println(String.format(Locale.US, "%16s <= %.3f microseconds", ("p" + formatPercentile(percentile)), toMicros(getValueAtPercentile(percentile))));
+		}
+
+		ps.println();
+	}
+
+	static
+	int index(long value){
+
+		if(value < LatencyHistogram.SUB_BUCKET_COUNT){
+			return (int)value;
+		}
+
+		int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+
+		int shift = (exponent - LatencyHistogram.SUB_BUCKET_BITS);
+
+		long mantissa = (value >>> shift);
+
+		return ((shift + 1) << LatencyHistogram.SUB_BUCKET_BITS) + (int)(mantissa - LatencyHistogram.SUB_BUCKET_COUNT);
+	}
+
+	static
+	long highestEquivalentValue(int index){
+
+		if(index < LatencyHistogram.SUB_BUCKET_COUNT){
+			return index;
+		}
+
+		int shift = (index >>> LatencyHistogram.SUB_BUCKET_BITS) - 1;
+
+		long mantissa = (index & (LatencyHistogram.SUB_BUCKET_COUNT - 1)) + LatencyHistogram.SUB_BUCKET_COUNT;
+
+		return ((mantissa + 1) << shift) - 1;
+	}
+
+	static
+	private double toMicros(double nanos){
+		return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+	}
+
+	static
+	private String formatPercentile(double percentile){
+
+		if(percentile == Math.rint(percentile)){
+			return String.valueOf((int)percentile);
+		}
+
+		return String.valueOf(percentile).replace(".", "");
+	}
+
+	private static final int SUB_BUCKET_BITS = 7;
+
+	private static final int SUB_BUCKET_COUNT = (1 << LatencyHistogram.SUB_BUCKET_BITS);
+}
\ No newline at end of file
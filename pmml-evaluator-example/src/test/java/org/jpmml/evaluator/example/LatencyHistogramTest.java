@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void index(){
+		long[] values = {0L, 1L, 127L, 128L, 255L, 256L, 1000L, 123456789L, Long.MAX_VALUE};
+
+		for(long value : values){
+			int index = LatencyHistogram.index(value);
+
+			long highestValue = LatencyHistogram.highestEquivalentValue(index);
+
+			assertTrue(highestValue >= value);
+			assertTrue((highestValue - value) <= (value / 128L));
+
+			assertEquals(index, LatencyHistogram.index(highestValue));
+		}
+	}
+
+	@Test
+	public void getValueAtPercentile(){
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for(long value = 1L; value <= 1000L; value++){
+			histogram.record(value * 1000L);
+		}
+
+		assertEquals(1000L, histogram.getTotalCount());
+		assertEquals(500500d, histogram.getMean(), 1e-6);
+		assertEquals(1000000L, histogram.getMax());
+
+		assertEquals(500000d, histogram.getValueAtPercentile(50d), 500000d / 100d);
+		assertEquals(990000d, histogram.getValueAtPercentile(99d), 990000d / 100d);
+		assertEquals(1000000L, histogram.getValueAtPercentile(100d));
+
+		histogram.reset();
+
+		assertEquals(0L, histogram.getTotalCount());
+		assertEquals(0L, histogram.getValueAtPercentile(50d));
+	}
+}
\ No newline at end of file
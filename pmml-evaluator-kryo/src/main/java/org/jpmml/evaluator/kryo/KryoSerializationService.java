@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferInputStream;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.ByteBufferOutputStream;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.KryoBufferOverflowException;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.Pool;
+import org.dmg.pmml.PMMLObject;
+import org.jpmml.model.Serializer;
+
+/**
+ * <p>
+ * A thread-safe Kryo serialization service.
+ * </p>
+ *
+ * <p>
+ * Kryo instances are not thread-safe, and are expensive to create.
+ * This service keeps them in a pool, and hands out one instance per serialization or deserialization operation.
+ * All instances share the same class registration scheme (see {@link KryoUtil#preregister(Kryo)}),
+ * so that known classes are encoded as small integer identifiers rather than as fully qualified class names.
+ * </p>
+ *
+ * <p>
+ * Every serialized object is stored as a self-describing record, which consists of a fixed-size header and a payload.
+ * The header carries a format version, the compression method of the payload,
+ * and a fingerprint of the class registration scheme.
+ * Deserialization fails fast if the record has been produced using an incompatible format version or class registration scheme.
+ * </p>
+ *
+ * <p>
+ * Records can be written into and read from any kind of {@link ByteBuffer},
+ * including direct buffers and memory-mapped file buffers.
+ * </p>
+ */
+public class KryoSerializationService implements Serializer {
+
+	private Compression compression = null;
+
+	private int fingerprint = 0;
+
+	private Pool<Kryo> kryoPool = null;
+
+
+	public KryoSerializationService(){
+		this(Compression.NONE);
+	}
+
+	public KryoSerializationService(Compression compression){
+		this(compression, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	public KryoSerializationService(Compression compression, int maximumPoolSize){
+		setCompression(compression);
+
+		this.fingerprint = computeFingerprint(KryoUtil.getPreregisteredClasses());
+
+		this.kryoPool = new Pool<Kryo>(true, true, maximumPoolSize){
+
+			@Override
+			protected Kryo create(){
+				return createKryo();
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Creates and configures a new Kryo instance.
+	 * </p>
+	 *
+	 * <p>
+	 * Subclasses that register additional classes should do so using explicit class identifiers.
+	 * </p>
+	 */
+	protected Kryo createKryo(){
+		Kryo kryo = KryoUtil.createKryo();
+
+		KryoUtil.preregister(kryo);
+
+		return kryo;
+	}
+
+	/**
+	 * <p>
+	 * Serializes an object into a new heap buffer.
+	 * </p>
+	 *
+	 * @return A buffer that is positioned at the beginning of the record, and limited at the end of the record.
+	 */
+	public ByteBuffer serialize(Object object) throws IOException {
+		Compression compression = getCompression();
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream(BUFFER_SIZE);
+		os.write(new byte[HEADER_SIZE]);
+
+		Kryo kryo = this.kryoPool.obtain();
+
+		try {
+			writePayload(kryo, object, compression, os);
+		} finally {
+			this.kryoPool.free(kryo);
+		}
+
+		ByteBuffer result = ByteBuffer.wrap(os.toByteArray());
+
+		writeHeader(result, compression, result.limit() - HEADER_SIZE);
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Serializes an object into a buffer, starting from its current position.
+	 * </p>
+	 *
+	 * <p>
+	 * When the method returns, the position of the buffer has been advanced to the end of the record.
+	 * </p>
+	 *
+	 * @throws BufferOverflowException If the buffer does not have enough space remaining.
+	 */
+	public void serialize(Object object, ByteBuffer buffer) throws IOException {
+		Compression compression = getCompression();
+
+		int position = buffer.position();
+
+		if(buffer.remaining() < HEADER_SIZE){
+			throw new BufferOverflowException();
+		}
+
+		ByteBuffer payloadBuffer = slice(buffer, position + HEADER_SIZE, buffer.limit());
+
+		Kryo kryo = this.kryoPool.obtain();
+
+		try {
+
+			switch(compression){
+				case NONE:
+					{
+						ByteBufferOutput output = new ByteBufferOutput(payloadBuffer);
+
+						try {
+							kryo.writeClassAndObject(output, object);
+
+							output.flush();
+						} catch(KryoBufferOverflowException kboe){
+							throw (BufferOverflowException)new BufferOverflowException().initCause(kboe);
+						}
+
+						((Buffer)payloadBuffer).position(output.position());
+					}
+					break;
+				default:
+					{
+						OutputStream os = new ByteBufferOutputStream(payloadBuffer);
+
+						writePayload(kryo, object, compression, os);
+					}
+					break;
+			}
+		} finally {
+			this.kryoPool.free(kryo);
+		}
+
+		int length = payloadBuffer.position();
+
+		writeHeader(slice(buffer, position, position + HEADER_SIZE), compression, length);
+
+		((Buffer)buffer).position(position + HEADER_SIZE + length);
+	}
+
+	/**
+	 * <p>
+	 * Deserializes an object from a buffer, starting from its current position.
+	 * </p>
+	 *
+	 * <p>
+	 * When the method returns, the position of the buffer has been advanced to the end of the record.
+	 * </p>
+	 *
+	 * @throws KryoException If the record is malformed, or has been produced by an incompatible serialization service.
+	 */
+	public Object deserialize(ByteBuffer buffer) throws IOException {
+		int position = buffer.position();
+
+		if(buffer.remaining() < HEADER_SIZE){
+			throw new BufferUnderflowException();
+		}
+
+		ByteBuffer headerBuffer = slice(buffer, position, position + HEADER_SIZE);
+
+		Compression compression = readHeader(headerBuffer);
+		int length = headerBuffer.getInt();
+
+		if(length < 0 || length > (buffer.remaining() - HEADER_SIZE)){
+			throw new BufferUnderflowException();
+		}
+
+		ByteBuffer payloadBuffer = slice(buffer, position + HEADER_SIZE, position + HEADER_SIZE + length);
+
+		Object result;
+
+		Kryo kryo = this.kryoPool.obtain();
+
+		try {
+
+			switch(compression){
+				case NONE:
+					{
+						Input input = new ByteBufferInput(payloadBuffer);
+
+						result = kryo.readClassAndObject(input);
+					}
+					break;
+				default:
+					{
+						Inflater inflater = new Inflater();
+
+						try {
+							InputStream is = new InflaterInputStream(new ByteBufferInputStream(payloadBuffer), inflater, BUFFER_SIZE);
+
+							try {
+								Input input = new Input(is, BUFFER_SIZE);
+
+								result = kryo.readClassAndObject(input);
+							} finally {
+								is.close();
+							}
+						} finally {
+							// A user-supplied inflater is not ended by InflaterInputStream#close()
+							inflater.end();
+						}
+					}
+					break;
+			}
+		} finally {
+			this.kryoPool.free(kryo);
+		}
+
+		((Buffer)buffer).position(position + HEADER_SIZE + length);
+
+		return result;
+	}
+
+	public <E> E deserialize(ByteBuffer buffer, Class<? extends E> clazz) throws IOException {
+		Object object = deserialize(buffer);
+
+		return clazz.cast(object);
+	}
+
+	@Override
+	public void serialize(PMMLObject object, OutputStream os) throws IOException {
+		ByteBuffer buffer = serialize(object);
+
+		os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+	}
+
+	@Override
+	public PMMLObject deserialize(InputStream is) throws IOException {
+		DataInputStream dis = new DataInputStream(is);
+
+		byte[] header = new byte[HEADER_SIZE];
+		dis.readFully(header);
+
+		ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+
+		readHeader(headerBuffer);
+		int length = headerBuffer.getInt();
+
+		if(length < 0){
+			throw new KryoException("Invalid payload length " + length);
+		}
+
+		byte[] record = new byte[HEADER_SIZE + length];
+		System.arraycopy(header, 0, record, 0, HEADER_SIZE);
+		dis.readFully(record, HEADER_SIZE, length);
+
+		return deserialize(ByteBuffer.wrap(record), PMMLObject.class);
+	}
+
+	public Compression getCompression(){
+		return this.compression;
+	}
+
+	private void setCompression(Compression compression){
+		this.compression = Objects.requireNonNull(compression);
+	}
+
+	/**
+	 * <p>
+	 * Gets the fingerprint of the class registration scheme.
+	 * </p>
+	 */
+	public int getFingerprint(){
+		return this.fingerprint;
+	}
+
+	private void writeHeader(ByteBuffer buffer, Compression compression, int length){
+		buffer.putInt(0, MAGIC);
+		buffer.put(4, VERSION);
+		buffer.put(5, compression.getCode());
+		buffer.putShort(6, (short)0);
+		buffer.putInt(8, getFingerprint());
+		buffer.putInt(12, length);
+	}
+
+	/**
+	 * @return The compression method of the payload.
+	 * Leaves the buffer positioned at the payload length field.
+	 */
+	private Compression readHeader(ByteBuffer buffer){
+		int magic = buffer.getInt();
+		if(magic != MAGIC){
+			throw new KryoException("Not a serialized object record");
+		}
+
+		byte version = buffer.get();
+		if(version != VERSION){
+			throw new KryoException("Expected format version " + VERSION + ", got " + version);
+		}
+
+		Compression compression = Compression.valueOf(buffer.get());
+
+		buffer.getShort();
+
+		int fingerprint = buffer.getInt();
+		if(fingerprint != getFingerprint()){
+			throw new KryoException("Expected class registration fingerprint " + Integer.toHexString(getFingerprint()) + ", got " + Integer.toHexString(fingerprint));
+		}
+
+		return compression;
+	}
+
+	static
+	private void writePayload(Kryo kryo, Object object, Compression compression, OutputStream os) throws IOException {
+
+		switch(compression){
+			case NONE:
+				{
+					Output output = new Output(os, BUFFER_SIZE);
+
+					kryo.writeClassAndObject(output, object);
+
+					output.flush();
+				}
+				break;
+			default:
+				{
+					Deflater deflater = new Deflater(compression.getLevel());
+
+					try {
+						DeflaterOutputStream dos = new DeflaterOutputStream(os, deflater, BUFFER_SIZE);
+
+						Output output = new Output(dos, BUFFER_SIZE);
+
+						kryo.writeClassAndObject(output, object);
+
+						output.flush();
+
+						dos.finish();
+					} finally {
+						deflater.end();
+					}
+				}
+				break;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a big-endian view of a region of the buffer.
+	 * </p>
+	 */
+	static
+	private ByteBuffer slice(ByteBuffer buffer, int start, int end){
+		ByteBuffer result = buffer.duplicate();
+
+		((Buffer)result).limit(end);
+		((Buffer)result).position(start);
+
+		return result.slice();
+	}
+
+	static
+	private int computeFingerprint(List<Class<?>> clazzes){
+		CRC32 crc = new CRC32();
+
+		crc.update(Integer.toString(KryoUtil.FIRST_PREREGISTERED_ID).getBytes(StandardCharsets.UTF_8));
+
+		for(Class<?> clazz : clazzes){
+			crc.update((clazz.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+
+		return (int)crc.getValue();
+	}
+
+	static
+	public enum Compression {
+		NONE(0, Deflater.NO_COMPRESSION),
+		DEFLATE_FAST(1, Deflater.BEST_SPEED),
+		DEFLATE(2, Deflater.DEFAULT_COMPRESSION),
+		DEFLATE_BEST(3, Deflater.BEST_COMPRESSION),
+		;
+
+		private byte code;
+
+		private int level;
+
+
+		Compression(int code, int level){
+			this.code = (byte)code;
+			this.level = level;
+		}
+
+		public byte getCode(){
+			return this.code;
+		}
+
+		public int getLevel(){
+			return this.level;
+		}
+
+		static
+		public Compression valueOf(byte code){
+			Compression[] values = Compression.values();
+
+			for(Compression value : values){
+
+				if(value.getCode() == code){
+					return value;
+				}
+			}
+
+			throw new KryoException("Unknown compression method " + code);
+		}
+	}
+
+	public static final int HEADER_SIZE = 16;
+
+	private static final int MAGIC = 0x4A504B52;
+	private static final byte VERSION = 1;
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+}
\ No newline at end of file
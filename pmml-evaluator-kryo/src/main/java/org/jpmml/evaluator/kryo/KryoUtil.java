@@ -18,16 +18,71 @@
  */
 package org.jpmml.evaluator.kryo;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.esotericsoftware.kryo.ClassResolver;
 import com.esotericsoftware.kryo.Kryo;
+import com.google.common.collect.ListMultimap;
 import de.javakaffee.kryoserializers.UnmodifiableCollectionsSerializer;
 import de.javakaffee.kryoserializers.guava.ImmutableListSerializer;
 import de.javakaffee.kryoserializers.guava.ImmutableMapSerializer;
 import de.javakaffee.kryoserializers.guava.ImmutableMultimapSerializer;
 import de.javakaffee.kryoserializers.guava.ImmutableSetSerializer;
 import de.javakaffee.kryoserializers.guava.ImmutableTableSerializer;
+import org.dmg.pmml.ComplexScoreDistribution;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.SimpleScoreDistribution;
+import org.dmg.pmml.tree.BranchNode;
+import org.dmg.pmml.tree.ClassifierNode;
+import org.dmg.pmml.tree.CountingBranchNode;
+import org.dmg.pmml.tree.CountingLeafNode;
+import org.dmg.pmml.tree.LeafNode;
+import org.dmg.pmml.tree.SimpleNode;
+import org.jpmml.evaluator.Configuration;
+import org.jpmml.evaluator.DefaultDataField;
+import org.jpmml.evaluator.InputField;
 import org.jpmml.evaluator.ModelEvaluator;
+import org.jpmml.evaluator.ModelEvaluatorFactory;
+import org.jpmml.evaluator.OutputField;
+import org.jpmml.evaluator.ResidualField;
+import org.jpmml.evaluator.RichComplexArray;
+import org.jpmml.evaluator.RichDataField;
+import org.jpmml.evaluator.RichDerivedField;
+import org.jpmml.evaluator.RichOutputField;
+import org.jpmml.evaluator.SyntheticTargetField;
+import org.jpmml.evaluator.TargetField;
+import org.jpmml.evaluator.ValueFactoryFactory;
 import org.jpmml.evaluator.kryo.serializers.ImmutableBiMapSerializer;
 import org.jpmml.evaluator.kryo.serializers.ModelEvaluatorSerializer;
+import org.jpmml.evaluator.kryo.serializers.NodeSerializer;
+import org.jpmml.evaluator.kryo.serializers.RegressionTableSerializer;
+import org.jpmml.evaluator.kryo.serializers.SegmentSerializer;
+import org.jpmml.evaluator.kryo.serializers.SimplePredicateSerializer;
+import org.jpmml.evaluator.naive_bayes.RichBayesInput;
+import org.jpmml.model.cells.InputCell;
+import org.jpmml.model.cells.OutputCell;
+import org.jpmml.model.collections.DoubletonList;
+import org.jpmml.model.collections.SingletonList;
+import org.jpmml.model.collections.TripletonList;
 
 public class KryoUtil {
 
@@ -64,6 +119,175 @@ public class KryoUtil {
 		ImmutableMultimapSerializer.registerSerializers(kryo);
 		ImmutableTableSerializer.registerSerializers(kryo);
 
+		// org.dmg.pmml.*
+		NodeSerializer.registerSerializers(kryo);
+		SimplePredicateSerializer.registerSerializers(kryo);
+		RegressionTableSerializer.registerSerializers(kryo);
+		SegmentSerializer.registerSerializers(kryo);
+
 		kryo.addDefaultSerializer(ModelEvaluator.class, ModelEvaluatorSerializer.class);
 	}
+
+	/**
+	 * <p>
+	 * Registers PMML class model, evaluator and common collection classes with stable class identifiers.
+	 * </p>
+	 *
+	 * <p>
+	 * Class identifiers are assigned in the order of {@link #getPreregisteredClasses()},
+	 * starting from {@link #FIRST_PREREGISTERED_ID}.
+	 * Classes that have already been registered (together with a class identifier) by {@link #register(Kryo)} are left as-is.
+	 * </p>
+	 */
+	static
+	public void preregister(Kryo kryo){
+		ClassResolver classResolver = kryo.getClassResolver();
+
+		List<Class<?>> clazzes = getPreregisteredClasses();
+
+		for(int i = 0; i < clazzes.size(); i++){
+			Class<?> clazz = clazzes.get(i);
+
+			if(classResolver.getRegistration(clazz) != null){
+				continue;
+			}
+
+			kryo.register(clazz, FIRST_PREREGISTERED_ID + i);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gets the list of classes that are subject to preregistration.
+	 * </p>
+	 *
+	 * <p>
+	 * The list is sorted by class name, and is therefore stable between JVM instances
+	 * as long as the versions of JPMML-Model and JPMML-Evaluator libraries stay the same.
+	 * </p>
+	 */
+	static
+	public List<Class<?>> getPreregisteredClasses(){
+		return PreregisteredClassesHolder.CLASSES;
+	}
+
+	static
+	private List<Class<?>> loadPreregisteredClasses() throws ClassNotFoundException, IOException {
+		Set<Class<?>> result = new HashSet<>();
+
+		ModelEvaluatorFactory modelEvaluatorFactory = ModelEvaluatorFactory.newInstance();
+
+		ListMultimap<Class<? extends Model>, Class<? extends ModelEvaluator<?>>> serviceProviderClazzes = modelEvaluatorFactory.getServiceProviderClasses();
+
+		Set<String> packageNames = new TreeSet<>();
+		packageNames.add(PMML.class.getPackage().getName());
+
+		for(Class<? extends Model> modelClazz : serviceProviderClazzes.keySet()){
+			String packageName = modelClazz.getPackage().getName();
+
+			// Exclude custom model types
+			if(packageName.startsWith("org.dmg.pmml")){
+				packageNames.add(packageName);
+			}
+		}
+
+		for(String packageName : packageNames){
+			Class<?> objectFactoryClazz = Class.forName(packageName + ".ObjectFactory");
+
+			Method[] methods = objectFactoryClazz.getMethods();
+			for(Method method : methods){
+				String name = method.getName();
+				Class<?> returnType = method.getReturnType();
+
+				if(name.startsWith("create") && PMMLObject.class.isAssignableFrom(returnType)){
+					result.add(returnType);
+				}
+			}
+		}
+
+		result.addAll(Arrays.asList(
+			ComplexScoreDistribution.class, SimpleScoreDistribution.class,
+			BranchNode.class, ClassifierNode.class, CountingBranchNode.class, CountingLeafNode.class, LeafNode.class, SimpleNode.class,
+			InputCell.class, OutputCell.class
+		));
+
+		result.addAll(serviceProviderClazzes.values());
+
+		result.addAll(Arrays.asList(
+			Configuration.class, ModelEvaluatorFactory.class, ValueFactoryFactory.class,
+			InputField.class, ResidualField.class, TargetField.class, SyntheticTargetField.class, OutputField.class,
+			DefaultDataField.class, RichDataField.class, RichDerivedField.class, RichOutputField.class, RichComplexArray.class, RichBayesInput.class
+		));
+
+		Set<Class<?>> enumClazzes = new HashSet<>();
+
+		for(Class<?> clazz : result){
+
+			if(!PMMLObject.class.isAssignableFrom(clazz)){
+				continue;
+			}
+
+			for(Class<?> superClazz = clazz; superClazz != null; superClazz = superClazz.getSuperclass()){
+				Field[] fields = superClazz.getDeclaredFields();
+
+				for(Field field : fields){
+					Class<?> type = field.getType();
+
+					if(type.isEnum()){
+						enumClazzes.add(type);
+					}
+				}
+			}
+		}
+
+		result.addAll(enumClazzes);
+
+		result.addAll(Arrays.asList(
+			SingletonList.class, DoubletonList.class, TripletonList.class,
+			ArrayList.class, LinkedList.class,
+			HashMap.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class,
+			HashSet.class, LinkedHashSet.class, TreeSet.class,
+			Collections.emptyList().getClass(), Collections.emptyMap().getClass(), Collections.emptySet().getClass()
+		));
+
+		List<Class<?>> clazzes = new ArrayList<>();
+
+		for(Class<?> clazz : result){
+
+			if(clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())){
+				continue;
+			}
+
+			clazzes.add(clazz);
+		}
+
+		Comparator<Class<?>> comparator = new Comparator<Class<?>>(){
+
+			@Override
+			public int compare(Class<?> left, Class<?> right){
+				return (left.getName()).compareTo(right.getName());
+			}
+		};
+
+		Collections.sort(clazzes, comparator);
+
+		return Collections.unmodifiableList(clazzes);
+	}
+
+	static
+	private class PreregisteredClassesHolder {
+
+		private static final List<Class<?>> CLASSES;
+
+		static {
+
+			try {
+				CLASSES = loadPreregisteredClasses();
+			} catch(ClassNotFoundException | IOException e){
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	public static final int FIRST_PREREGISTERED_ID = 256;
 }
\ No newline at end of file
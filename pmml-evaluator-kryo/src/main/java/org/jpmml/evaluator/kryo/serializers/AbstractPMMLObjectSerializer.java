@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo.serializers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.dmg.pmml.PMMLObject;
+
+/**
+ * <p>
+ * An abstract base class for hand-written PMML class model object serializers.
+ * </p>
+ *
+ * <p>
+ * Attributes are written in a fixed order, guarded by a leading presence bitmask.
+ * Numbers are written as tagged primitive values.
+ * Strings and PMML class model objects are written using Kryo's reference resolution,
+ * so that interned objects stay shared after deserialization.
+ * </p>
+ *
+ * <p>
+ * SAX Locator information is not preserved.
+ * </p>
+ */
+abstract
+public class AbstractPMMLObjectSerializer<E extends PMMLObject> extends Serializer<E> {
+
+	public AbstractPMMLObjectSerializer(){
+		super(AbstractPMMLObjectSerializer.ACCEPTS_NULL, AbstractPMMLObjectSerializer.IMMUTABLE);
+	}
+
+	static
+	protected void writeString(Kryo kryo, Output output, String value){
+		kryo.writeObjectOrNull(output, value, String.class);
+	}
+
+	static
+	protected String readString(Kryo kryo, Input input){
+		return kryo.readObjectOrNull(input, String.class);
+	}
+
+	static
+	protected void writeNumber(Kryo kryo, Output output, Number value){
+
+		if(value == null){
+			output.writeByte(AbstractPMMLObjectSerializer.NUMBER_NULL);
+		} else
+
+		if(value instanceof Integer){
+			output.writeByte(AbstractPMMLObjectSerializer.NUMBER_INTEGER);
+			output.writeVarInt(value.intValue(), false);
+		} else
+
+		if(value instanceof Double){
+			output.writeByte(AbstractPMMLObjectSerializer.NUMBER_DOUBLE);
+			output.writeDouble(value.doubleValue());
+		} else
+
+		if(value instanceof Float){
+			output.writeByte(AbstractPMMLObjectSerializer.NUMBER_FLOAT);
+			output.writeFloat(value.floatValue());
+		} else
+
+		{
+			output.writeByte(AbstractPMMLObjectSerializer.NUMBER_OBJECT);
+			kryo.writeClassAndObject(output, value);
+		}
+	}
+
+	static
+	protected Number readNumber(Kryo kryo, Input input){
+		byte tag = input.readByte();
+
+		switch(tag){
+			case AbstractPMMLObjectSerializer.NUMBER_NULL:
+				return null;
+			case AbstractPMMLObjectSerializer.NUMBER_INTEGER:
+				return input.readVarInt(false);
+			case AbstractPMMLObjectSerializer.NUMBER_DOUBLE:
+				return input.readDouble();
+			case AbstractPMMLObjectSerializer.NUMBER_FLOAT:
+				return input.readFloat();
+			case AbstractPMMLObjectSerializer.NUMBER_OBJECT:
+				return (Number)kryo.readClassAndObject(input);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	static
+	protected void writeList(Kryo kryo, Output output, List<?> values){
+		output.writeVarInt(values.size(), true);
+
+		for(Object value : values){
+			kryo.writeClassAndObject(output, value);
+		}
+	}
+
+	static
+	protected <V> List<V> readList(Kryo kryo, Input input){
+		int size = input.readVarInt(true);
+
+		List<V> result = new ArrayList<>(size);
+
+		for(int i = 0; i < size; i++){
+			@SuppressWarnings("unchecked")
+			V value = (V)kryo.readClassAndObject(input);
+
+			result.add(value);
+		}
+
+		return result;
+	}
+
+	private static final boolean ACCEPTS_NULL = false;
+	private static final boolean IMMUTABLE = false;
+
+	private static final byte NUMBER_NULL = 0;
+	private static final byte NUMBER_INTEGER = 1;
+	private static final byte NUMBER_DOUBLE = 2;
+	private static final byte NUMBER_FLOAT = 3;
+	private static final byte NUMBER_OBJECT = 4;
+}
\ No newline at end of file
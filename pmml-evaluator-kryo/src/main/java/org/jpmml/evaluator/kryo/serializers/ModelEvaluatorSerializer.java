@@ -22,6 +22,16 @@ import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.serializers.FieldSerializer;
 import org.jpmml.evaluator.ModelEvaluator;
 
+/**
+ * <p>
+ * A serializer for model evaluators.
+ * </p>
+ *
+ * <p>
+ * Lazily initialized model evaluator state (eg. input and result field lists, entity registries, segment model evaluators)
+ * is held in <code>transient</code> fields, which are skipped here and rebuilt on first use.
+ * </p>
+ */
 public class ModelEvaluatorSerializer extends FieldSerializer<ModelEvaluator<?>> {
 
 	public ModelEvaluatorSerializer(Kryo kryo, Class<? extends ModelEvaluator<?>> clazz){
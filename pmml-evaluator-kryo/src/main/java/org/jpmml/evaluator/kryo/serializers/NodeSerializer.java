@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo.serializers;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.tree.BranchNode;
+import org.dmg.pmml.tree.ClassifierNode;
+import org.dmg.pmml.tree.CountingBranchNode;
+import org.dmg.pmml.tree.CountingLeafNode;
+import org.dmg.pmml.tree.LeafNode;
+import org.dmg.pmml.tree.Node;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * A serializer for the simple (ie. non-{@link org.dmg.pmml.tree.ComplexNode}) node classes.
+ * </p>
+ *
+ * <p>
+ * Only those attributes and elements that are supported by the node class are written.
+ * Predicates and score distributions are typically interned, and are therefore written as shared objects.
+ * </p>
+ */
+public class NodeSerializer extends AbstractPMMLObjectSerializer<Node> {
+
+	@Override
+	public void write(Kryo kryo, Output output, Node node){
+		Object id = node.getId();
+		Object score = node.getScore();
+		Number recordCount = node.getRecordCount();
+		Object defaultChild = node.getDefaultChild();
+
+		boolean hasNodes = node.hasNodes();
+		boolean hasScoreDistributions = node.hasScoreDistributions();
+
+		int flags = 0;
+
+		flags |= (id != null ? NodeSerializer.FLAG_ID : 0);
+		flags |= (score != null ? NodeSerializer.FLAG_SCORE : 0);
+		flags |= (recordCount != null ? NodeSerializer.FLAG_RECORD_COUNT : 0);
+		flags |= (defaultChild != null ? NodeSerializer.FLAG_DEFAULT_CHILD : 0);
+		flags |= (hasNodes ? NodeSerializer.FLAG_NODES : 0);
+		flags |= (hasScoreDistributions ? NodeSerializer.FLAG_SCORE_DISTRIBUTIONS : 0);
+
+		output.writeByte(flags);
+
+		kryo.writeClassAndObject(output, node.getPredicate());
+
+		if(id != null){
+			kryo.writeClassAndObject(output, id);
+		} // End if
+
+		if(score != null){
+			kryo.writeClassAndObject(output, score);
+		} // End if
+
+		if(recordCount != null){
+			writeNumber(kryo, output, recordCount);
+		} // End if
+
+		if(defaultChild != null){
+			kryo.writeClassAndObject(output, defaultChild);
+		} // End if
+
+		if(hasNodes){
+			kryo.writeClassAndObject(output, node.getNodes());
+		} // End if
+
+		if(hasScoreDistributions){
+			kryo.writeClassAndObject(output, node.getScoreDistributions());
+		}
+	}
+
+	@Override
+	public Node read(Kryo kryo, Input input, Class<? extends Node> clazz){
+		Node node = kryo.newInstance(clazz);
+
+		kryo.reference(node);
+
+		int flags = input.readByte();
+
+		node.setPredicate((Predicate)kryo.readClassAndObject(input));
+
+		if((flags & NodeSerializer.FLAG_ID) != 0){
+			node.setId(kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & NodeSerializer.FLAG_SCORE) != 0){
+			node.setScore(kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & NodeSerializer.FLAG_RECORD_COUNT) != 0){
+			node.setRecordCount(readNumber(kryo, input));
+		} // End if
+
+		if((flags & NodeSerializer.FLAG_DEFAULT_CHILD) != 0){
+			node.setDefaultChild(kryo.readClassAndObject(input));
+		} // End if
+
+		// Set list fields directly, in order to preserve the (possibly fixed-size) list class
+		if((flags & NodeSerializer.FLAG_NODES) != 0){
+			List<?> nodes = (List<?>)kryo.readClassAndObject(input);
+
+			Field field = (node instanceof ClassifierNode ? NodeSerializer.CLASSIFIER_NODES : NodeSerializer.BRANCH_NODES);
+
+			ReflectionUtil.setFieldValue(field, node, nodes);
+		} // End if
+
+		if((flags & NodeSerializer.FLAG_SCORE_DISTRIBUTIONS) != 0){
+			List<?> scoreDistributions = (List<?>)kryo.readClassAndObject(input);
+
+			ReflectionUtil.setFieldValue(NodeSerializer.CLASSIFIER_SCORE_DISTRIBUTIONS, node, scoreDistributions);
+		}
+
+		return node;
+	}
+
+	static
+	public void registerSerializers(Kryo kryo){
+		NodeSerializer serializer = new NodeSerializer();
+
+		kryo.register(LeafNode.class, serializer);
+		kryo.register(CountingLeafNode.class, serializer);
+		kryo.register(BranchNode.class, serializer);
+		kryo.register(CountingBranchNode.class, serializer);
+		kryo.register(ClassifierNode.class, serializer);
+	}
+
+	private static final Field BRANCH_NODES = ReflectionUtil.getField(BranchNode.class, "nodes");
+	private static final Field CLASSIFIER_NODES = ReflectionUtil.getField(ClassifierNode.class, "nodes");
+	private static final Field CLASSIFIER_SCORE_DISTRIBUTIONS = ReflectionUtil.getField(ClassifierNode.class, "scoreDistributions");
+
+	private static final int FLAG_ID = 1;
+	private static final int FLAG_SCORE = 2;
+	private static final int FLAG_RECORD_COUNT = 4;
+	private static final int FLAG_DEFAULT_CHILD = 8;
+	private static final int FLAG_NODES = 16;
+	private static final int FLAG_SCORE_DISTRIBUTIONS = 32;
+}
\ No newline at end of file
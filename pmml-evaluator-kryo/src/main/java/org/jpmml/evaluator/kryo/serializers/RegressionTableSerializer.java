@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo.serializers;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.dmg.pmml.Extension;
+import org.dmg.pmml.regression.CategoricalPredictor;
+import org.dmg.pmml.regression.NumericPredictor;
+import org.dmg.pmml.regression.RegressionTable;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * A serializer for regression tables.
+ * </p>
+ *
+ * <p>
+ * Plain numeric and categorical predictors (ie. no extensions, double coefficients) are written column-wise,
+ * with exponents and coefficients as primitive arrays.
+ * All other predictors fall back to element-wise serialization.
+ * </p>
+ */
+public class RegressionTableSerializer extends AbstractPMMLObjectSerializer<RegressionTable> {
+
+	@Override
+	public void write(Kryo kryo, Output output, RegressionTable regressionTable){
+		Object targetCategory = regressionTable.getTargetCategory();
+
+		boolean hasExtensions = regressionTable.hasExtensions();
+		boolean hasNumericPredictors = regressionTable.hasNumericPredictors();
+		boolean hasCategoricalPredictors = regressionTable.hasCategoricalPredictors();
+		boolean hasPredictorTerms = regressionTable.hasPredictorTerms();
+
+		int flags = 0;
+
+		flags |= (targetCategory != null ? RegressionTableSerializer.FLAG_TARGET_CATEGORY : 0);
+		flags |= (hasExtensions ? RegressionTableSerializer.FLAG_EXTENSIONS : 0);
+		flags |= (hasNumericPredictors ? RegressionTableSerializer.FLAG_NUMERIC_PREDICTORS : 0);
+		flags |= (hasCategoricalPredictors ? RegressionTableSerializer.FLAG_CATEGORICAL_PREDICTORS : 0);
+		flags |= (hasPredictorTerms ? RegressionTableSerializer.FLAG_PREDICTOR_TERMS : 0);
+
+		output.writeByte(flags);
+
+		writeNumber(kryo, output, regressionTable.getIntercept());
+		writeString(kryo, output, regressionTable.getTargetField());
+
+		if(targetCategory != null){
+			kryo.writeClassAndObject(output, targetCategory);
+		} // End if
+
+		if(hasExtensions){
+			writeList(kryo, output, regressionTable.getExtensions());
+		} // End if
+
+		if(hasNumericPredictors){
+			writeNumericPredictors(kryo, output, regressionTable.getNumericPredictors());
+		} // End if
+
+		if(hasCategoricalPredictors){
+			writeCategoricalPredictors(kryo, output, regressionTable.getCategoricalPredictors());
+		} // End if
+
+		if(hasPredictorTerms){
+			kryo.writeClassAndObject(output, regressionTable.getPredictorTerms());
+		}
+	}
+
+	@Override
+	public RegressionTable read(Kryo kryo, Input input, Class<? extends RegressionTable> clazz){
+		RegressionTable regressionTable = kryo.newInstance(clazz);
+
+		kryo.reference(regressionTable);
+
+		int flags = input.readByte();
+
+		regressionTable.setIntercept(readNumber(kryo, input));
+		regressionTable.setTargetField(readString(kryo, input));
+
+		if((flags & RegressionTableSerializer.FLAG_TARGET_CATEGORY) != 0){
+			regressionTable.setTargetCategory(kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & RegressionTableSerializer.FLAG_EXTENSIONS) != 0){
+			List<Extension> extensions = readList(kryo, input);
+
+			(regressionTable.getExtensions()).addAll(extensions);
+		} // End if
+
+		if((flags & RegressionTableSerializer.FLAG_NUMERIC_PREDICTORS) != 0){
+			ReflectionUtil.setFieldValue(RegressionTableSerializer.NUMERIC_PREDICTORS, regressionTable, readNumericPredictors(kryo, input));
+		} // End if
+
+		if((flags & RegressionTableSerializer.FLAG_CATEGORICAL_PREDICTORS) != 0){
+			ReflectionUtil.setFieldValue(RegressionTableSerializer.CATEGORICAL_PREDICTORS, regressionTable, readCategoricalPredictors(kryo, input));
+		} // End if
+
+		if((flags & RegressionTableSerializer.FLAG_PREDICTOR_TERMS) != 0){
+			ReflectionUtil.setFieldValue(RegressionTableSerializer.PREDICTOR_TERMS, regressionTable, kryo.readClassAndObject(input));
+		}
+
+		return regressionTable;
+	}
+
+	static
+	private void writeNumericPredictors(Kryo kryo, Output output, List<NumericPredictor> numericPredictors){
+		boolean columnar = true;
+
+		for(NumericPredictor numericPredictor : numericPredictors){
+			columnar &= (numericPredictor.getClass() == NumericPredictor.class) && !numericPredictor.hasExtensions() && (numericPredictor.getCoefficient() instanceof Double);
+		}
+
+		output.writeBoolean(columnar);
+
+		if(!columnar){
+			kryo.writeClassAndObject(output, numericPredictors);
+
+			return;
+		}
+
+		int size = numericPredictors.size();
+
+		int[] exponents = new int[size];
+		double[] coefficients = new double[size];
+
+		output.writeVarInt(size, true);
+
+		for(int i = 0; i < size; i++){
+			NumericPredictor numericPredictor = numericPredictors.get(i);
+
+			writeString(kryo, output, numericPredictor.getField());
+
+			Integer exponent = ReflectionUtil.getFieldValue(RegressionTableSerializer.EXPONENT, numericPredictor);
+
+			exponents[i] = (exponent != null ? exponent : RegressionTableSerializer.MISSING_EXPONENT);
+			coefficients[i] = (numericPredictor.getCoefficient()).doubleValue();
+		}
+
+		output.writeInts(exponents, 0, size, false);
+		output.writeDoubles(coefficients, 0, size);
+	}
+
+	static
+	private List<?> readNumericPredictors(Kryo kryo, Input input){
+		boolean columnar = input.readBoolean();
+
+		if(!columnar){
+			return (List<?>)kryo.readClassAndObject(input);
+		}
+
+		int size = input.readVarInt(true);
+
+		String[] fields = new String[size];
+
+		for(int i = 0; i < size; i++){
+			fields[i] = readString(kryo, input);
+		}
+
+		int[] exponents = input.readInts(size, false);
+		double[] coefficients = input.readDoubles(size);
+
+		List<NumericPredictor> result = new ArrayList<>(size);
+
+		for(int i = 0; i < size; i++){
+			NumericPredictor numericPredictor = new NumericPredictor()
+				.setField(fields[i])
+				.setExponent(exponents[i] != RegressionTableSerializer.MISSING_EXPONENT ? exponents[i] : null)
+				.setCoefficient(coefficients[i]);
+
+			result.add(numericPredictor);
+		}
+
+		return result;
+	}
+
+	static
+	private void writeCategoricalPredictors(Kryo kryo, Output output, List<CategoricalPredictor> categoricalPredictors){
+		boolean columnar = true;
+
+		for(CategoricalPredictor categoricalPredictor : categoricalPredictors){
+			columnar &= (categoricalPredictor.getClass() == CategoricalPredictor.class) && !categoricalPredictor.hasExtensions() && (categoricalPredictor.getCoefficient() instanceof Double);
+		}
+
+		output.writeBoolean(columnar);
+
+		if(!columnar){
+			kryo.writeClassAndObject(output, categoricalPredictors);
+
+			return;
+		}
+
+		int size = categoricalPredictors.size();
+
+		double[] coefficients = new double[size];
+
+		output.writeVarInt(size, true);
+
+		for(int i = 0; i < size; i++){
+			CategoricalPredictor categoricalPredictor = categoricalPredictors.get(i);
+
+			writeString(kryo, output, categoricalPredictor.getField());
+			kryo.writeClassAndObject(output, categoricalPredictor.getValue());
+
+			coefficients[i] = (categoricalPredictor.getCoefficient()).doubleValue();
+		}
+
+		output.writeDoubles(coefficients, 0, size);
+	}
+
+	static
+	private List<?> readCategoricalPredictors(Kryo kryo, Input input){
+		boolean columnar = input.readBoolean();
+
+		if(!columnar){
+			return (List<?>)kryo.readClassAndObject(input);
+		}
+
+		int size = input.readVarInt(true);
+
+		String[] fields = new String[size];
+		Object[] values = new Object[size];
+
+		for(int i = 0; i < size; i++){
+			fields[i] = readString(kryo, input);
+			values[i] = kryo.readClassAndObject(input);
+		}
+
+		double[] coefficients = input.readDoubles(size);
+
+		List<CategoricalPredictor> result = new ArrayList<>(size);
+
+		for(int i = 0; i < size; i++){
+			CategoricalPredictor categoricalPredictor = new CategoricalPredictor()
+				.setField(fields[i])
+				.setValue(values[i])
+				.setCoefficient(coefficients[i]);
+
+			result.add(categoricalPredictor);
+		}
+
+		return result;
+	}
+
+	static
+	public void registerSerializers(Kryo kryo){
+		RegressionTableSerializer serializer = new RegressionTableSerializer();
+
+		kryo.register(RegressionTable.class, serializer);
+	}
+
+	private static final Field NUMERIC_PREDICTORS = ReflectionUtil.getField(RegressionTable.class, "numericPredictors");
+	private static final Field CATEGORICAL_PREDICTORS = ReflectionUtil.getField(RegressionTable.class, "categoricalPredictors");
+	private static final Field PREDICTOR_TERMS = ReflectionUtil.getField(RegressionTable.class, "predictorTerms");
+
+	private static final Field EXPONENT = ReflectionUtil.getField(NumericPredictor.class, "exponent");
+
+	/**
+	 * A sentinel value for the missing exponent attribute.
+	 */
+	private static final int MISSING_EXPONENT = Integer.MIN_VALUE;
+
+	private static final int FLAG_TARGET_CATEGORY = 1;
+	private static final int FLAG_EXTENSIONS = 2;
+	private static final int FLAG_NUMERIC_PREDICTORS = 4;
+	private static final int FLAG_CATEGORICAL_PREDICTORS = 8;
+	private static final int FLAG_PREDICTOR_TERMS = 16;
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo.serializers;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.dmg.pmml.Extension;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.mining.VariableWeight;
+import org.jpmml.evaluator.mining.SerializedSegment;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * A serializer for segments.
+ * </p>
+ *
+ * <p>
+ * A {@link SerializedSegment} is written and read as a plain {@link Segment} object,
+ * similar to its Java serialization behaviour.
+ * </p>
+ */
+public class SegmentSerializer extends AbstractPMMLObjectSerializer<Segment> {
+
+	@Override
+	public void write(Kryo kryo, Output output, Segment segment){
+		String id = segment.getId();
+		Number weight = ReflectionUtil.getFieldValue(SegmentSerializer.WEIGHT, segment);
+		Predicate predicate = segment.getPredicate();
+		Model model = segment.getModel();
+		VariableWeight variableWeight = segment.getVariableWeight();
+
+		boolean hasExtensions = segment.hasExtensions();
+
+		int flags = 0;
+
+		flags |= (id != null ? SegmentSerializer.FLAG_ID : 0);
+		flags |= (weight != null ? SegmentSerializer.FLAG_WEIGHT : 0);
+		flags |= (predicate != null ? SegmentSerializer.FLAG_PREDICATE : 0);
+		flags |= (model != null ? SegmentSerializer.FLAG_MODEL : 0);
+		flags |= (variableWeight != null ? SegmentSerializer.FLAG_VARIABLE_WEIGHT : 0);
+		flags |= (hasExtensions ? SegmentSerializer.FLAG_EXTENSIONS : 0);
+
+		output.writeByte(flags);
+
+		if(id != null){
+			writeString(kryo, output, id);
+		} // End if
+
+		if(weight != null){
+			writeNumber(kryo, output, weight);
+		} // End if
+
+		if(hasExtensions){
+			writeList(kryo, output, segment.getExtensions());
+		} // End if
+
+		if(predicate != null){
+			kryo.writeClassAndObject(output, predicate);
+		} // End if
+
+		if(model != null){
+			kryo.writeClassAndObject(output, model);
+		} // End if
+
+		if(variableWeight != null){
+			kryo.writeClassAndObject(output, variableWeight);
+		}
+	}
+
+	@Override
+	public Segment read(Kryo kryo, Input input, Class<? extends Segment> clazz){
+		Segment segment = (SerializedSegment.class.isAssignableFrom(clazz) ? new Segment() : kryo.newInstance(clazz));
+
+		kryo.reference(segment);
+
+		int flags = input.readByte();
+
+		if((flags & SegmentSerializer.FLAG_ID) != 0){
+			segment.setId(readString(kryo, input));
+		} // End if
+
+		if((flags & SegmentSerializer.FLAG_WEIGHT) != 0){
+			segment.setWeight(readNumber(kryo, input));
+		} // End if
+
+		if((flags & SegmentSerializer.FLAG_EXTENSIONS) != 0){
+			List<Extension> extensions = readList(kryo, input);
+
+			(segment.getExtensions()).addAll(extensions);
+		} // End if
+
+		if((flags & SegmentSerializer.FLAG_PREDICATE) != 0){
+			segment.setPredicate((Predicate)kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & SegmentSerializer.FLAG_MODEL) != 0){
+			segment.setModel((Model)kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & SegmentSerializer.FLAG_VARIABLE_WEIGHT) != 0){
+			segment.setVariableWeight((VariableWeight)kryo.readClassAndObject(input));
+		}
+
+		return segment;
+	}
+
+	static
+	public void registerSerializers(Kryo kryo){
+		SegmentSerializer serializer = new SegmentSerializer();
+
+		kryo.register(Segment.class, serializer);
+		kryo.register(SerializedSegment.class, serializer);
+	}
+
+	private static final Field WEIGHT = ReflectionUtil.getField(Segment.class, "weight");
+
+	private static final int FLAG_ID = 1;
+	private static final int FLAG_WEIGHT = 2;
+	private static final int FLAG_PREDICATE = 4;
+	private static final int FLAG_MODEL = 8;
+	private static final int FLAG_VARIABLE_WEIGHT = 16;
+	private static final int FLAG_EXTENSIONS = 32;
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo.serializers;
+
+import java.util.List;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.dmg.pmml.Extension;
+import org.dmg.pmml.SimplePredicate;
+
+public class SimplePredicateSerializer extends AbstractPMMLObjectSerializer<SimplePredicate> {
+
+	@Override
+	public void write(Kryo kryo, Output output, SimplePredicate simplePredicate){
+		SimplePredicate.Operator operator = simplePredicate.getOperator();
+		Object value = simplePredicate.getValue();
+
+		boolean hasExtensions = simplePredicate.hasExtensions();
+
+		int flags = 0;
+
+		flags |= (operator != null ? SimplePredicateSerializer.FLAG_OPERATOR : 0);
+		flags |= (value != null ? SimplePredicateSerializer.FLAG_VALUE : 0);
+		flags |= (hasExtensions ? SimplePredicateSerializer.FLAG_EXTENSIONS : 0);
+
+		output.writeByte(flags);
+
+		writeString(kryo, output, simplePredicate.getField());
+
+		if(operator != null){
+			output.writeVarInt(operator.ordinal(), true);
+		} // End if
+
+		if(value != null){
+			kryo.writeClassAndObject(output, value);
+		} // End if
+
+		if(hasExtensions){
+			writeList(kryo, output, simplePredicate.getExtensions());
+		}
+	}
+
+	@Override
+	public SimplePredicate read(Kryo kryo, Input input, Class<? extends SimplePredicate> clazz){
+		SimplePredicate simplePredicate = kryo.newInstance(clazz);
+
+		kryo.reference(simplePredicate);
+
+		int flags = input.readByte();
+
+		simplePredicate.setField(readString(kryo, input));
+
+		if((flags & SimplePredicateSerializer.FLAG_OPERATOR) != 0){
+			simplePredicate.setOperator(SimplePredicateSerializer.OPERATORS[input.readVarInt(true)]);
+		} // End if
+
+		if((flags & SimplePredicateSerializer.FLAG_VALUE) != 0){
+			simplePredicate.setValue(kryo.readClassAndObject(input));
+		} // End if
+
+		if((flags & SimplePredicateSerializer.FLAG_EXTENSIONS) != 0){
+			List<Extension> extensions = readList(kryo, input);
+
+			(simplePredicate.getExtensions()).addAll(extensions);
+		}
+
+		return simplePredicate;
+	}
+
+	static
+	public void registerSerializers(Kryo kryo){
+		SimplePredicateSerializer serializer = new SimplePredicateSerializer();
+
+		kryo.register(SimplePredicate.class, serializer);
+	}
+
+	private static final SimplePredicate.Operator[] OPERATORS = SimplePredicate.Operator.values();
+
+	private static final int FLAG_OPERATOR = 1;
+	private static final int FLAG_VALUE = 2;
+	private static final int FLAG_EXTENSIONS = 4;
+}
\ No newline at end of file
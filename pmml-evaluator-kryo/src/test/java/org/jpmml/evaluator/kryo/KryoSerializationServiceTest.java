@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.esotericsoftware.kryo.KryoException;
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Header;
+import org.dmg.pmml.MiningField;
+import org.dmg.pmml.MiningFunction;
+import org.dmg.pmml.MiningSchema;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.Version;
+import org.dmg.pmml.regression.NumericPredictor;
+import org.dmg.pmml.regression.RegressionModel;
+import org.dmg.pmml.regression.RegressionTable;
+import org.jpmml.evaluator.Evaluator;
+import org.jpmml.evaluator.EvaluatorUtil;
+import org.jpmml.evaluator.ModelEvaluatorBuilder;
+import org.jpmml.evaluator.kryo.KryoSerializationService.Compression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KryoSerializationServiceTest {
+
+	@Test
+	public void preregister(){
+		List<Class<?>> clazzes = KryoUtil.getPreregisteredClasses();
+
+		assertTrue(clazzes.contains(PMML.class));
+		assertTrue(clazzes.contains(RegressionModel.class));
+		assertTrue(clazzes.contains(MiningFunction.class));
+
+		assertEquals(new KryoSerializationService().getFingerprint(), new KryoSerializationService(Compression.DEFLATE).getFingerprint());
+	}
+
+	@Test
+	public void heapBuffer() throws Exception {
+		Evaluator evaluator = createEvaluator();
+
+		for(Compression compression : Compression.values()){
+			KryoSerializationService service = new KryoSerializationService(compression);
+
+			ByteBuffer buffer = service.serialize(evaluator);
+
+			assertEquals(0, buffer.position());
+
+			Evaluator clonedEvaluator = service.deserialize(buffer, Evaluator.class);
+
+			assertFalse(buffer.hasRemaining());
+
+			checkEvaluator(evaluator, clonedEvaluator);
+		}
+	}
+
+	@Test
+	public void directBuffer() throws Exception {
+		Evaluator evaluator = createEvaluator();
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+		for(Compression compression : Compression.values()){
+			KryoSerializationService service = new KryoSerializationService(compression);
+
+			service.serialize(evaluator, buffer);
+		}
+
+		buffer.flip();
+
+		KryoSerializationService service = new KryoSerializationService();
+
+		for(Compression compression : Compression.values()){
+			Evaluator clonedEvaluator = service.deserialize(buffer, Evaluator.class);
+
+			checkEvaluator(evaluator, clonedEvaluator);
+		}
+
+		assertFalse(buffer.hasRemaining());
+
+		ByteBuffer smallBuffer = ByteBuffer.allocateDirect(64);
+
+		for(Compression compression : Compression.values()){
+			KryoSerializationService smallService = new KryoSerializationService(compression);
+
+			assertThrows(BufferOverflowException.class, () -> smallService.serialize(evaluator, smallBuffer));
+
+			assertEquals(0, smallBuffer.position());
+		}
+	}
+
+	@Test
+	public void mappedBuffer(@TempDir Path tmpDir) throws Exception {
+		Evaluator evaluator = createEvaluator();
+
+		KryoSerializationService service = new KryoSerializationService(Compression.DEFLATE_FAST);
+
+		ByteBuffer buffer = service.serialize(evaluator);
+
+		Path path = tmpDir.resolve("evaluator.kryo");
+
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)){
+			channel.write(buffer);
+		}
+
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+			MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			Evaluator clonedEvaluator = service.deserialize(mappedBuffer, Evaluator.class);
+
+			checkEvaluator(evaluator, clonedEvaluator);
+		}
+	}
+
+	@Test
+	public void header() throws Exception {
+		Evaluator evaluator = createEvaluator();
+
+		KryoSerializationService service = new KryoSerializationService();
+
+		ByteBuffer buffer = service.serialize(evaluator);
+
+		// Format version
+		buffer.put(4, (byte)0);
+
+		assertThrows(KryoException.class, () -> service.deserialize(buffer.duplicate()));
+
+		buffer.put(4, (byte)1);
+
+		// Fingerprint
+		buffer.putInt(8, service.getFingerprint() + 1);
+
+		assertThrows(KryoException.class, () -> service.deserialize(buffer.duplicate()));
+
+		buffer.putInt(8, service.getFingerprint());
+
+		checkEvaluator(evaluator, service.deserialize(buffer.duplicate(), Evaluator.class));
+	}
+
+	@Test
+	public void concurrentAccess() throws Exception {
+		Evaluator evaluator = createEvaluator();
+
+		KryoSerializationService service = new KryoSerializationService(Compression.DEFLATE, 2);
+
+		Callable<Evaluator> task = () -> service.deserialize(service.serialize(evaluator), Evaluator.class);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<Evaluator>> futures = executor.invokeAll(new ArrayList<>(Collections.nCopies(16, task)));
+
+			for(Future<Evaluator> future : futures){
+				checkEvaluator(evaluator, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	static
+	private void checkEvaluator(Evaluator expectedEvaluator, Evaluator actualEvaluator){
+		assertNotSame(expectedEvaluator, actualEvaluator);
+
+		Map<String, ?> arguments = Collections.singletonMap("x", 3d);
+
+		assertEquals(EvaluatorUtil.decodeAll(expectedEvaluator.evaluate(arguments)), EvaluatorUtil.decodeAll(actualEvaluator.evaluate(arguments)));
+	}
+
+	static
+	private Evaluator createEvaluator(){
+		DataDictionary dataDictionary = new DataDictionary()
+			.addDataFields(
+				new DataField("x", OpType.CONTINUOUS, DataType.DOUBLE),
+				new DataField("y", OpType.CONTINUOUS, DataType.DOUBLE)
+			);
+
+		MiningSchema miningSchema = new MiningSchema()
+			.addMiningFields(
+				new MiningField("x"),
+				new MiningField("y").setUsageType(MiningField.UsageType.TARGET)
+			);
+
+		RegressionTable regressionTable = new RegressionTable(1d)
+			.addNumericPredictors(new NumericPredictor("x", 2d));
+
+		RegressionModel regressionModel = new RegressionModel(MiningFunction.REGRESSION, miningSchema, null)
+			.addRegressionTables(regressionTable);
+
+		PMML pmml = new PMML(Version.PMML_4_4.getVersion(), new Header(), dataDictionary)
+			.addModels(regressionModel);
+
+		ModelEvaluatorBuilder modelEvaluatorBuilder = new ModelEvaluatorBuilder(pmml);
+
+		return modelEvaluatorBuilder.build();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.kryo;
+
+import org.dmg.pmml.ComplexScoreDistribution;
+import org.dmg.pmml.MiningFunction;
+import org.dmg.pmml.MiningSchema;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.ScoreDistribution;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.regression.CategoricalPredictor;
+import org.dmg.pmml.regression.NumericPredictor;
+import org.dmg.pmml.regression.RegressionTable;
+import org.dmg.pmml.tree.BranchNode;
+import org.dmg.pmml.tree.ClassifierNode;
+import org.dmg.pmml.tree.CountingLeafNode;
+import org.dmg.pmml.tree.LeafNode;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.jpmml.evaluator.mining.SerializedSegment;
+import org.jpmml.model.JavaSerializer;
+import org.jpmml.model.ReflectionUtil;
+import org.jpmml.model.kryo.KryoSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PMMLObjectSerializerTest extends KryoSerializerTest {
+
+	@Test
+	public void node() throws Exception {
+		KryoSerializer kryoSerializer = new KryoSerializer(super.kryo);
+
+		SimplePredicate predicate = new SimplePredicate("x", SimplePredicate.Operator.LESS_THAN, 1.5d);
+
+		ScoreDistribution scoreDistribution = new ComplexScoreDistribution("yes", 10);
+
+		Node root = new ClassifierNode("1", True.INSTANCE)
+			.setScore("yes")
+			.setRecordCount(20)
+			.setDefaultChild("2")
+			.addScoreDistributions(scoreDistribution)
+			.addNodes(
+				new BranchNode("no", predicate)
+					.setId("2")
+					.addNodes(new LeafNode("no", True.INSTANCE)),
+				new CountingLeafNode("yes", predicate)
+					.setId(3)
+					.setRecordCount(4.5d)
+			);
+
+		Node clonedRoot = checkedClone(kryoSerializer, root);
+
+		Node leftChild = clonedRoot.getNodes().get(0);
+		Node rightChild = clonedRoot.getNodes().get(1);
+
+		assertSame(leftChild.getPredicate(), rightChild.getPredicate());
+
+		assertNull(leftChild.getRecordCount());
+		assertEquals(4.5d, rightChild.getRecordCount());
+	}
+
+	@Test
+	public void simplePredicate() throws Exception {
+		KryoSerializer kryoSerializer = new KryoSerializer(super.kryo);
+
+		checkedClone(kryoSerializer, new SimplePredicate("x", SimplePredicate.Operator.IS_MISSING, null));
+		checkedClone(kryoSerializer, new SimplePredicate("x", SimplePredicate.Operator.EQUAL, "one"));
+		checkedClone(kryoSerializer, new SimplePredicate("x", SimplePredicate.Operator.GREATER_OR_EQUAL, 1));
+	}
+
+	@Test
+	public void regressionTable() throws Exception {
+		KryoSerializer kryoSerializer = new KryoSerializer(super.kryo);
+
+		RegressionTable regressionTable = new RegressionTable(1d)
+			.setTargetCategory("yes")
+			.addNumericPredictors(
+				new NumericPredictor("x1", 2d),
+				new NumericPredictor("x2", -0.5d).setExponent(2)
+			)
+			.addCategoricalPredictors(
+				new CategoricalPredictor("x3", "a", 1d),
+				new CategoricalPredictor("x3", "b", 3d)
+			);
+
+		RegressionTable clonedRegressionTable = checkedClone(kryoSerializer, regressionTable);
+
+		NumericPredictor numericPredictor = clonedRegressionTable.getNumericPredictors().get(0);
+
+		// The default value must not be materialized
+		assertNull(ReflectionUtil.getFieldValue(ReflectionUtil.getField(NumericPredictor.class, "exponent"), numericPredictor));
+
+		regressionTable = new RegressionTable(1)
+			.addNumericPredictors(new NumericPredictor("x1", 2));
+
+		checkedClone(kryoSerializer, regressionTable);
+	}
+
+	@Test
+	public void segment() throws Exception {
+		KryoSerializer kryoSerializer = new KryoSerializer(super.kryo);
+
+		TreeModel treeModel = new TreeModel(MiningFunction.REGRESSION, new MiningSchema(), new LeafNode(1d, True.INSTANCE));
+
+		Segment segment = new Segment(True.INSTANCE, treeModel)
+			.setId("first");
+
+		checkedClone(kryoSerializer, segment);
+
+		SerializedSegment serializedSegment = new SerializedSegment(segment, new JavaSerializer());
+
+		Segment clonedSegment = (Segment)cloneRaw(kryoSerializer, serializedSegment);
+
+		assertFalse(clonedSegment instanceof SerializedSegment);
+
+		assertTrue(ReflectionUtil.equals(segment, clonedSegment));
+	}
+
+	static
+	private <E extends PMMLObject> E checkedClone(KryoSerializer kryoSerializer, E object) throws Exception {
+		E clonedObject = cloneRaw(kryoSerializer, object);
+
+		assertNotSame(object, clonedObject);
+		assertTrue(ReflectionUtil.equals(object, clonedObject));
+
+		return clonedObject;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
+/**
+ * <p>
+ * An asynchronous facade to an {@link Evaluator}.
+ * </p>
+ *
+ * <p>
+ * Evaluation tasks are run on the specified executor.
+ * Evaluation errors are propagated by completing the future exceptionally.
+ * </p>
+ *
+ * @see EvaluatorProcessor
+ */
+@IgnoreJRERequirement
+public class AsyncEvaluator {
+
+	private Evaluator evaluator = null;
+
+	private Executor executor = null;
+
+
+	public AsyncEvaluator(Evaluator evaluator, Executor executor){
+		setEvaluator(evaluator);
+		setExecutor(executor);
+	}
+
+	public CompletableFuture<Map<String, ?>> evaluate(Map<String, ?> arguments){
+		Evaluator evaluator = getEvaluator();
+		Executor executor = getExecutor();
+
+		Supplier<Map<String, ?>> supplier = new Supplier<Map<String, ?>>(){
+
+			@Override
+			public Map<String, ?> get(){
+				return evaluator.evaluate(arguments);
+			}
+		};
+
+		return CompletableFuture.supplyAsync(supplier, executor);
+	}
+
+	/**
+	 * <p>
+	 * Evaluates a batch of argument maps as a single task.
+	 * </p>
+	 *
+	 * @see EvaluatorUtil#evaluateAll(Evaluator, List)
+	 */
+	public CompletableFuture<List<Map<String, ?>>> evaluateAll(List<? extends Map<String, ?>> argumentsList){
+		Evaluator evaluator = getEvaluator();
+		Executor executor = getExecutor();
+
+		Supplier<List<Map<String, ?>>> supplier = new Supplier<List<Map<String, ?>>>(){
+
+			@Override
+			public List<Map<String, ?>> get(){
+				return EvaluatorUtil.evaluateAll(evaluator, argumentsList);
+			}
+		};
+
+		return CompletableFuture.supplyAsync(supplier, executor);
+	}
+
+	public Evaluator getEvaluator(){
+		return this.evaluator;
+	}
+
+	private void setEvaluator(Evaluator evaluator){
+		this.evaluator = Objects.requireNonNull(evaluator);
+	}
+
+	public Executor getExecutor(){
+		return this.executor;
+	}
+
+	private void setExecutor(Executor executor){
+		this.executor = Objects.requireNonNull(executor);
+	}
+}
\ No newline at end of file
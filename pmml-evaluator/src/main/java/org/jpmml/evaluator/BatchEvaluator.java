@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataField;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.TransformationDictionary;
+import org.jpmml.model.PMMLException;
+
+/**
+ * <p>
+ * A model evaluator that evaluates a batch of rows at once.
+ * </p>
+ *
+ * <p>
+ * Global derived fields whose expressions can be {@link NumericKernelUtil#compile(Expression) compiled} into numeric kernels
+ * are computed column by column, and are then declared in the evaluation context of each row.
+ * All other fields are evaluated row by row, as usual.
+ * </p>
+ *
+ * <p>
+ * A derived field is compiled only if it is a continuous double field,
+ * and all the fields that it references are either double data fields or other compiled derived fields.
+ * If a kernel fails for a batch (eg. because of a missing argument, or an invalid result that must be returned as invalid), then the derived field is evaluated row by row for that batch.
+ * Likewise, if the input values of a row cannot be prepared, then all derived fields are evaluated row by row for that row.
+ * </p>
+ *
+ * @see NumericKernel
+ */
+public class BatchEvaluator {
+
+	private ModelEvaluator<?> modelEvaluator = null;
+
+	private Map<String, NumericKernel> kernels = Collections.emptyMap();
+
+	private Set<String> inputNames = Collections.emptySet();
+
+
+	public BatchEvaluator(ModelEvaluator<?> modelEvaluator){
+		setModelEvaluator(modelEvaluator);
+
+		compile();
+	}
+
+	public List<Map<String, ?>> evaluateAll(List<? extends Map<String, ?>> argumentsList){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+
+		ModelEvaluationContext context = modelEvaluator.createEvaluationContext();
+
+		int numberOfRows = argumentsList.size();
+
+		BitSet rowwise = new BitSet(numberOfRows);
+
+		NumericColumns columns = prepareColumns(argumentsList, context, rowwise);
+
+		List<Map<String, ?>> result = new ArrayList<>(numberOfRows);
+
+		for(int i = 0; i < numberOfRows; i++){
+			Map<String, ?> arguments = argumentsList.get(i);
+
+			context.reset(true);
+
+			if(!rowwise.get(i)){
+				declareColumns(columns, i, context);
+			}
+
+			Map<String, ?> results = modelEvaluator.evaluateWith(arguments, context);
+
+			result.add(results);
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets the names of global derived fields that are computed column by column.
+	 * </p>
+	 */
+	public Set<String> getCompiledFields(){
+		return Collections.unmodifiableSet(this.kernels.keySet());
+	}
+
+	private NumericColumns prepareColumns(List<? extends Map<String, ?>> argumentsList, ModelEvaluationContext context, BitSet rowwise){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+		Map<String, NumericKernel> kernels = this.kernels;
+		Set<String> inputNames = this.inputNames;
+
+		int numberOfRows = argumentsList.size();
+
+		NumericColumns columns = new NumericColumns(numberOfRows);
+
+		if(kernels.isEmpty()){
+			return columns;
+		}
+
+		Map<String, double[]> inputValues = new LinkedHashMap<>();
+		Map<String, BitSet> inputMissing = new LinkedHashMap<>();
+
+		for(String inputName : inputNames){
+			inputValues.put(inputName, new double[numberOfRows]);
+			inputMissing.put(inputName, new BitSet(numberOfRows));
+		}
+
+		for(int i = 0; i < numberOfRows; i++){
+			Map<String, ?> arguments = modelEvaluator.processArguments(argumentsList.get(i));
+
+			context.reset(true);
+			context.setArguments(arguments);
+
+			for(String inputName : inputNames){
+				FieldValue value;
+
+				try {
+					value = context.evaluate(inputName);
+				} catch(PMMLException pe){
+					rowwise.set(i);
+
+					break;
+				}
+
+				if(FieldValueUtil.isMissing(value)){
+					(inputMissing.get(inputName)).set(i);
+				} else
+
+				{
+					if(!value.isValid()){
+						rowwise.set(i);
+
+						break;
+					}
+
+					(inputValues.get(inputName))[i] = value.asDouble();
+				}
+			}
+		}
+
+		for(String inputName : inputNames){
+			columns.put(inputName, inputValues.get(inputName), inputMissing.get(inputName));
+		}
+
+		Set<String> names = kernels.keySet();
+		for(String name : names){
+			NumericKernel kernel = kernels.get(name);
+
+			try {
+				columns.put(name, kernel);
+			} catch(PMMLException pe){
+				// Ignored
+			}
+		}
+
+		return columns;
+	}
+
+	private void declareColumns(NumericColumns columns, int row, ModelEvaluationContext context){
+		Set<String> names = this.kernels.keySet();
+
+		for(String name : names){
+
+			if(!columns.hasColumn(name)){
+				continue;
+			}
+
+			FieldValue value;
+
+			BitSet missing = columns.getMissing(name);
+			if(missing.get(row)){
+				value = FieldValues.MISSING_VALUE;
+			} else
+
+			{
+				double[] values = columns.getValues(name);
+
+				value = FieldValueUtil.create(OpType.CONTINUOUS, DataType.DOUBLE, values[row]);
+			}
+
+			context.declareInternal(name, value);
+		}
+	}
+
+	private void compile(){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+
+		PMML pmml = modelEvaluator.getPMML();
+
+		TransformationDictionary transformationDictionary = pmml.getTransformationDictionary();
+		if(transformationDictionary == null || !transformationDictionary.hasDerivedFields()){
+			return;
+		}
+
+		Map<String, NumericKernel> kernels = new LinkedHashMap<>();
+		Set<String> inputNames = new LinkedHashSet<>();
+
+		List<DerivedField> derivedFields = transformationDictionary.getDerivedFields();
+		for(DerivedField derivedField : derivedFields){
+			String name = derivedField.requireName();
+
+			// Shadowed by a data field or a local derived field
+			if(modelEvaluator.getMiningField(name) != null || modelEvaluator.getLocalDerivedField(name) != null){
+				continue;
+			} // End if
+
+			if(derivedField.requireOpType() != OpType.CONTINUOUS || derivedField.requireDataType() != DataType.DOUBLE){
+				continue;
+			}
+
+			Expression expression = derivedField.requireExpression();
+
+			Set<String> names = new LinkedHashSet<>();
+
+			collectFieldNames(expression, names);
+
+			boolean compilable = true;
+
+			for(String fieldName : names){
+
+				if(kernels.containsKey(fieldName)){
+					continue;
+				} // End if
+
+				if(!isDoubleInput(fieldName)){
+					compilable = false;
+
+					break;
+				}
+			}
+
+			if(!compilable){
+				continue;
+			}
+
+			NumericKernel kernel = NumericKernelUtil.compile(expression);
+			if(kernel == null){
+				continue;
+			}
+
+			for(String fieldName : names){
+
+				if(!kernels.containsKey(fieldName)){
+					inputNames.add(fieldName);
+				}
+			}
+
+			kernels.put(name, kernel);
+		}
+
+		this.kernels = kernels;
+		this.inputNames = inputNames;
+	}
+
+	private boolean isDoubleInput(String name){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+
+		if(modelEvaluator.getMiningField(name) == null){
+			return false;
+		}
+
+		DataField dataField = modelEvaluator.getDataField(name);
+
+		return (dataField != null && dataField.requireDataType() == DataType.DOUBLE);
+	}
+
+	public ModelEvaluator<?> getModelEvaluator(){
+		return this.modelEvaluator;
+	}
+
+	private void setModelEvaluator(ModelEvaluator<?> modelEvaluator){
+		this.modelEvaluator = Objects.requireNonNull(modelEvaluator);
+	}
+
+	static
+	private void collectFieldNames(Expression expression, Set<String> names){
+
+		if(expression instanceof FieldRef){
+			FieldRef fieldRef = (FieldRef)expression;
+
+			names.add(fieldRef.requireField());
+		} else
+
+		if(expression instanceof Apply){
+			Apply apply = (Apply)expression;
+
+			List<Expression> expressions = apply.getExpressions();
+			for(Expression argument : expressions){
+				collectFieldNames(argument, names);
+			}
+		} else
+
+		if(expression instanceof Constant){
+			// Ignored
+		}
+	}
+}
\ No newline at end of file
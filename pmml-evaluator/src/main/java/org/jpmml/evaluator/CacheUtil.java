@@ -27,6 +27,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheBuilderSpec;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.dmg.pmml.PMMLObject;
 import org.jpmml.model.InvalidElementException;
@@ -78,6 +79,14 @@ public class CacheUtil {
 		return cacheBuilder.build();
 	}
 
+	static
+	public <K, V> Cache<K, V> buildCache(RemovalListener<? super K, ? super V> removalListener){
+		CacheBuilder<K, V> cacheBuilder = newCacheBuilder()
+			.removalListener(removalListener);
+
+		return cacheBuilder.build();
+	}
+
 	static
 	public <K, V> LoadingCache<K, V> buildLoadingCache(CacheLoader<K, V> cacheLoader){
 		CacheBuilder<Object, Object> cacheBuilder = newCacheBuilder();
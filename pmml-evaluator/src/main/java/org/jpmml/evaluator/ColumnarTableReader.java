@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.dmg.pmml.DataType;
+
+/**
+ * <p>
+ * A reader for the binary columnar table format.
+ * </p>
+ *
+ * <p>
+ * The values of every column are memory-mapped as a single file region, and are exposed as a {@link PrimitiveColumn primitive column} that is backed directly by it.
+ * Values are not copied, unless they are modified.
+ * All other data (headers, dictionaries and missing value bitmaps) is small or gets copied anyway, and is read into heap buffers.
+ * </p>
+ *
+ * <p>
+ * All numbers are little-endian. The file layout is as follows:
+ * </p>
+ * <ul>
+ *   <li>Header. The magic number <code>JPMMLCOL</code>, the format version, the number of rows, and the number of columns (four 32-bit integers, the last of which is reserved).</li>
+ *   <li>Column blocks, one per column, each starting at an 8-byte aligned offset:
+ *     <ul>
+ *       <li>The name (32-bit byte length followed by UTF-8 bytes), and the data type code (32-bit integer).</li>
+ *       <li>String columns only. The dictionary (32-bit number of entries, 32-bit byte length, and entries as 32-bit byte length followed by UTF-8 bytes).</li>
+ *       <li>The missing value bitmap, as 64-bit words, starting at an 8-byte aligned offset.</li>
+ *       <li>The values, as 32-bit integers (integers, dictionary codes), 32-bit floats or 64-bit doubles.</li>
+ *     </ul>
+ *   </li>
+ * </ul>
+ *
+ * @see ColumnarTableWriter
+ */
+public class ColumnarTableReader {
+
+	public ColumnarTableReader(){
+	}
+
+	public Table read(File file) throws IOException {
+
+		try(RandomAccessFile raf = new RandomAccessFile(file, "r")){
+			FileChannel channel = raf.getChannel();
+
+			ByteBuffer header = read(channel, 0, ColumnarTableReader.HEADER_SIZE);
+
+			byte[] magic = new byte[ColumnarTableReader.MAGIC.length];
+			header.get(magic);
+
+			if(!Arrays.equals(magic, ColumnarTableReader.MAGIC)){
+				throw new IOException("Not a columnar table file");
+			}
+
+			int version = header.getInt();
+			if(version != ColumnarTableReader.VERSION){
+				throw new IOException("Columnar table format version " + version + " is not supported");
+			}
+
+			int numberOfRows = header.getInt();
+			int numberOfColumns = header.getInt();
+
+			Table table = new Table(new ArrayList<>(numberOfColumns), numberOfRows);
+
+			long position = ColumnarTableReader.HEADER_SIZE;
+
+			for(int i = 0; i < numberOfColumns; i++){
+				int nameLength = read(channel, position, 4).getInt();
+				position += 4;
+
+				String name = readString(read(channel, position, nameLength), nameLength);
+				position = align(position + nameLength, 4);
+
+				DataType dataType = decodeDataType(read(channel, position, 4).getInt());
+				position += 4;
+
+				List<String> dictionary = null;
+
+				if(dataType == DataType.STRING){
+					ByteBuffer dictionaryHeader = read(channel, position, 8);
+
+					int size = dictionaryHeader.getInt();
+					int length = dictionaryHeader.getInt();
+					position += 8;
+
+					ByteBuffer entries = read(channel, position, length);
+
+					dictionary = new ArrayList<>(size);
+
+					for(int j = 0; j < size; j++){
+						dictionary.add(readString(entries));
+					}
+
+					position += length;
+				}
+
+				position = align(position, 8);
+
+				int bitmapLength = 8 * bitmapWords(numberOfRows);
+
+				BitSet missing = BitSet.valueOf(read(channel, position, bitmapLength).asLongBuffer());
+				position += bitmapLength;
+
+				long length = (long)numberOfRows * valueWidth(dataType);
+
+				ByteBuffer values = map(channel, position, length);
+				position = align(position + length, 8);
+
+				PrimitiveColumn<?> column;
+
+				switch(dataType){
+					case STRING:
+						column = new DictionaryColumn(dictionary, values.asIntBuffer(), missing);
+						break;
+					case INTEGER:
+						column = new IntegerColumn(values.asIntBuffer(), missing);
+						break;
+					case FLOAT:
+						column = new FloatColumn(values.asFloatBuffer(), missing);
+						break;
+					case DOUBLE:
+						column = new DoubleColumn(values.asDoubleBuffer(), missing);
+						break;
+					default:
+						throw new IllegalArgumentException();
+				}
+
+				table.setValues(name, column);
+			}
+
+			return table;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Checks if the file starts with the magic number of the binary columnar table format.
+	 * </p>
+	 */
+	static
+	public boolean isColumnar(File file) throws IOException {
+
+		try(InputStream is = new FileInputStream(file)){
+			byte[] magic = new byte[ColumnarTableReader.MAGIC.length];
+
+			int count = 0;
+
+			while(count < magic.length){
+				int read = is.read(magic, count, magic.length - count);
+
+				if(read < 0){
+					return false;
+				}
+
+				count += read;
+			}
+
+			return Arrays.equals(magic, ColumnarTableReader.MAGIC);
+		}
+	}
+
+	static
+	private ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		checkBounds(channel, position, length);
+
+		byte[] bytes = new byte[length];
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+		while(buffer.hasRemaining()){
+			int count = channel.read(buffer, position + buffer.position());
+
+			if(count < 0){
+				throw new IOException("Unexpected end of columnar table file");
+			}
+		}
+
+		ByteBuffer result = ByteBuffer.wrap(bytes);
+
+		return result.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	static
+	private ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+		checkBounds(channel, position, length);
+
+		ByteBuffer result = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+		return result.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	static
+	private void checkBounds(FileChannel channel, long position, long length) throws IOException {
+
+		if(length < 0 || position + length > channel.size()){
+			throw new IOException("Unexpected end of columnar table file");
+		}
+	}
+
+	static
+	private String readString(ByteBuffer buffer){
+		int length = buffer.getInt();
+
+		return readString(buffer, length);
+	}
+
+	static
+	private String readString(ByteBuffer buffer, int length){
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static
+	long align(long position, int alignment){
+		return ((position + (alignment - 1)) / alignment) * alignment;
+	}
+
+	static
+	int bitmapWords(int numberOfRows){
+		return (numberOfRows + (Long.SIZE - 1)) / Long.SIZE;
+	}
+
+	static
+	int valueWidth(DataType dataType){
+
+		switch(dataType){
+			case STRING:
+			case INTEGER:
+			case FLOAT:
+				return 4;
+			case DOUBLE:
+				return 8;
+			default:
+				throw new IllegalArgumentException(String.valueOf(dataType));
+		}
+	}
+
+	static
+	int encodeDataType(DataType dataType){
+
+		switch(dataType){
+			case STRING:
+				return 1;
+			case INTEGER:
+				return 2;
+			case FLOAT:
+				return 3;
+			case DOUBLE:
+				return 4;
+			default:
+				throw new IllegalArgumentException(String.valueOf(dataType));
+		}
+	}
+
+	static
+	private DataType decodeDataType(int code) throws IOException {
+
+		switch(code){
+			case 1:
+				return DataType.STRING;
+			case 2:
+				return DataType.INTEGER;
+			case 3:
+				return DataType.FLOAT;
+			case 4:
+				return DataType.DOUBLE;
+			default:
+				throw new IOException("Data type code " + code + " is not supported");
+		}
+	}
+
+	static final byte[] MAGIC = {'J', 'P', 'M', 'M', 'L', 'C', 'O', 'L'};
+
+	static final int VERSION = 1;
+
+	static final int HEADER_SIZE = 24;
+}
\ No newline at end of file
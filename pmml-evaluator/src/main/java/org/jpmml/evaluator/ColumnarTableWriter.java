@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.dmg.pmml.DataType;
+
+/**
+ * <p>
+ * A writer for the binary columnar table format.
+ * </p>
+ *
+ * <p>
+ * {@link PrimitiveColumn Primitive columns} are written as-is.
+ * Other columns are decoded, and stored as integer, float or double columns if all their values are of the same numeric type,
+ * or as string columns otherwise.
+ * Table exceptions are not written, and must be moved into a regular column beforehand if they are needed.
+ * Values that are neither numbers nor strings (eg. exception objects in such a column) are written as strings, using their string representation.
+ * </p>
+ *
+ * @see ColumnarTableReader
+ */
+public class ColumnarTableWriter {
+
+	public ColumnarTableWriter(){
+	}
+
+	public void write(Table table, File file) throws IOException {
+		List<String> columns = table.getColumns();
+
+		int numberOfRows = table.getNumberOfRows();
+
+		try(RandomAccessFile raf = new RandomAccessFile(file, "rw")){
+			raf.setLength(0);
+
+			FileChannel channel = raf.getChannel();
+
+			ByteBuffer header = map(channel, 0, ColumnarTableReader.HEADER_SIZE);
+			header.put(ColumnarTableReader.MAGIC);
+			header.putInt(ColumnarTableReader.VERSION);
+			header.putInt(numberOfRows);
+			header.putInt(columns.size());
+			header.putInt(0);
+
+			long position = ColumnarTableReader.HEADER_SIZE;
+
+			for(String column : columns){
+				List<?> values = table.getValues(column);
+
+				if(values == null){
+					values = Collections.emptyList();
+				}
+
+				position = writeColumn(channel, position, column, toPrimitiveColumn(values), numberOfRows);
+			}
+
+			raf.setLength(position);
+		}
+	}
+
+	static
+	private long writeColumn(FileChannel channel, long position, String name, PrimitiveColumn<?> column, int numberOfRows) throws IOException {
+		DataType dataType = column.getDataType();
+
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+		List<byte[]> dictionaryBytes = Collections.emptyList();
+
+		int dictionaryLength = 0;
+
+		if(column instanceof DictionaryColumn){
+			DictionaryColumn dictionaryColumn = (DictionaryColumn)column;
+
+			List<String> dictionary = dictionaryColumn.getDictionary();
+
+			dictionaryBytes = new ArrayList<>(dictionary.size());
+
+			for(String value : dictionary){
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+				dictionaryBytes.add(bytes);
+
+				dictionaryLength += (4 + bytes.length);
+			}
+		}
+
+		long nameEnd = ColumnarTableReader.align(4 + nameBytes.length, 4);
+		long bitmapStart = ColumnarTableReader.align(nameEnd + 4 + (dataType == DataType.STRING ? (8 + dictionaryLength) : 0), 8);
+		long valuesStart = bitmapStart + 8L * ColumnarTableReader.bitmapWords(numberOfRows);
+		long end = ColumnarTableReader.align(valuesStart + (long)numberOfRows * ColumnarTableReader.valueWidth(dataType), 8);
+
+		if(end > Integer.MAX_VALUE){
+			throw new IOException("Column " + name + " is too large");
+		}
+
+		ByteBuffer buffer = map(channel, position, end);
+
+		buffer.putInt(nameBytes.length);
+		buffer.put(nameBytes);
+
+		setPosition(buffer, nameEnd);
+
+		buffer.putInt(ColumnarTableReader.encodeDataType(dataType));
+
+		if(dataType == DataType.STRING){
+			buffer.putInt(dictionaryBytes.size());
+			buffer.putInt(dictionaryLength);
+
+			for(byte[] bytes : dictionaryBytes){
+				buffer.putInt(bytes.length);
+				buffer.put(bytes);
+			}
+		}
+
+		setPosition(buffer, bitmapStart);
+
+		int size = Math.min(column.size(), numberOfRows);
+
+		BitSet missing = new BitSet(numberOfRows);
+
+		for(int i = 0; i < numberOfRows; i++){
+
+			if(i >= size || column.isMissing(i)){
+				missing.set(i);
+			}
+		}
+
+		long[] words = missing.toLongArray();
+		for(long word : words){
+			buffer.putLong(word);
+		}
+
+		setPosition(buffer, valuesStart);
+
+		for(int i = 0; i < numberOfRows; i++){
+			boolean available = !missing.get(i);
+
+			switch(dataType){
+				case STRING:
+					buffer.putInt(available ? ((DictionaryColumn)column).getCode(i) : 0);
+					break;
+				case INTEGER:
+					buffer.putInt(available ? ((IntegerColumn)column).getInt(i) : 0);
+					break;
+				case FLOAT:
+					buffer.putFloat(available ? ((FloatColumn)column).getFloat(i) : 0f);
+					break;
+				case DOUBLE:
+					buffer.putDouble(available ? ((DoubleColumn)column).getDouble(i) : 0d);
+					break;
+				default:
+					throw new IllegalArgumentException();
+			}
+		}
+
+		return position + end;
+	}
+
+	static
+	private PrimitiveColumn<?> toPrimitiveColumn(List<?> values){
+
+		if(values instanceof PrimitiveColumn){
+			PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)values;
+
+			return primitiveColumn;
+		}
+
+		List<Object> decodedValues = new ArrayList<>(values.size());
+
+		for(Object value : values){
+			decodedValues.add(EvaluatorUtil.decode(value));
+		}
+
+		DataType dataType = inferDataType(decodedValues);
+
+		@SuppressWarnings("unchecked")
+		PrimitiveColumn<Object> result = (PrimitiveColumn<Object>)PrimitiveColumn.create(dataType, decodedValues.size());
+
+		for(Object value : decodedValues){
+			result.add(value);
+		}
+
+		return result;
+	}
+
+	static
+	private DataType inferDataType(List<?> values){
+		DataType result = null;
+
+		for(Object value : values){
+
+			if(value == null){
+				continue;
+			}
+
+			DataType dataType;
+
+			if(value instanceof Integer){
+				dataType = DataType.INTEGER;
+			} else
+
+			if(value instanceof Float){
+				dataType = DataType.FLOAT;
+			} else
+
+			if(value instanceof Number){
+				dataType = DataType.DOUBLE;
+			} else
+
+			{
+				return DataType.STRING;
+			} // End if
+
+			if(result == null){
+				result = dataType;
+			} else
+
+			if(result != dataType){
+				result = DataType.DOUBLE;
+			}
+		}
+
+		if(result == null){
+			return DataType.STRING;
+		}
+
+		return result;
+	}
+
+	static
+	private ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+		ByteBuffer result = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+
+		return result.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	static
+	private void setPosition(ByteBuffer buffer, long position){
+		// Not chained, because ByteBuffer#position(int) has a covariant return type since Java 9
+		((Buffer)buffer).position((int)position);
+	}
+}
\ No newline at end of file
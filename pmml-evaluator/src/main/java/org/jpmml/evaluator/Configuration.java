@@ -35,6 +35,10 @@ public class Configuration implements Serializable {
 
 	private SymbolTable<String> functionGuard = null;
 
+	private boolean stackTraceEnabled = true;
+
+	private boolean pruneOutputFields = false;
+
 
 	Configuration(){
 	}
@@ -78,4 +82,20 @@ public class Configuration implements Serializable {
 	void setFunctionGuard(SymbolTable<String> functionGuard){
 		this.functionGuard = functionGuard;
 	}
+
+	public boolean isStackTraceEnabled(){
+		return this.stackTraceEnabled;
+	}
+
+	void setStackTraceEnabled(boolean stackTraceEnabled){
+		this.stackTraceEnabled = stackTraceEnabled;
+	}
+
+	public boolean getPruneOutputFields(){
+		return this.pruneOutputFields;
+	}
+
+	void setPruneOutputFields(boolean pruneOutputFields){
+		this.pruneOutputFields = pruneOutputFields;
+	}
 }
\ No newline at end of file
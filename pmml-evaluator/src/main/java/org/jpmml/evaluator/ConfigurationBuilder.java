@@ -32,6 +32,10 @@ public class ConfigurationBuilder implements Cloneable, Serializable {
 
 	private SymbolTable<String> functionGuard = null;
 
+	private boolean stackTraceEnabled = true;
+
+	private boolean pruneOutputFields = false;
+
 
 	public ConfigurationBuilder(){
 	}
@@ -77,6 +81,14 @@ public class ConfigurationBuilder implements Cloneable, Serializable {
 		configuration.setDerivedFieldGuard(derivedFieldGuard);
 		configuration.setFunctionGuard(functionGuard);
 
+		boolean stackTraceEnabled = isStackTraceEnabled();
+
+		configuration.setStackTraceEnabled(stackTraceEnabled);
+
+		boolean pruneOutputFields = getPruneOutputFields();
+
+		configuration.setPruneOutputFields(pruneOutputFields);
+
 		return configuration;
 	}
 
@@ -129,4 +141,27 @@ public class ConfigurationBuilder implements Cloneable, Serializable {
 
 		return this;
 	}
+
+	public boolean isStackTraceEnabled(){
+		return this.stackTraceEnabled;
+	}
+
+	public ConfigurationBuilder setStackTraceEnabled(boolean stackTraceEnabled){
+		this.stackTraceEnabled = stackTraceEnabled;
+
+		return this;
+	}
+
+	public boolean getPruneOutputFields(){
+		return this.pruneOutputFields;
+	}
+
+	/**
+	 * @see ModelEvaluatorBuilder#setPruneOutputFields(boolean)
+	 */
+	public ConfigurationBuilder setPruneOutputFields(boolean pruneOutputFields){
+		this.pruneOutputFields = pruneOutputFields;
+
+		return this;
+	}
 }
\ No newline at end of file
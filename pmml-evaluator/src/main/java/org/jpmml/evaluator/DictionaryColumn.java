@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dmg.pmml.DataType;
+
+/**
+ * <p>
+ * A string column that stores each distinct value once, and refers to it by an integer code.
+ * </p>
+ */
+public class DictionaryColumn extends PrimitiveColumn<String> {
+
+	private IntBuffer codes = null;
+
+	private List<String> dictionary = new ArrayList<>();
+
+	private Map<String, Integer> dictionaryIndex = new HashMap<>();
+
+
+	public DictionaryColumn(int initialCapacity){
+		this.codes = IntBuffer.allocate(initialCapacity);
+	}
+
+	/**
+	 * <p>
+	 * Wraps existing codes, such as a memory-mapped file region.
+	 * The buffer is indexed absolutely, and is not copied until the column needs to grow, or is modified while read-only.
+	 * </p>
+	 *
+	 * @param dictionary Distinct values.
+	 * @param missing The missing value bitmap.
+	 */
+	public DictionaryColumn(List<String> dictionary, IntBuffer codes, BitSet missing){
+		super(codes.capacity(), missing);
+
+		this.codes = codes;
+
+		for(String value : dictionary){
+			this.dictionaryIndex.put(value, this.dictionary.size());
+			this.dictionary.add(value);
+		}
+	}
+
+	@Override
+	public DataType getDataType(){
+		return DataType.STRING;
+	}
+
+	/**
+	 * <p>
+	 * Gets the dictionary code of the value.
+	 * The result is undefined if the value is missing.
+	 * </p>
+	 *
+	 * @see #getDictionary()
+	 */
+	public int getCode(int index){
+		checkIndex(index);
+
+		return this.codes.get(index);
+	}
+
+	/**
+	 * <p>
+	 * Gets distinct values, in the order of appearance.
+	 * </p>
+	 */
+	public List<String> getDictionary(){
+		return Collections.unmodifiableList(this.dictionary);
+	}
+
+	@Override
+	protected int capacity(){
+		return this.codes.capacity();
+	}
+
+	@Override
+	protected void grow(int minCapacity){
+		int capacity = Math.max(this.codes.capacity(), minCapacity);
+
+		if(this.codes.hasArray() && this.codes.arrayOffset() == 0){
+			this.codes = IntBuffer.wrap(Arrays.copyOf(this.codes.array(), capacity));
+		} else
+
+		{
+			IntBuffer codes = IntBuffer.allocate(capacity);
+
+			for(int i = 0, max = size(); i < max; i++){
+				codes.put(i, this.codes.get(i));
+			}
+
+			this.codes = codes;
+		}
+	}
+
+	private IntBuffer ensureWritable(){
+
+		if(this.codes.isReadOnly()){
+			grow(capacity());
+		}
+
+		return this.codes;
+	}
+
+	@Override
+	protected String getValue(int index){
+		return this.dictionary.get(this.codes.get(index));
+	}
+
+	@Override
+	protected void setValue(int index, Object value){
+		String string = value.toString();
+
+		Integer code = this.dictionaryIndex.get(string);
+		if(code == null){
+			code = this.dictionary.size();
+
+			this.dictionary.add(string);
+			this.dictionaryIndex.put(string, code);
+		}
+
+		ensureWritable().put(index, code);
+	}
+}
\ No newline at end of file
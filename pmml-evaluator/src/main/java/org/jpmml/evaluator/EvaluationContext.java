@@ -226,4 +226,19 @@ public class EvaluationContext {
 			return null;
 		}
 	};
+
+	/**
+	 * <p>
+	 * Tells if {@link EvaluationException evaluation exceptions} should capture their stack traces.
+	 * </p>
+	 *
+	 * @see Configuration#isStackTraceEnabled()
+	 */
+	public static final ThreadLocal<Boolean> STACKTRACE_PROVIDER = new ThreadLocal<>(){
+
+		@Override
+		public Boolean initialValue(){
+			return Boolean.TRUE;
+		}
+	};
 }
\ No newline at end of file
@@ -36,6 +36,24 @@ public class EvaluationException extends PMMLException {
 		super(message, context);
 	}
 
+	/**
+	 * <p>
+	 * Captures the stack trace, unless disabled for the current evaluation.
+	 * </p>
+	 *
+	 * @see EvaluationContext#STACKTRACE_PROVIDER
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace(){
+		Boolean stackTraceEnabled = EvaluationContext.STACKTRACE_PROVIDER.get();
+
+		if(!stackTraceEnabled){
+			return this;
+		}
+
+		return super.fillInStackTrace();
+	}
+
 	static
 	public String formatName(String name){
 		return format(name);
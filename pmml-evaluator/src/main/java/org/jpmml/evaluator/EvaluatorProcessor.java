@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
+/**
+ * <p>
+ * A reactive streams processor that consumes argument maps and publishes result maps, in the same order.
+ * </p>
+ *
+ * <p>
+ * Argument maps are evaluated in micro-batches of up to <code>maxBatchSize</code> elements,
+ * so that the evaluation context can be reused between them.
+ * A batch is formed from whatever elements have arrived at the time, so a slow upstream is never held back waiting for a batch to fill up.
+ * </p>
+ *
+ * <p>
+ * Argument maps are requested from the upstream only when subscribers have signalled demand for result maps.
+ * The number of outstanding argument maps is bounded by the minimum demand among subscribers, by <code>maxBatchSize</code>,
+ * and by the free space in the most lagging subscriber buffer.
+ * A subscriber that requests an unbounded number of result maps therefore still throttles the upstream by the rate at which it consumes them.
+ * Nothing is requested before the first subscriber has subscribed, so no result maps are lost when the upstream is connected first.
+ * </p>
+ *
+ * <p>
+ * Result maps are published without blocking, so that draining never occupies a thread of the executor
+ * while waiting for subscribers to catch up.
+ * </p>
+ *
+ * <p>
+ * An evaluation error cancels the upstream subscription, and is propagated to subscribers.
+ * </p>
+ *
+ * @see AsyncEvaluator
+ */
+@IgnoreJRERequirement
+public class EvaluatorProcessor extends SubmissionPublisher<Map<String, ?>> implements Flow.Processor<Map<String, ?>, Map<String, ?>> {
+
+	private Evaluator evaluator = null;
+
+	private int maxBatchSize = 0;
+
+	private volatile Flow.Subscription subscription = null;
+
+	private Queue<Map<String, ?>> queue = new ConcurrentLinkedQueue<>();
+
+	private AtomicInteger pendingDrains = new AtomicInteger();
+
+	/**
+	 * The number of argument maps that have been requested from the upstream, but whose result maps have not been published yet.
+	 * Accessed by the draining thread only.
+	 */
+	private long outstanding = 0L;
+
+	/**
+	 * Set when requests to the upstream have been limited by the free space in subscriber buffers.
+	 */
+	private volatile boolean throttled = false;
+
+	private volatile boolean completed = false;
+
+	private volatile Throwable failure = null;
+
+	private boolean terminated = false;
+
+
+	public EvaluatorProcessor(Evaluator evaluator, Executor executor, int maxBatchSize){
+		this(evaluator, executor, Flow.defaultBufferSize(), maxBatchSize);
+	}
+
+	public EvaluatorProcessor(Evaluator evaluator, Executor executor, int maxBufferCapacity, int maxBatchSize){
+		super(executor, maxBufferCapacity);
+
+		setEvaluator(evaluator);
+		setMaxBatchSize(maxBatchSize);
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription){
+
+		if(this.subscription != null){
+			subscription.cancel();
+
+			return;
+		}
+
+		this.subscription = Objects.requireNonNull(subscription);
+
+		scheduleDrain();
+	}
+
+	@Override
+	public void onNext(Map<String, ?> arguments){
+		this.queue.offer(Objects.requireNonNull(arguments));
+
+		scheduleDrain();
+	}
+
+	@Override
+	public void onError(Throwable throwable){
+		this.failure = Objects.requireNonNull(throwable);
+		this.completed = true;
+
+		scheduleDrain();
+	}
+
+	@Override
+	public void onComplete(){
+		this.completed = true;
+
+		scheduleDrain();
+	}
+
+	/**
+	 * <p>
+	 * Subscribes a subscriber.
+	 * Demand signals of the subscriber trigger requests to the upstream.
+	 * </p>
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super Map<String, ?>> subscriber){
+		Objects.requireNonNull(subscriber);
+
+		Flow.Subscriber<Map<String, ?>> demandTrackingSubscriber = new Flow.Subscriber<Map<String, ?>>(){
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription){
+				subscriber.onSubscribe(trackDemand(subscription));
+			}
+
+			@Override
+			public void onNext(Map<String, ?> results){
+				subscriber.onNext(results);
+
+				// Consuming a result map frees up buffer space
+				if(EvaluatorProcessor.this.throttled){
+					EvaluatorProcessor.this.throttled = false;
+
+					scheduleDrain();
+				}
+			}
+
+			@Override
+			public void onError(Throwable throwable){
+				subscriber.onError(throwable);
+			}
+
+			@Override
+			public void onComplete(){
+				subscriber.onComplete();
+			}
+		};
+
+		super.subscribe(demandTrackingSubscriber);
+	}
+
+	private Flow.Subscription trackDemand(Flow.Subscription subscription){
+		return new Flow.Subscription(){
+
+			@Override
+			public void request(long n){
+				subscription.request(n);
+
+				scheduleDrain();
+			}
+
+			@Override
+			public void cancel(){
+				subscription.cancel();
+
+				scheduleDrain();
+			}
+		};
+	}
+
+	private void scheduleDrain(){
+
+		if(this.pendingDrains.getAndIncrement() != 0){
+			return;
+		}
+
+		Runnable runnable = new Runnable(){
+
+			@Override
+			public void run(){
+				drain();
+			}
+		};
+
+		Executor executor = getExecutor();
+
+		executor.execute(runnable);
+	}
+
+	/**
+	 * <p>
+	 * Drains the queue.
+	 * At most one thread is draining at any time.
+	 * </p>
+	 */
+	private void drain(){
+		int missed = 1;
+
+		while(true){
+
+			if(!this.terminated){
+				drainBatches();
+			}
+
+			missed = this.pendingDrains.addAndGet(-missed);
+			if(missed == 0){
+				break;
+			}
+		}
+	}
+
+	private void drainBatches(){
+		Evaluator evaluator = getEvaluator();
+		int maxBatchSize = getMaxBatchSize();
+
+		while(true){
+			// Must be read before polling the queue
+			boolean completed = this.completed;
+
+			List<Map<String, ?>> argumentsList = new ArrayList<>();
+
+			while(argumentsList.size() < maxBatchSize){
+				Map<String, ?> arguments = this.queue.poll();
+
+				if(arguments == null){
+					break;
+				}
+
+				argumentsList.add(arguments);
+			}
+
+			if(argumentsList.isEmpty()){
+
+				if(completed){
+					this.terminated = true;
+
+					Throwable failure = this.failure;
+					if(failure != null){
+						closeExceptionally(failure);
+					} else
+
+					{
+						close();
+					}
+				}
+
+				if(!completed){
+					requestUpstream();
+				}
+
+				return;
+			}
+
+			try {
+				List<Map<String, ?>> resultsList = EvaluatorUtil.evaluateAll(evaluator, argumentsList);
+
+				for(Map<String, ?> results : resultsList){
+					offer(results, null);
+				}
+			} catch(RuntimeException re){
+				this.terminated = true;
+
+				this.subscription.cancel();
+				this.queue.clear();
+
+				closeExceptionally(re);
+
+				return;
+			}
+
+			this.outstanding -= argumentsList.size();
+		}
+	}
+
+	private void requestUpstream(){
+		Flow.Subscription subscription = this.subscription;
+		int maxBatchSize = getMaxBatchSize();
+
+		if(subscription == null){
+			return;
+		}
+
+		// Must be set before estimating the lag, so that a subscriber that catches up in the meantime schedules another drain
+		this.throttled = true;
+
+		// Zero if there are no subscribers
+		long demand = Math.min(estimateMinimumDemand(), maxBatchSize);
+
+		long capacity = (getMaxBufferCapacity() - estimateMaximumLag());
+		if(capacity >= demand){
+			this.throttled = false;
+		} else
+
+		{
+			demand = capacity;
+		}
+
+		long n = (demand - this.outstanding);
+		if(n > 0){
+			this.outstanding += n;
+
+			subscription.request(n);
+		}
+	}
+
+	public Evaluator getEvaluator(){
+		return this.evaluator;
+	}
+
+	private void setEvaluator(Evaluator evaluator){
+		this.evaluator = Objects.requireNonNull(evaluator);
+	}
+
+	public int getMaxBatchSize(){
+		return this.maxBatchSize;
+	}
+
+	private void setMaxBatchSize(int maxBatchSize){
+
+		if(maxBatchSize < 1){
+			throw new IllegalArgumentException();
+		}
+
+		this.maxBatchSize = maxBatchSize;
+	}
+}
\ No newline at end of file
@@ -74,6 +74,38 @@ public class EvaluatorUtil {
 		return object;
 	}
 
+	/**
+	 * <p>
+	 * Evaluates a batch of argument maps.
+	 * </p>
+	 *
+	 * <p>
+	 * Model evaluators reuse a single evaluation context across the whole batch.
+	 * </p>
+	 */
+	static
+	public List<Map<String, ?>> evaluateAll(Evaluator evaluator, List<? extends Map<String, ?>> argumentsList){
+		List<Map<String, ?>> resultsList = new ArrayList<>(argumentsList.size());
+
+		if(evaluator instanceof ModelEvaluator){
+			ModelEvaluator<?> modelEvaluator = (ModelEvaluator<?>)evaluator;
+
+			ModelEvaluationContext context = modelEvaluator.createEvaluationContext();
+
+			for(Map<String, ?> arguments : argumentsList){
+				resultsList.add(modelEvaluator.evaluate(arguments, context));
+			}
+		} else
+
+		{
+			for(Map<String, ?> arguments : argumentsList){
+				resultsList.add(evaluator.evaluate(arguments));
+			}
+		}
+
+		return resultsList;
+	}
+
 	/**
 	 * <p>
 	 * Decouples a {@link Map} instance from the current runtime environment by decoding its values.
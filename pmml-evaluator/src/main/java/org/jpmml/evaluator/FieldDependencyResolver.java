@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.LocalTransformations;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Output;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.VisitorAction;
+import org.jpmml.evaluator.java.JavaModel;
+import org.jpmml.model.visitors.ActiveFieldFinder;
+
+/**
+ * <p>
+ * A field dependency graph over the {@link org.dmg.pmml.TransformationDictionary}, {@link LocalTransformations} and {@link Output} elements of a model.
+ * </p>
+ *
+ * <p>
+ * Field references are resolved in the scope of the model.
+ * A name that matches several field declarations (eg. an output field and a derived field) depends on all of them.
+ * The resulting dependency sets are conservative, in the sense that they may contain fields that are not strictly needed,
+ * but never omit a field that is.
+ * </p>
+ */
+public class FieldDependencyResolver {
+
+	private ModelEvaluator<?> modelEvaluator = null;
+
+	private Set<String> modelDependencies = null;
+
+	private Map<String, Set<String>> dependencies = new HashMap<>();
+
+
+	public FieldDependencyResolver(ModelEvaluator<?> modelEvaluator){
+		setModelEvaluator(modelEvaluator);
+	}
+
+	/**
+	 * <p>
+	 * Gets the names of fields that are referenced by the model body.
+	 * </p>
+	 *
+	 * <p>
+	 * The model body is everything except for the top-level {@link LocalTransformations} and {@link Output} elements.
+	 * Nested models are part of the model body.
+	 * </p>
+	 */
+	public Set<String> getModelDependencies(){
+
+		if(this.modelDependencies == null){
+			this.modelDependencies = Collections.unmodifiableSet(collectModelDependencies());
+		}
+
+		return this.modelDependencies;
+	}
+
+	/**
+	 * <p>
+	 * Gets the names of fields that the specified field refers to directly.
+	 * </p>
+	 *
+	 * @return The dependencies of a derived field or an output field.
+	 * An empty set for all other fields.
+	 */
+	public Set<String> getDependencies(String name){
+		Set<String> result = this.dependencies.get(name);
+
+		if(result == null){
+			result = Collections.unmodifiableSet(collectDependencies(name));
+
+			this.dependencies.put(name, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets the names of fields that the specified fields refer to either directly or indirectly.
+	 * </p>
+	 *
+	 * @return A set of field names, which includes the specified field names.
+	 */
+	public Set<String> resolve(Collection<String> names){
+		Set<String> result = new LinkedHashSet<>(names);
+
+		Deque<String> queue = new ArrayDeque<>(names);
+
+		while(!queue.isEmpty()){
+			String name = queue.pop();
+
+			Set<String> dependencies = getDependencies(name);
+			for(String dependency : dependencies){
+
+				if(result.add(dependency)){
+					queue.push(dependency);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private Set<String> collectModelDependencies(){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+
+		Model model = modelEvaluator.getModel();
+
+		LocalTransformations localTransformations = model.getLocalTransformations();
+		Output output = model.getOutput();
+
+		ActiveFieldFinder activeFieldFinder = new ActiveFieldFinder(){
+
+			@Override
+			public VisitorAction visit(LocalTransformations object){
+
+				if(Objects.equals(localTransformations, object)){
+					return VisitorAction.SKIP;
+				}
+
+				return super.visit(object);
+			}
+
+			@Override
+			public VisitorAction visit(Output object){
+
+				if(Objects.equals(output, object)){
+					return VisitorAction.SKIP;
+				}
+
+				return super.visit(object);
+			}
+		};
+
+		Set<String> result = new LinkedHashSet<>(ActiveFieldFinder.getFieldNames(activeFieldFinder, model));
+
+		// Models that consume active fields without referencing them by name
+		if((modelEvaluator instanceof HasGroupFields) || (modelEvaluator instanceof HasOrderFields) || (model instanceof JavaModel)){
+			List<InputField> activeFields = modelEvaluator.getActiveFields();
+
+			for(InputField activeField : activeFields){
+				result.add(activeField.getName());
+			}
+		}
+
+		return result;
+	}
+
+	private Set<String> collectDependencies(String name){
+		ModelEvaluator<?> modelEvaluator = getModelEvaluator();
+
+		Set<String> result = new LinkedHashSet<>();
+
+		org.dmg.pmml.OutputField outputField = modelEvaluator.getOutputField(name);
+		if(outputField != null){
+			collectDependencies(outputField, result);
+		}
+
+		DerivedField localDerivedField = modelEvaluator.getLocalDerivedField(name);
+		if(localDerivedField != null){
+			collectDependencies(localDerivedField, result);
+		}
+
+		DerivedField derivedField = modelEvaluator.getDerivedField(name);
+		if(derivedField != null){
+			collectDependencies(derivedField, result);
+		}
+
+		result.remove(name);
+
+		return result;
+	}
+
+	private void collectDependencies(PMMLObject object, Set<String> result){
+		Set<String> names = ActiveFieldFinder.getFieldNames(object);
+
+		result.addAll(names);
+	}
+
+	public ModelEvaluator<?> getModelEvaluator(){
+		return this.modelEvaluator;
+	}
+
+	private void setModelEvaluator(ModelEvaluator<?> modelEvaluator){
+		this.modelEvaluator = Objects.requireNonNull(modelEvaluator);
+	}
+}
\ No newline at end of file
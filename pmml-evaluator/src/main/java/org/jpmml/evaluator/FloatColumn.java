@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.dmg.pmml.DataType;
+
+public class FloatColumn extends PrimitiveColumn<Float> {
+
+	private FloatBuffer values = null;
+
+
+	public FloatColumn(int initialCapacity){
+		this.values = FloatBuffer.allocate(initialCapacity);
+	}
+
+	/**
+	 * <p>
+	 * Wraps existing values, such as a memory-mapped file region.
+	 * The buffer is indexed absolutely, and is not copied until the column needs to grow, or is modified while read-only.
+	 * </p>
+	 *
+	 * @param missing The missing value bitmap.
+	 */
+	public FloatColumn(FloatBuffer values, BitSet missing){
+		super(values.capacity(), missing);
+
+		this.values = values;
+	}
+
+	@Override
+	public DataType getDataType(){
+		return DataType.FLOAT;
+	}
+
+	/**
+	 * <p>
+	 * Gets the value without boxing.
+	 * The result is undefined if the value is missing.
+	 * </p>
+	 *
+	 * @see #isMissing(int)
+	 */
+	public float getFloat(int index){
+		checkIndex(index);
+
+		return this.values.get(index);
+	}
+
+	public void setFloat(int index, float value){
+		checkIndex(index);
+
+		ensureWritable().put(index, value);
+
+		setMissing(index, false);
+	}
+
+	public void addFloat(float value){
+		int index = append();
+
+		ensureWritable().put(index, value);
+
+		setMissing(index, false);
+	}
+
+	@Override
+	protected int capacity(){
+		return this.values.capacity();
+	}
+
+	@Override
+	protected void grow(int minCapacity){
+		int capacity = Math.max(this.values.capacity(), minCapacity);
+
+		if(this.values.hasArray() && this.values.arrayOffset() == 0){
+			this.values = FloatBuffer.wrap(Arrays.copyOf(this.values.array(), capacity));
+		} else
+
+		{
+			FloatBuffer values = FloatBuffer.allocate(capacity);
+
+			for(int i = 0, max = size(); i < max; i++){
+				values.put(i, this.values.get(i));
+			}
+
+			this.values = values;
+		}
+	}
+
+	private FloatBuffer ensureWritable(){
+
+		if(this.values.isReadOnly()){
+			grow(capacity());
+		}
+
+		return this.values;
+	}
+
+	@Override
+	protected Float getValue(int index){
+		return this.values.get(index);
+	}
+
+	@Override
+	protected void setValue(int index, Object value){
+
+		if(value instanceof Number){
+			Number number = (Number)value;
+
+			ensureWritable().put(index, number.floatValue());
+		} else
+
+		if(value instanceof String){
+			String string = (String)value;
+
+			ensureWritable().put(index, NumberFormatUtil.parseFloat(string));
+		} else
+
+		{
+			throw new IllegalArgumentException("Expected number or string, got " + value.getClass().getName());
+		}
+	}
+}
\ No newline at end of file
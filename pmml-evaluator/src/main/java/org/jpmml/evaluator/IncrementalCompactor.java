@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.xml.bind.Unmarshaller;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.jpmml.model.visitors.ArrayListTrimmer;
+import org.jpmml.model.visitors.DoubleInterner;
+import org.jpmml.model.visitors.FloatInterner;
+import org.jpmml.model.visitors.IntegerInterner;
+import org.jpmml.model.visitors.StringInterner;
+
+/**
+ * <p>
+ * An unmarshaller listener that compacts PMML class model objects while the PMML XML input stream is still being loaded.
+ * </p>
+ *
+ * <p>
+ * The compaction is limited to context-free operations, which yield the same result irrespective of the surrounding document.
+ * SAX Locator information is discarded element by element, and the attributes of every innermost {@link Segment} element
+ * (ie. a segment that does not contain a nested ensemble model) are interned as soon as the segment has been fully unmarshalled.
+ * Every innermost segment is processed exactly once.
+ * The outer levels of nested ensemble models are not processed.
+ * </p>
+ *
+ * <p>
+ * This reduces the peak memory consumption of loading a large ensemble model,
+ * because duplicate attribute values of a segment become garbage before the next segment is unmarshalled.
+ * The actual savings depend on the model, and on the JAXB runtime.
+ * </p>
+ *
+ * <p>
+ * Context-sensitive operations (eg. parsing values according to field data types) must still be performed
+ * on the complete PMML class model object.
+ * </p>
+ *
+ * @see LoadingModelEvaluatorBuilder#setIncremental(boolean)
+ */
+public class IncrementalCompactor extends Unmarshaller.Listener {
+
+	private boolean locatable = false;
+
+	private List<Visitor> visitors = null;
+
+
+	public IncrementalCompactor(boolean locatable){
+		this(locatable, Arrays.asList(new StringInterner(), new IntegerInterner(), new FloatInterner(), new DoubleInterner(), new ArrayListTrimmer()));
+	}
+
+	public IncrementalCompactor(boolean locatable, List<Visitor> visitors){
+		this.locatable = locatable;
+		this.visitors = visitors;
+	}
+
+	@Override
+	public void afterUnmarshal(Object target, Object parent){
+
+		if(!this.locatable && (target instanceof PMMLObject)){
+			PMMLObject object = (PMMLObject)target;
+
+			object.setLocator(null);
+		} // End if
+
+		if(target instanceof Segment){
+			Segment segment = (Segment)target;
+
+			// The segments of a nested ensemble model have already been processed
+			if(segment.getModel() instanceof MiningModel){
+				return;
+			}
+
+			for(Visitor visitor : this.visitors){
+				visitor.applyTo(segment);
+			}
+		}
+	}
+
+	public boolean getLocatable(){
+		return this.locatable;
+	}
+
+	public List<Visitor> getVisitors(){
+		return this.visitors;
+	}
+}
\ No newline at end of file
@@ -195,6 +195,56 @@ class LevenshteinDistanceUtil {
 		return -1;
 	}
 
+	/**
+	 * <p>
+	 * Prepares a term for repeated comparisons against many text values.
+	 * </p>
+	 *
+	 * @return A bit-parallel matcher, or <code>null</code> if the term is too long.
+	 *
+	 * @see Term#limitedCompare(CharSequence, int)
+	 */
+	static
+	Term compile(String value, boolean caseSensitive){
+		int length = value.length();
+
+		if(length == 0 || length > Long.SIZE){
+			return null;
+		}
+
+		long[] asciiMasks = new long[128];
+
+		for(int i = 0; i < length; i++){
+			char c = value.charAt(i);
+
+			long bit = (1L << i);
+
+			if(caseSensitive){
+
+				if(c < 128){
+					asciiMasks[c] |= bit;
+				}
+			} else
+
+			{
+				char lowerC = Character.toLowerCase(c);
+				char upperC = Character.toUpperCase(c);
+
+				// All characters that are equal to c ignoring case, in terms of the two-way case mapping
+				char[] variants = {c, lowerC, upperC, Character.toUpperCase(lowerC), Character.toLowerCase(upperC)};
+
+				for(char variant : variants){
+
+					if(variant < 128 && equals(c, variant, caseSensitive)){
+						asciiMasks[variant] |= bit;
+					}
+				}
+			}
+		}
+
+		return new Term(value, caseSensitive, asciiMasks);
+	}
+
 	static
 	private boolean equals(char left, char right, boolean caseSensitive){
 
@@ -208,4 +258,120 @@ class LevenshteinDistanceUtil {
 
 		return false;
 	}
+
+	/**
+	 * <p>
+	 * A term that has been preprocessed for bit-parallel edit distance computation,
+	 * as described by Myers (1999) and Hyyr&ouml; (2001).
+	 * </p>
+	 *
+	 * <p>
+	 * The match masks of the term are computed once, and are then reused across all compared text values.
+	 * </p>
+	 */
+	static
+	class Term {
+
+		private String value = null;
+
+		private boolean caseSensitive = false;
+
+		private long[] asciiMasks = null;
+
+
+		private Term(String value, boolean caseSensitive, long[] asciiMasks){
+			this.value = value;
+			this.caseSensitive = caseSensitive;
+			this.asciiMasks = asciiMasks;
+		}
+
+		/**
+		 * <p>
+		 * Finds the Levenshtein distance between this term and the text if it's less than or equal to a given threshold.
+		 * </p>
+		 *
+		 * <p>
+		 * The computation is abandoned as soon as the distance is guaranteed to exceed the threshold.
+		 * </p>
+		 *
+		 * @return result distance, or -1
+		 *
+		 * @see LevenshteinDistanceUtil#limitedCompare(CharSequence, CharSequence, boolean, int)
+		 */
+		int limitedCompare(CharSequence text, int threshold){
+
+			if(threshold < 0){
+				throw new IllegalArgumentException("Threshold must not be negative");
+			}
+
+			int m = this.value.length();
+			int n = text.length();
+
+			if(Math.abs(m - n) > threshold){
+				return -1;
+			}
+
+			long last = (1L << (m - 1));
+
+			long pv = -1L;
+			long mv = 0L;
+
+			int score = m;
+
+			for(int j = 0; j < n; j++){
+				long eq = mask(text.charAt(j));
+
+				long xv = eq | mv;
+				long xh = (((eq & pv) + pv) ^ pv) | eq;
+
+				long ph = mv | ~(xh | pv);
+				long mh = pv & xh;
+
+				if((ph & last) != 0L){
+					score++;
+				} else
+
+				if((mh & last) != 0L){
+					score--;
+				}
+
+				// Every remaining text character can lower the score by at most one
+				if((score - (n - (j + 1))) > threshold){
+					return -1;
+				}
+
+				ph = (ph << 1) | 1L;
+				mh = (mh << 1);
+
+				pv = mh | ~(xv | ph);
+				mv = ph & xv;
+			}
+
+			return (score <= threshold ? score : -1);
+		}
+
+		private long mask(char c){
+
+			if(c < 128){
+				return this.asciiMasks[c];
+			}
+
+			String value = this.value;
+
+			long result = 0L;
+
+			for(int i = 0, max = value.length(); i < max; i++){
+
+				if(LevenshteinDistanceUtil.equals(value.charAt(i), c, this.caseSensitive)){
+					result |= (1L << i);
+				}
+			}
+
+			return result;
+		}
+
+		public String getValue(){
+			return this.value;
+		}
+	}
 }
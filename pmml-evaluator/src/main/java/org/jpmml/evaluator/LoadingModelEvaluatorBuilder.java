@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Source;
@@ -45,6 +46,8 @@ import org.dmg.pmml.adapters.ScoreDistributionAdapter;
 import org.dmg.pmml.tree.NodeTransformer;
 import org.dmg.pmml.tree.SimplifyingNodeTransformer;
 import org.jpmml.evaluator.visitors.ModelEvaluatorVisitorBattery;
+import org.jpmml.evaluator.visitors.SegmentSerializer;
+import org.jpmml.evaluator.visitors.VisitorBatteryUtil;
 import org.jpmml.model.JAXBUtil;
 import org.jpmml.model.SAXUtil;
 import org.jpmml.model.filters.ImportFilter;
@@ -99,6 +102,22 @@ import org.xml.sax.XMLFilter;
  *   .transform(pmml -> transpile(pmml))
  *   .build();
  * }</pre>
+ *
+ * <strong>Delta loading example</strong>
+ * <pre>{@code
+ * LoadingModelEvaluatorBuilder evaluatorBuilder = new LoadingModelEvaluatorBuilder()
+ *   .setDeltaLoading(true);
+ *
+ * ModelEvaluator<?> firstEvaluator = evaluatorBuilder
+ *   .load(new File("model-v1.pmml"))
+ *   .build();
+ *
+ * // Only segments that were added or changed by retraining are optimized anew
+ * ModelEvaluator<?> secondEvaluator = evaluatorBuilder
+ *   .setBaseline(firstEvaluator)
+ *   .load(new File("model-v2.pmml"))
+ *   .build();
+ * }</pre>
  */
 public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 
@@ -114,8 +133,22 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 
 	private boolean mutable = false;
 
+	private boolean incremental = false;
+
+	private boolean serializedSegments = false;
+
 	private VisitorBattery visitors = new ModelEvaluatorVisitorBattery();
 
+	private ExecutorService executorService = null;
+
+	private boolean deltaLoading = false;
+
+	private ModelEvaluator<?> baseline = null;
+
+	private StructuralDigest structuralDigest = null;
+
+	private ModelDelta modelDelta = null;
+
 
 	public LoadingModelEvaluatorBuilder(){
 	}
@@ -145,7 +178,12 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		List<? extends XMLFilter> filters = getFilters();
 		boolean locatable = getLocatable();
 		boolean mutable = getMutable();
+		boolean incremental = getIncremental();
+		boolean serializedSegments = getSerializedSegments();
 		VisitorBattery visitors = getVisitors();
+		ExecutorService executorService = getExecutorService();
+		boolean deltaLoading = getDeltaLoading();
+		ModelEvaluator<?> baseline = getBaseline();
 
 		if(jaxbContext == null){
 			jaxbContext = JAXBUtil.getContext();
@@ -155,6 +193,10 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		unmarshaller.setSchema(schema);
 		unmarshaller.setEventHandler(validationEventHandler);
 
+		if(incremental){
+			unmarshaller.setListener(new IncrementalCompactor(locatable));
+		}
+
 		if(filters == null){
 			filters = Collections.singletonList(new ImportFilter());
 		}
@@ -180,14 +222,52 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 
 		locatorHandler.applyTo(pmml);
 
-		if(visitors != null && !visitors.isEmpty()){
-			visitors.applyTo(pmml);
+		StructuralDigest structuralDigest = null;
+
+		ModelDelta modelDelta = null;
+
+		if(deltaLoading || baseline != null){
+			Model model = PMMLUtil.findModel(pmml, modelName);
+
+			structuralDigest = StructuralDigest.compute(pmml, model, visitors);
+
+			if(baseline != null){
+				modelDelta = ModelDelta.compute(baseline, structuralDigest, model);
+
+				modelDelta.hide();
+			}
+		}
+
+		try {
+			if(visitors != null && !visitors.isEmpty()){
+
+				if(executorService != null){
+					VisitorBatteryUtil.applyTo(visitors, pmml, executorService);
+				} else
+
+				{
+					visitors.applyTo(pmml);
+				}
+			}
+		} finally {
+
+			if(modelDelta != null){
+				modelDelta.adopt();
+			}
+		}
+
+		if(serializedSegments){
+			Visitor segmentSerializer = new SegmentSerializer();
+
+			segmentSerializer.applyTo(pmml);
 		}
 
 		Model model = PMMLUtil.findModel(pmml, modelName);
 
 		setPMML(pmml);
 		setModel(model);
+		setStructuralDigest(structuralDigest);
+		setModelDelta(modelDelta);
 
 		return this;
 	}
@@ -215,6 +295,19 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		return this;
 	}
 
+	@Override
+	public ModelEvaluator<?> build(){
+		StructuralDigest structuralDigest = getStructuralDigest();
+
+		ModelEvaluator<?> modelEvaluator = super.build();
+
+		if(structuralDigest != null){
+			modelEvaluator.setStructuralDigest(structuralDigest);
+		}
+
+		return modelEvaluator;
+	}
+
 	@Override
 	public LoadingModelEvaluatorBuilder clone(){
 		return (LoadingModelEvaluatorBuilder)super.clone();
@@ -255,6 +348,11 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		return (LoadingModelEvaluatorBuilder)super.setFunctionGuard(functionGuard);
 	}
 
+	@Override
+	public LoadingModelEvaluatorBuilder setStackTraceEnabled(boolean stackTraceEnabled){
+		return (LoadingModelEvaluatorBuilder)super.setStackTraceEnabled(stackTraceEnabled);
+	}
+
 	@Override
 	public LoadingModelEvaluatorBuilder setExtraResultFeatures(Set<ResultFeature> extraResultFeatures){
 		return (LoadingModelEvaluatorBuilder)super.setExtraResultFeatures(extraResultFeatures);
@@ -265,6 +363,16 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		return (LoadingModelEvaluatorBuilder)super.setCheckSchema(checkSchema);
 	}
 
+	@Override
+	public LoadingModelEvaluatorBuilder setPruneOutputFields(boolean pruneOutputFields){
+		return (LoadingModelEvaluatorBuilder)super.setPruneOutputFields(pruneOutputFields);
+	}
+
+	@Override
+	public LoadingModelEvaluatorBuilder setStripNonScoringElements(boolean stripNonScoringElements){
+		return (LoadingModelEvaluatorBuilder)super.setStripNonScoringElements(stripNonScoringElements);
+	}
+
 	public JAXBContext getJAXBContext(){
 		return this.jaxbContext;
 	}
@@ -344,6 +452,51 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		return this;
 	}
 
+	public boolean getIncremental(){
+		return this.incremental;
+	}
+
+	/**
+	 * <p>
+	 * Should PMML class model objects be compacted incrementally (ie. segment by segment), while the PMML XML input stream is still being loaded?
+	 * </p>
+	 *
+	 * <p>
+	 * May reduce the peak memory consumption of loading large ensemble models.
+	 * </p>
+	 *
+	 * @see IncrementalCompactor
+	 */
+	public LoadingModelEvaluatorBuilder setIncremental(boolean incremental){
+		this.incremental = incremental;
+
+		return this;
+	}
+
+	public boolean getSerializedSegments(){
+		return this.serializedSegments;
+	}
+
+	/**
+	 * <p>
+	 * Should the segments of <code>selectFirst</code> and <code>modelChain</code> segmentations be kept in serialized and compressed form,
+	 * and decoded on first use?
+	 * </p>
+	 *
+	 * <p>
+	 * Reduces the memory consumption of large ensemble models, where most rows are scored by a small subset of segments.
+	 * Decoded segments are softly referenced, and may be reclaimed under memory pressure.
+	 * </p>
+	 *
+	 * @see SegmentSerializer
+	 * @see org.jpmml.evaluator.mining.SerializedSegment
+	 */
+	public LoadingModelEvaluatorBuilder setSerializedSegments(boolean serializedSegments){
+		this.serializedSegments = serializedSegments;
+
+		return this;
+	}
+
 	public VisitorBattery getVisitors(){
 		return this.visitors;
 	}
@@ -353,4 +506,95 @@ public class LoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 
 		return this;
 	}
+
+	public ExecutorService getExecutorService(){
+		return this.executorService;
+	}
+
+	/**
+	 * <p>
+	 * Should the visitor battery process the segments of ensemble models in parallel?
+	 * </p>
+	 *
+	 * @see VisitorBatteryUtil#applyTo(VisitorBattery, PMML, ExecutorService)
+	 */
+	public LoadingModelEvaluatorBuilder setExecutorService(ExecutorService executorService){
+		this.executorService = executorService;
+
+		return this;
+	}
+
+	public boolean getDeltaLoading(){
+		return this.deltaLoading;
+	}
+
+	/**
+	 * <p>
+	 * Should the digest tree of ensemble models be computed,
+	 * so that the resulting model evaluator can serve as the baseline for loading a retrained version of the same model?
+	 * </p>
+	 *
+	 * <p>
+	 * Incremental compaction applies Visitors while the PMML XML input stream is still being loaded,
+	 * before unchanged segments can be identified, so it does not benefit from delta loading.
+	 * Locatable PMML class model objects record line numbers,
+	 * so an edit makes every subsequent segment appear changed.
+	 * </p>
+	 *
+	 * @see StructuralDigest
+	 * @see #setBaseline(ModelEvaluator)
+	 */
+	public LoadingModelEvaluatorBuilder setDeltaLoading(boolean deltaLoading){
+		this.deltaLoading = deltaLoading;
+
+		return this;
+	}
+
+	public ModelEvaluator<?> getBaseline(){
+		return this.baseline;
+	}
+
+	/**
+	 * <p>
+	 * Should unchanged segments be adopted from a previously built model evaluator, rather than optimized anew?
+	 * </p>
+	 *
+	 * <p>
+	 * The baseline must have been built with delta loading enabled, using the same Visitor battery.
+	 * Adopted segments are hidden from the Visitor battery.
+	 * They are visible to {@link #transform(PMMLTransformer) transformations}, which should therefore be idempotent.
+	 * The resulting model evaluator does not reference the baseline model evaluator.
+	 * </p>
+	 *
+	 * @see ModelDelta
+	 * @see #getModelDelta()
+	 */
+	public LoadingModelEvaluatorBuilder setBaseline(ModelEvaluator<?> baseline){
+		this.baseline = baseline;
+
+		return this;
+	}
+
+	public StructuralDigest getStructuralDigest(){
+		return this.structuralDigest;
+	}
+
+	private void setStructuralDigest(StructuralDigest structuralDigest){
+		this.structuralDigest = structuralDigest;
+	}
+
+	/**
+	 * <p>
+	 * Gets the difference between the baseline and the most recently loaded model.
+	 * </p>
+	 *
+	 * @return The model delta, or <code>null</code> if no baseline was specified.
+	 */
+	public ModelDelta getModelDelta(){
+		return this.modelDelta;
+	}
+
+	private void setModelDelta(ModelDelta modelDelta){
+		this.modelDelta = modelDelta;
+	}
 }
\ No newline at end of file
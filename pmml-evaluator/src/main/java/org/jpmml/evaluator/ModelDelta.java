@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.mining.Segmentation;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * The difference between a baseline model evaluator and a freshly loaded ensemble model, at the level of segments.
+ * </p>
+ *
+ * <p>
+ * A segment is adopted if the baseline contains a segment with the same digest in the same segmentation context.
+ * The adopted segment is the baseline's already optimized segment element, which replaces the freshly loaded one.
+ * Compiled evaluation structures are cached by element identity, so they carry over as well.
+ * </p>
+ *
+ * <p>
+ * Segments of independent segmentations are matched by digest, irrespective of their position.
+ * Segments of model chain segmentations depend on the output fields of earlier segments,
+ * so only the unchanged leading segments are adopted.
+ * A changed segment that contains a nested ensemble model is matched recursively against the baseline segment at the same position.
+ * </p>
+ *
+ * @see LoadingModelEvaluatorBuilder#setBaseline(ModelEvaluator)
+ * @see StructuralDigest
+ */
+public class ModelDelta {
+
+	private List<Adoption> adoptions = new ArrayList<>();
+
+	private int rebuiltSegments = 0;
+
+
+	private ModelDelta(){
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of segments that were adopted from the baseline.
+	 * </p>
+	 */
+	public int getAdoptedSegments(){
+		return this.adoptions.size();
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of segments that were loaded and optimized anew.
+	 * Segments that contain adopted nested segments are counted here.
+	 * </p>
+	 */
+	public int getRebuiltSegments(){
+		return this.rebuiltSegments;
+	}
+
+	/**
+	 * <p>
+	 * Replaces adopted segments with stand-ins, which hide their content from Visitors.
+	 * </p>
+	 */
+	void hide(){
+
+		for(Adoption adoption : this.adoptions){
+			(adoption.segmentation.getSegments()).set(adoption.index, new AdoptedSegment(adoption.segment));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Replaces stand-ins with adopted segments.
+	 * </p>
+	 */
+	void adopt(){
+
+		for(Adoption adoption : this.adoptions){
+			(adoption.segmentation.getSegments()).set(adoption.index, adoption.segment);
+		}
+	}
+
+	private void match(StructuralDigest baselineDigest, MiningModel baselineMiningModel, StructuralDigest digest, MiningModel miningModel){
+		List<Segment> baselineSegments = getSegments(baselineMiningModel);
+		List<Segment> segments = getSegments(miningModel);
+
+		if(!Arrays.equals(baselineDigest.getContext(), digest.getContext()) || (baselineSegments.size() != baselineDigest.size())){
+			this.rebuiltSegments += segments.size();
+
+			return;
+		}
+
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		Segmentation.MultipleModelMethod multipleModelMethod = segmentation.requireMultipleModelMethod();
+		switch(multipleModelMethod){
+			case MODEL_CHAIN:
+			case MULTI_MODEL_CHAIN:
+				matchPrefix(baselineDigest, baselineSegments, digest, segmentation, segments);
+				break;
+			default:
+				matchAny(baselineDigest, baselineSegments, digest, segmentation, segments);
+				break;
+		}
+	}
+
+	private void matchPrefix(StructuralDigest baselineDigest, List<Segment> baselineSegments, StructuralDigest digest, Segmentation segmentation, List<Segment> segments){
+		int index = 0;
+
+		for(int max = Math.min(baselineSegments.size(), segments.size()); index < max; index++){
+
+			if(!Arrays.equals(baselineDigest.getSegment(index), digest.getSegment(index))){
+				break;
+			}
+
+			this.adoptions.add(new Adoption(segmentation, index, baselineSegments.get(index)));
+		}
+
+		for(int i = index; i < segments.size(); i++){
+
+			if(i == index && i < baselineSegments.size()){
+				matchChild(baselineDigest, baselineSegments, i, digest, segments, i);
+			} else
+
+			{
+				this.rebuiltSegments++;
+			}
+		}
+	}
+
+	private void matchAny(StructuralDigest baselineDigest, List<Segment> baselineSegments, StructuralDigest digest, Segmentation segmentation, List<Segment> segments){
+		Map<ByteBuffer, Deque<Integer>> baselineIndices = new HashMap<>();
+
+		for(int i = 0; i < baselineSegments.size(); i++){
+			ByteBuffer key = ByteBuffer.wrap(baselineDigest.getSegment(i));
+
+			Deque<Integer> indices = baselineIndices.get(key);
+			if(indices == null){
+				indices = new ArrayDeque<>();
+
+				baselineIndices.put(key, indices);
+			}
+
+			indices.add(i);
+		}
+
+		boolean[] adopted = new boolean[baselineSegments.size()];
+
+		List<Integer> unmatchedIndices = new ArrayList<>();
+
+		for(int i = 0; i < segments.size(); i++){
+			Deque<Integer> indices = baselineIndices.get(ByteBuffer.wrap(digest.getSegment(i)));
+
+			Integer baselineIndex = (indices != null ? indices.pollFirst() : null);
+			if(baselineIndex != null){
+				adopted[baselineIndex] = true;
+
+				this.adoptions.add(new Adoption(segmentation, i, baselineSegments.get(baselineIndex)));
+			} else
+
+			{
+				unmatchedIndices.add(i);
+			}
+		}
+
+		for(Integer i : unmatchedIndices){
+
+			if(i < baselineSegments.size() && !adopted[i]){
+				matchChild(baselineDigest, baselineSegments, i, digest, segments, i);
+			} else
+
+			{
+				this.rebuiltSegments++;
+			}
+		}
+	}
+
+	private void matchChild(StructuralDigest baselineDigest, List<Segment> baselineSegments, int baselineIndex, StructuralDigest digest, List<Segment> segments, int index){
+		StructuralDigest baselineChild = baselineDigest.getChild(baselineIndex);
+		StructuralDigest child = digest.getChild(index);
+
+		this.rebuiltSegments++;
+
+		if(baselineChild == null || child == null){
+			return;
+		}
+
+		Model baselineModel = (baselineSegments.get(baselineIndex)).getModel();
+		Model model = (segments.get(index)).getModel();
+
+		if((baselineModel instanceof MiningModel) && (model instanceof MiningModel)){
+			match(baselineChild, (MiningModel)baselineModel, child, (MiningModel)model);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Matches a freshly loaded model against a baseline model evaluator.
+	 * </p>
+	 *
+	 * @param baseline A model evaluator that was built with delta loading enabled.
+	 * @param digest The digest tree of the freshly loaded model.
+	 * @param model The freshly loaded model.
+	 */
+	static
+	public ModelDelta compute(ModelEvaluator<?> baseline, StructuralDigest digest, Model model){
+		ModelDelta result = new ModelDelta();
+
+		if(digest == null){
+			return result;
+		}
+
+		StructuralDigest baselineDigest = baseline.getStructuralDigest();
+		Model baselineModel = baseline.getModel();
+
+		if(baselineDigest != null && (baselineModel instanceof MiningModel) && (model instanceof MiningModel)){
+			result.match(baselineDigest, (MiningModel)baselineModel, digest, (MiningModel)model);
+		} else
+
+		{
+			result.rebuiltSegments += digest.size();
+		}
+
+		return result;
+	}
+
+	static
+	private List<Segment> getSegments(MiningModel miningModel){
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		if(segmentation.hasSegments()){
+			return segmentation.getSegments();
+		}
+
+		return Collections.emptyList();
+	}
+
+	static
+	private class Adoption {
+
+		private Segmentation segmentation = null;
+
+		private int index = 0;
+
+		private Segment segment = null;
+
+
+		private Adoption(Segmentation segmentation, int index, Segment segment){
+			this.segmentation = segmentation;
+			this.index = index;
+			this.segment = segment;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A stand-in for an adopted segment.
+	 * </p>
+	 *
+	 * <p>
+	 * Visitors do not visit the segment itself, nor descend into it.
+	 * The model remains accessible, so that the output fields of adopted segments stay visible to later segments of a model chain.
+	 * </p>
+	 */
+	static
+	private class AdoptedSegment extends Segment {
+
+		private Segment segment = null;
+
+
+		private AdoptedSegment(Segment segment){
+			List<Field> fields = ReflectionUtil.getFields(Segment.class);
+
+			for(Field field : fields){
+				ReflectionUtil.setFieldValue(field, this, ReflectionUtil.getFieldValue(field, segment));
+			}
+
+			this.segment = segment;
+		}
+
+		@Override
+		public Model getModel(){
+			return this.segment.getModel();
+		}
+
+		@Override
+		public Model requireModel(){
+			return this.segment.requireModel();
+		}
+
+		@Override
+		public VisitorAction accept(Visitor visitor){
+			return VisitorAction.CONTINUE;
+		}
+	}
+}
\ No newline at end of file
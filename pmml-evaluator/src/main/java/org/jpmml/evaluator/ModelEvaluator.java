@@ -18,7 +18,9 @@
  */
 package org.jpmml.evaluator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -27,6 +29,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -41,6 +45,7 @@ import org.dmg.pmml.MiningField;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.Model;
 import org.dmg.pmml.ModelVerification;
+import org.dmg.pmml.Output;
 import org.dmg.pmml.PMML;
 import org.dmg.pmml.ResultFeature;
 import org.dmg.pmml.VerificationField;
@@ -57,14 +62,28 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 
 	private Configuration configuration = null;
 
+	transient
 	private ValueFactory<?> valueFactory = null;
 
+	transient
 	private Boolean parentCompatible = null;
 
+	transient
 	private Boolean pure = null;
 
+	transient
 	private Integer numberOfVisibleFields = null;
 
+	private boolean stripped = false;
+
+	private StructuralDigest structuralDigest = null;
+
+	transient
+	private Set<String> liveOutputFieldNames = null;
+
+	transient
+	private List<InputField> requiredInputFields = null;
+
 
 	protected ModelEvaluator(){
 	}
@@ -99,6 +118,9 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 
 		resetInputFields();
 		resetResultFields();
+
+		this.liveOutputFieldNames = null;
+		this.requiredInputFields = null;
 	}
 
 	/**
@@ -138,6 +160,82 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 		return this.pure;
 	}
 
+	/**
+	 * <p>
+	 * Gets the subset of input fields that are needed for computing target fields and output fields.
+	 * </p>
+	 *
+	 * <p>
+	 * An input field is needed if it is referenced by the model body,
+	 * or by some output field that survives the output filter,
+	 * either directly or via a chain of derived fields.
+	 * The values of all other input fields are never read during evaluation,
+	 * and the application may skip preparing them.
+	 * </p>
+	 *
+	 * @see FieldDependencyResolver
+	 */
+	public List<InputField> getRequiredInputFields(){
+
+		if(this.requiredInputFields == null){
+			this.requiredInputFields = ImmutableList.copyOf(collectRequiredInputFields());
+		}
+
+		return this.requiredInputFields;
+	}
+
+	/**
+	 * <p>
+	 * Indicates if this model evaluator was built from PMML and model elements that have been stripped of non-scoring elements.
+	 * </p>
+	 *
+	 * <p>
+	 * A stripped model evaluator does not support model verification.
+	 * Its {@link #verify()} method throws an {@link IllegalStateException}.
+	 * </p>
+	 *
+	 * @see ModelEvaluatorBuilder#setStripNonScoringElements(boolean)
+	 */
+	public boolean isStripped(){
+		return this.stripped;
+	}
+
+	void setStripped(boolean stripped){
+		this.stripped = stripped;
+	}
+
+	/**
+	 * <p>
+	 * Gets the digest tree of the PMML class model object that this model evaluator was built from.
+	 * </p>
+	 *
+	 * @return The digest tree, or <code>null</code> if delta loading was not enabled.
+	 *
+	 * @see LoadingModelEvaluatorBuilder#setDeltaLoading(boolean)
+	 */
+	public StructuralDigest getStructuralDigest(){
+		return this.structuralDigest;
+	}
+
+	void setStructuralDigest(StructuralDigest structuralDigest){
+		this.structuralDigest = structuralDigest;
+	}
+
+	boolean isLive(org.dmg.pmml.OutputField pmmlOutputField, ModelEvaluationContext context){
+		Configuration configuration = ensureConfiguration();
+
+		// The output fields of a nested model evaluator may be looked up by the parent model evaluator
+		if(!configuration.getPruneOutputFields() || (context.getParent() != null)){
+			return true;
+		} // End if
+
+		if(this.liveOutputFieldNames == null){
+			this.liveOutputFieldNames = ImmutableSet.copyOf(collectLiveOutputFieldNames());
+		}
+
+		return this.liveOutputFieldNames.contains(pmmlOutputField.requireName());
+	}
+
 	protected int getNumberOfVisibleFields(){
 
 		if(this.numberOfVisibleFields == null){
@@ -153,6 +251,10 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 	public ModelEvaluator<M> verify(){
 		M model = getModel();
 
+		if(this.stripped){
+			throw new IllegalStateException("Model verification is not available, because this model evaluator was built from stripped model elements (ModelEvaluatorBuilder#setStripNonScoringElements(boolean)), which leave out the ModelVerification element");
+		}
+
 		ModelVerification modelVerification = model.getModelVerification();
 		if(modelVerification == null){
 			return this;
@@ -264,6 +366,35 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 
 	@Override
 	public Map<String, ?> evaluate(Map<String, ?> arguments){
+		ModelEvaluationContext context = createEvaluationContext();
+
+		return evaluateWith(arguments, context);
+	}
+
+	/**
+	 * <p>
+	 * Evaluates the model using a reusable evaluation context.
+	 * </p>
+	 *
+	 * <p>
+	 * The evaluation context is reset before use.
+	 * Evaluation contexts are not thread safe, and should be confined to a single thread.
+	 * </p>
+	 *
+	 * @param context An evaluation context that was created by {@link #createEvaluationContext()}.
+	 */
+	public Map<String, ?> evaluate(Map<String, ?> arguments, ModelEvaluationContext context){
+
+		if(context.getModelEvaluator() != this){
+			throw new IllegalArgumentException();
+		}
+
+		context.reset(true);
+
+		return evaluateWith(arguments, context);
+	}
+
+	Map<String, ?> evaluateWith(Map<String, ?> arguments, ModelEvaluationContext context){
 		Configuration configuration = ensureConfiguration();
 
 		SymbolTable<String> prevDerivedFieldGuard = null;
@@ -272,9 +403,11 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 		SymbolTable<String> prevFunctionGuard = null;
 		SymbolTable<String> functionGuard = configuration.getFunctionGuard();
 
+		Boolean prevStackTraceEnabled = null;
+		boolean stackTraceEnabled = configuration.isStackTraceEnabled();
+
 		arguments = processArguments(arguments);
 
-		ModelEvaluationContext context = createEvaluationContext();
 		context.setArguments(arguments);
 
 		Map<String, ?> results;
@@ -290,6 +423,12 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 				prevFunctionGuard = EvaluationContext.FUNCTION_GUARD_PROVIDER.get();
 
 				EvaluationContext.FUNCTION_GUARD_PROVIDER.set(functionGuard.fork());
+			} // End if
+
+			if(!stackTraceEnabled){
+				prevStackTraceEnabled = EvaluationContext.STACKTRACE_PROVIDER.get();
+
+				EvaluationContext.STACKTRACE_PROVIDER.set(Boolean.FALSE);
 			}
 
 			results = evaluateInternal(context);
@@ -301,6 +440,10 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 
 			if(functionGuard != null){
 				EvaluationContext.FUNCTION_GUARD_PROVIDER.set(prevFunctionGuard);
+			} // End if
+
+			if(!stackTraceEnabled){
+				EvaluationContext.STACKTRACE_PROVIDER.set(prevStackTraceEnabled);
 			}
 		}
 
@@ -484,6 +627,64 @@ public class ModelEvaluator<M extends Model> extends ModelManager<M> implements
 		return true;
 	}
 
+	private Set<String> collectLiveOutputFieldNames(){
+		M model = getModel();
+
+		Output output = model.getOutput();
+		if(output == null || !output.hasOutputFields()){
+			return Collections.emptySet();
+		}
+
+		FieldDependencyResolver resolver = new FieldDependencyResolver(this);
+
+		Set<String> names = new LinkedHashSet<>();
+
+		List<OutputField> outputFields = getOutputFields();
+		for(OutputField outputField : outputFields){
+
+			if(outputField.getDepth() > 0){
+				continue;
+			}
+
+			names.add(outputField.getName());
+		}
+
+		Set<String> result = resolver.resolve(names);
+		result.retainAll(Lists.transform(output.getOutputFields(), org.dmg.pmml.OutputField::requireName));
+
+		return result;
+	}
+
+	private List<InputField> collectRequiredInputFields(){
+		FieldDependencyResolver resolver = new FieldDependencyResolver(this);
+
+		Set<String> names = new LinkedHashSet<>(resolver.getModelDependencies());
+
+		List<OutputField> outputFields = getOutputFields();
+		for(OutputField outputField : outputFields){
+
+			if(outputField.getDepth() > 0){
+				continue;
+			}
+
+			names.add(outputField.getName());
+		}
+
+		Set<String> requiredNames = resolver.resolve(names);
+
+		List<InputField> result = new ArrayList<>();
+
+		List<InputField> inputFields = getInputFields();
+		for(InputField inputField : inputFields){
+
+			if((inputField instanceof ResidualField) || requiredNames.contains(inputField.getName())){
+				result.add(inputField);
+			}
+		}
+
+		return result;
+	}
+
 	protected Configuration ensureConfiguration(){
 		Configuration configuration = getConfiguration();
 
@@ -45,6 +45,8 @@ public class ModelEvaluatorBuilder implements EvaluatorBuilder, Serializable {
 
 	private boolean checkSchema = true;
 
+	private boolean stripNonScoringElements = false;
+
 
 	protected ModelEvaluatorBuilder(){
 	}
@@ -114,9 +116,19 @@ public class ModelEvaluatorBuilder implements EvaluatorBuilder, Serializable {
 
 		Set<ResultFeature> extraResultFeatures = getExtraResultFeatures();
 
+		boolean stripNonScoringElements = getStripNonScoringElements();
+		if(stripNonScoringElements){
+			model = PMMLUtil.stripModel(model);
+			pmml = PMMLUtil.stripPMML(pmml, model);
+		}
+
 		ModelEvaluator<?> modelEvaluator = modelEvaluatorFactory.newModelEvaluator(pmml, model, extraResultFeatures);
 		modelEvaluator.configure(configuration);
 
+		if(stripNonScoringElements){
+			modelEvaluator.setStripped(true);
+		}
+
 		boolean checkSchema = getCheckSchema();
 		if(checkSchema){
 			checkSchema(modelEvaluator);
@@ -267,6 +279,37 @@ public class ModelEvaluatorBuilder implements EvaluatorBuilder, Serializable {
 		return this;
 	}
 
+	public boolean isStackTraceEnabled(){
+		ConfigurationBuilder configurationBuilder = getConfigurationBuilder();
+
+		return configurationBuilder.isStackTraceEnabled();
+	}
+
+	/**
+	 * <p>
+	 * Enables or disables the capture of stack traces by {@link EvaluationException evaluation exceptions}.
+	 * </p>
+	 *
+	 * <p>
+	 * Capturing the stack trace is the most expensive part of throwing an exception.
+	 * Batch applications that record failed rows, but do not print the stack traces of their errors,
+	 * may disable it in order to make failed rows nearly as cheap as successful ones.
+	 * </p>
+	 *
+	 * <p>
+	 * The setting applies to the evaluation calls of the model evaluator being built, and does not affect any other evaluator.
+	 * Markup exceptions (subclasses of {@link org.jpmml.model.MarkupException}) are not affected either.
+	 * They can be thrown during evaluation when a row reaches an invalid or unsupported part of the model, and always capture their stack traces.
+	 * </p>
+	 */
+	public ModelEvaluatorBuilder setStackTraceEnabled(boolean stackTraceEnabled){
+		ConfigurationBuilder configurationBuilder = getConfigurationBuilder();
+
+		configurationBuilder.setStackTraceEnabled(stackTraceEnabled);
+
+		return this;
+	}
+
 	public Set<ResultFeature> getExtraResultFeatures(){
 		return this.extraResultFeatures;
 	}
@@ -300,4 +343,66 @@ public class ModelEvaluatorBuilder implements EvaluatorBuilder, Serializable {
 
 		return this;
 	}
+
+	public boolean getPruneOutputFields(){
+		ConfigurationBuilder configurationBuilder = getConfigurationBuilder();
+
+		return configurationBuilder.getPruneOutputFields();
+	}
+
+	/**
+	 * <p>
+	 * Should output fields that are neither kept by the output filter nor referenced by kept output fields be skipped during evaluation?
+	 * </p>
+	 *
+	 * <p>
+	 * Use {@link ModelEvaluator#getRequiredInputFields()} to find out which input fields remain relevant.
+	 * </p>
+	 *
+	 * <p>
+	 * The output fields of nested model evaluators are never pruned, because they may be looked up by the parent model evaluator.
+	 * </p>
+	 *
+	 * @see #setOutputFilter(OutputFilter)
+	 */
+	public ModelEvaluatorBuilder setPruneOutputFields(boolean pruneOutputFields){
+		ConfigurationBuilder configurationBuilder = getConfigurationBuilder();
+
+		configurationBuilder.setPruneOutputFields(pruneOutputFields);
+
+		return this;
+	}
+
+	public boolean getStripNonScoringElements(){
+		return this.stripNonScoringElements;
+	}
+
+	/**
+	 * <p>
+	 * Should the model evaluator be built from shallow copies of the PMML and model elements,
+	 * which leave out top-level elements that are not needed for scoring?
+	 * </p>
+	 *
+	 * <p>
+	 * The left out markup comprises other models, the mining build task,
+	 * and the model verification, model statistics and model explanation elements of the model.
+	 * Nothing else is dropped.
+	 * In particular, this does not reduce the footprint of the scoring structures such as tree nodes, inline tables or vector dictionaries,
+	 * because model evaluators keep using them for scoring.
+	 * The memory savings are therefore limited to the size of the left out markup.
+	 * </p>
+	 *
+	 * <p>
+	 * The original PMML class model object is not modified, and may be garbage collected if the application releases it.
+	 * Model verification is not available for stripped model evaluators.
+	 * The {@link ModelEvaluator#verify()} method throws an {@link IllegalStateException}.
+	 * </p>
+	 *
+	 * @see ModelEvaluator#isStripped()
+	 */
+	public ModelEvaluatorBuilder setStripNonScoringElements(boolean stripNonScoringElements){
+		this.stripNonScoringElements = stripNonScoringElements;
+
+		return this;
+	}
 }
\ No newline at end of file
@@ -70,18 +70,25 @@ public class ModelManager<M extends Model> extends PMMLManager implements HasMod
 
 	private Set<ResultFeature> resultFeatures = Collections.emptySet();
 
+	transient
 	private List<InputField> inputFields = null;
 
+	transient
 	private List<InputField> activeInputFields = null;
 
+	transient
 	private List<InputField> supplementaryInputFields = null;
 
+	transient
 	private List<ResidualField> residualInputFields = null;
 
+	transient
 	private List<TargetField> targetResultFields = null;
 
+	transient
 	private List<OutputField> outputResultFields = null;
 
+	transient
 	private ListMultimap<String, Field<?>> visibleFields = null;
 
 
@@ -0,0 +1,629 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import jakarta.xml.bind.JAXBException;
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.Visitor;
+import org.jpmml.evaluator.visitors.StructuralInterner;
+import org.xml.sax.SAXException;
+
+/**
+ * <p>
+ * A registry of versioned model evaluators, which share structurally identical PMML class model objects between models.
+ * </p>
+ *
+ * <p>
+ * Retrained variants of the same pipeline typically share data dictionaries, transformation dictionaries and segment models.
+ * The registry keeps only one canonical copy of every such element.
+ * Compiled evaluation structures are shared as well, because they are cached by element identity.
+ * </p>
+ *
+ * <p>
+ * Models can be registered in two ways.
+ * A loaded model ({@link #load(String, File)}, {@link #loadAsync(String, File, Executor)}) stays resident until replaced or removed.
+ * A registered model ({@link #register(String, File)}) is loaded lazily on first access,
+ * and is subject to least-recently-used eviction once the total weight of lazily loaded models exceeds the maximum weight.
+ * An evicted model is reloaded on next access.
+ * </p>
+ *
+ * <p>
+ * Every load creates a new {@link ModelVersion}, which is warmed up and then swapped in atomically.
+ * A failed load or warm-up leaves the previous model version in place.
+ * Requests that have acquired the previous model version finish on it.
+ * Once the last of them has closed it, the previous model version is reported to the {@link ModelVersionListener model version listener}.
+ * </p>
+ *
+ * <p>
+ * If the template builder has {@link LoadingModelEvaluatorBuilder#setDeltaLoading(boolean) delta loading} enabled,
+ * then reloading a model adopts its unchanged segments from the current model version.
+ * </p>
+ *
+ * <strong>Simple example</strong>
+ * <pre>{@code
+ * ModelRegistry modelRegistry = new ModelRegistry(new LoadingModelEvaluatorBuilder());
+ *
+ * modelRegistry.load("tenant-001", new File("model-001.pmml"));
+ * modelRegistry.register("tenant-002", new File("model-002.pmml"));
+ *
+ * try(ModelVersion modelVersion = modelRegistry.acquire("tenant-001")){
+ *   Evaluator evaluator = modelVersion.getModelEvaluator();
+ * }
+ *
+ * StructuralCache structuralCache = modelRegistry.getStructuralCache();
+ * System.out.println(structuralCache.getSavedObjects());
+ * }</pre>
+ */
+public class ModelRegistry {
+
+	private LoadingModelEvaluatorBuilder modelEvaluatorBuilder = null;
+
+	private ModelWeigher modelWeigher = null;
+
+	private StructuralCache structuralCache = new StructuralCache();
+
+	private List<? extends Map<String, ?>> warmUpArguments = Collections.emptyList();
+
+	private ConcurrentMap<String, ModelVersion> modelVersions = new ConcurrentHashMap<>();
+
+	private ConcurrentMap<String, File> registeredFiles = new ConcurrentHashMap<>();
+
+	private LoadingCache<String, ModelVersion> registeredModelVersions = null;
+
+	private AtomicLong versionCounter = new AtomicLong(0L);
+
+	private ModelVersionListener modelVersionListener = null;
+
+	private ModelVersionListener releaseListener = new ModelVersionListener(){
+
+		@Override
+		public void released(ModelVersion modelVersion){
+			ModelVersionListener modelVersionListener = getModelVersionListener();
+
+			ModelRegistry.this.metrics.released();
+
+			if(modelVersionListener != null){
+				modelVersionListener.released(modelVersion);
+			}
+		}
+	};
+
+	private Metrics metrics = new Metrics();
+
+
+	public ModelRegistry(){
+		this(new LoadingModelEvaluatorBuilder());
+	}
+
+	/**
+	 * @param modelEvaluatorBuilder A template builder. Every load operation works with a clone of it.
+	 */
+	public ModelRegistry(LoadingModelEvaluatorBuilder modelEvaluatorBuilder){
+		this(modelEvaluatorBuilder, Long.MAX_VALUE, ModelRegistry.UNIT_WEIGHER);
+	}
+
+	/**
+	 * @param modelEvaluatorBuilder A template builder. Every load operation works with a clone of it.
+	 * @param maximumWeight The maximum total weight of lazily loaded models.
+	 * @param modelWeigher A function for estimating the weight of a model evaluator.
+	 */
+	public ModelRegistry(LoadingModelEvaluatorBuilder modelEvaluatorBuilder, long maximumWeight, ModelWeigher modelWeigher){
+		setModelEvaluatorBuilder(modelEvaluatorBuilder);
+		setModelWeigher(modelWeigher);
+
+		CacheLoader<String, ModelVersion> cacheLoader = new CacheLoader<String, ModelVersion>(){
+
+			@Override
+			public ModelVersion load(String key) throws Exception {
+				File file = ModelRegistry.this.registeredFiles.get(key);
+				if(file == null){
+					throw new IllegalArgumentException(key);
+				}
+
+				try(InputStream is = new FileInputStream(file)){
+					return createModelVersion(key, is);
+				}
+			}
+		};
+
+		Weigher<String, ModelVersion> weigher = new Weigher<String, ModelVersion>(){
+
+			@Override
+			public int weigh(String key, ModelVersion modelVersion){
+				return (int)Math.min(modelVersion.getWeight(), Integer.MAX_VALUE);
+			}
+		};
+
+		RemovalListener<String, ModelVersion> removalListener = new RemovalListener<String, ModelVersion>(){
+
+			@Override
+			public void onRemoval(RemovalNotification<String, ModelVersion> notification){
+				ModelVersion modelVersion = notification.getValue();
+
+				if(notification.wasEvicted()){
+					ModelRegistry.this.metrics.evicted(modelVersion);
+				}
+
+				modelVersion.retire();
+			}
+		};
+
+		// A single segment makes eviction order strictly least-recently-used
+		this.registeredModelVersions = CacheBuilder.newBuilder()
+			.concurrencyLevel(1)
+			.maximumWeight(maximumWeight)
+			.weigher(weigher)
+			.removalListener(removalListener)
+			.build(cacheLoader);
+	}
+
+	public ModelEvaluator<?> load(String key, File file) throws IOException, ParserConfigurationException, SAXException, JAXBException {
+
+		try(InputStream is = new FileInputStream(file)){
+			return load(key, is);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Loads and warms up a model evaluator, and registers it under the specified key.
+	 * Any previously registered model evaluator is replaced.
+	 * </p>
+	 */
+	public ModelEvaluator<?> load(String key, InputStream is) throws ParserConfigurationException, SAXException, JAXBException {
+		ModelVersion modelVersion = createModelVersion(key, is);
+
+		swap(key, modelVersion);
+
+		return modelVersion.getModelEvaluator();
+	}
+
+	/**
+	 * <p>
+	 * Loads and warms up a model evaluator in the background, and registers it under the specified key.
+	 * The previously registered model evaluator keeps serving requests until then.
+	 * </p>
+	 *
+	 * <p>
+	 * Load errors are propagated by completing the future exceptionally.
+	 * </p>
+	 */
+	@IgnoreJRERequirement
+	public CompletableFuture<ModelEvaluator<?>> loadAsync(String key, File file, Executor executor){
+		Supplier<ModelEvaluator<?>> supplier = new Supplier<ModelEvaluator<?>>(){
+
+			@Override
+			public ModelEvaluator<?> get(){
+
+				try {
+					return load(key, file);
+				} catch(IOException | ParserConfigurationException | SAXException | JAXBException e){
+					throw new CompletionException(e);
+				}
+			}
+		};
+
+		return CompletableFuture.supplyAsync(supplier, executor);
+	}
+
+	/**
+	 * <p>
+	 * Registers a model file under the specified key.
+	 * The model evaluator is loaded on first access.
+	 * Any previously registered model evaluator is replaced.
+	 * </p>
+	 */
+	public void register(String key, File file){
+		Objects.requireNonNull(file);
+
+		retire(this.modelVersions.remove(key));
+
+		this.registeredFiles.put(key, file);
+		this.registeredModelVersions.invalidate(key);
+	}
+
+	public ModelEvaluator<?> get(String key){
+		ModelVersion modelVersion = getModelVersion(key);
+
+		if(modelVersion != null){
+			return modelVersion.getModelEvaluator();
+		}
+
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * Gets the current model version, and increments its reference count.
+	 * The caller must close the model version when done.
+	 * </p>
+	 *
+	 * @return The current model version, or <code>null</code>.
+	 */
+	public ModelVersion acquire(String key){
+
+		while(true){
+			ModelVersion modelVersion = getModelVersion(key);
+
+			if(modelVersion == null){
+				return null;
+			} // End if
+
+			// Retry if the model version was retired and released concurrently
+			if(modelVersion.acquire() != null){
+				return modelVersion;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gets the current model version.
+	 * A registered model is loaded if necessary.
+	 * </p>
+	 *
+	 * @return The current model version, or <code>null</code>.
+	 */
+	public ModelVersion getModelVersion(String key){
+		ModelVersion modelVersion = this.modelVersions.get(key);
+
+		if(modelVersion != null){
+			return modelVersion;
+		} // End if
+
+		if(this.registeredFiles.containsKey(key)){
+
+			try {
+				return this.registeredModelVersions.get(key);
+			} catch(ExecutionException | UncheckedExecutionException e){
+				Throwable cause = e.getCause();
+
+				if(cause instanceof RuntimeException){
+					throw (RuntimeException)cause;
+				}
+
+				throw new IllegalStateException(cause);
+			}
+		}
+
+		return null;
+	}
+
+	public ModelEvaluator<?> remove(String key){
+		ModelVersion modelVersion = this.modelVersions.remove(key);
+
+		retire(modelVersion);
+
+		File file = this.registeredFiles.remove(key);
+		if(file != null){
+			modelVersion = this.registeredModelVersions.getIfPresent(key);
+
+			this.registeredModelVersions.invalidate(key);
+		} // End if
+
+		if(modelVersion != null){
+			return modelVersion.getModelEvaluator();
+		}
+
+		return null;
+	}
+
+	public Set<String> keySet(){
+		Set<String> result = new LinkedHashSet<>();
+		result.addAll(this.modelVersions.keySet());
+		result.addAll(this.registeredFiles.keySet());
+
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * <p>
+	 * Gets the total weight of currently loaded registered models.
+	 * </p>
+	 */
+	public long getRegisteredWeight(){
+		long result = 0L;
+
+		Map<String, ModelVersion> modelVersions = this.registeredModelVersions.asMap();
+		for(ModelVersion modelVersion : modelVersions.values()){
+			result += modelVersion.getWeight();
+		}
+
+		return result;
+	}
+
+	protected ModelVersion createModelVersion(String key, InputStream is) throws ParserConfigurationException, SAXException, JAXBException {
+		ModelWeigher modelWeigher = getModelWeigher();
+		List<? extends Map<String, ?>> warmUpArguments = getWarmUpArguments();
+
+		long begin = System.nanoTime();
+
+		ModelEvaluator<?> modelEvaluator;
+
+		try {
+			modelEvaluator = createModelEvaluator(is, getBaseline(key));
+
+			for(Map<String, ?> arguments : warmUpArguments){
+				modelEvaluator.evaluate(arguments);
+			}
+		} catch(ParserConfigurationException | SAXException | JAXBException | RuntimeException e){
+			this.metrics.loadFailed();
+
+			throw e;
+		}
+
+		long end = System.nanoTime();
+
+		this.metrics.loaded(end - begin);
+
+		return new ModelVersion(key, this.versionCounter.incrementAndGet(), modelEvaluator, modelWeigher.weigh(modelEvaluator), this.releaseListener);
+	}
+
+	/**
+	 * @param baseline The model evaluator of the current model version, or <code>null</code>.
+	 */
+	protected ModelEvaluator<?> createModelEvaluator(InputStream is, ModelEvaluator<?> baseline) throws ParserConfigurationException, SAXException, JAXBException {
+		LoadingModelEvaluatorBuilder modelEvaluatorBuilder = getModelEvaluatorBuilder();
+		StructuralCache structuralCache = getStructuralCache();
+
+		PMMLTransformer<RuntimeException> transformer = new PMMLTransformer<>(){
+
+			@Override
+			public PMML apply(PMML pmml){
+				Visitor visitor = new StructuralInterner(structuralCache);
+
+				visitor.applyTo(pmml);
+
+				return pmml;
+			}
+		};
+
+		return modelEvaluatorBuilder.clone()
+			.setBaseline(baseline)
+			.load(is)
+			.transform(transformer)
+			.build();
+	}
+
+	private ModelEvaluator<?> getBaseline(String key){
+		LoadingModelEvaluatorBuilder modelEvaluatorBuilder = getModelEvaluatorBuilder();
+
+		if(!modelEvaluatorBuilder.getDeltaLoading()){
+			return null;
+		}
+
+		ModelVersion modelVersion = this.modelVersions.get(key);
+		if(modelVersion == null){
+			modelVersion = this.registeredModelVersions.getIfPresent(key);
+		}
+
+		return (modelVersion != null ? modelVersion.getModelEvaluator() : null);
+	}
+
+	private void swap(String key, ModelVersion modelVersion){
+
+		if(this.registeredFiles.remove(key) != null){
+			this.registeredModelVersions.invalidate(key);
+		}
+
+		ModelVersion prevModelVersion = this.modelVersions.put(key, modelVersion);
+		if(prevModelVersion != null){
+			this.metrics.swapped();
+
+			prevModelVersion.retire();
+		}
+	}
+
+	static
+	private void retire(ModelVersion modelVersion){
+
+		if(modelVersion != null){
+			modelVersion.retire();
+		}
+	}
+
+	public LoadingModelEvaluatorBuilder getModelEvaluatorBuilder(){
+		return this.modelEvaluatorBuilder;
+	}
+
+	private void setModelEvaluatorBuilder(LoadingModelEvaluatorBuilder modelEvaluatorBuilder){
+		this.modelEvaluatorBuilder = Objects.requireNonNull(modelEvaluatorBuilder);
+	}
+
+	public ModelWeigher getModelWeigher(){
+		return this.modelWeigher;
+	}
+
+	private void setModelWeigher(ModelWeigher modelWeigher){
+		this.modelWeigher = Objects.requireNonNull(modelWeigher);
+	}
+
+	public StructuralCache getStructuralCache(){
+		return this.structuralCache;
+	}
+
+	public List<? extends Map<String, ?>> getWarmUpArguments(){
+		return this.warmUpArguments;
+	}
+
+	/**
+	 * <p>
+	 * Sets the argument maps that every newly loaded model evaluator is evaluated with before it is swapped in.
+	 * </p>
+	 */
+	public ModelRegistry setWarmUpArguments(List<? extends Map<String, ?>> warmUpArguments){
+		this.warmUpArguments = Objects.requireNonNull(warmUpArguments);
+
+		return this;
+	}
+
+	public ModelVersionListener getModelVersionListener(){
+		return this.modelVersionListener;
+	}
+
+	/**
+	 * <p>
+	 * Sets a callback for model versions that have been retired, and are no longer held by anyone.
+	 * </p>
+	 */
+	public ModelRegistry setModelVersionListener(ModelVersionListener modelVersionListener){
+		this.modelVersionListener = modelVersionListener;
+
+		return this;
+	}
+
+	public Metrics getMetrics(){
+		return this.metrics;
+	}
+
+	static
+	public class Metrics {
+
+		private AtomicLong loads = new AtomicLong(0L);
+
+		private AtomicLong loadFailures = new AtomicLong(0L);
+
+		private AtomicLong loadTime = new AtomicLong(0L);
+
+		private AtomicLong swaps = new AtomicLong(0L);
+
+		private AtomicLong evictions = new AtomicLong(0L);
+
+		private AtomicLong evictedWeight = new AtomicLong(0L);
+
+		private AtomicLong releases = new AtomicLong(0L);
+
+
+		private Metrics(){
+		}
+
+		/**
+		 * <p>
+		 * Gets the number of successful loads.
+		 * </p>
+		 */
+		public long getLoads(){
+			return this.loads.get();
+		}
+
+		public long getLoadFailures(){
+			return this.loadFailures.get();
+		}
+
+		/**
+		 * <p>
+		 * Gets the total time of successful loads, including warm-up, in nanoseconds.
+		 * </p>
+		 */
+		public long getLoadTime(){
+			return this.loadTime.get();
+		}
+
+		/**
+		 * <p>
+		 * Gets the number of loads that replaced a previous model version.
+		 * </p>
+		 */
+		public long getSwaps(){
+			return this.swaps.get();
+		}
+
+		public long getEvictions(){
+			return this.evictions.get();
+		}
+
+		public long getEvictedWeight(){
+			return this.evictedWeight.get();
+		}
+
+		/**
+		 * <p>
+		 * Gets the number of retired model versions that are no longer held by anyone.
+		 * </p>
+		 */
+		public long getReleases(){
+			return this.releases.get();
+		}
+
+		private void loaded(long time){
+			this.loads.incrementAndGet();
+			this.loadTime.addAndGet(time);
+		}
+
+		private void loadFailed(){
+			this.loadFailures.incrementAndGet();
+		}
+
+		private void swapped(){
+			this.swaps.incrementAndGet();
+		}
+
+		private void evicted(ModelVersion modelVersion){
+			this.evictions.incrementAndGet();
+			this.evictedWeight.addAndGet(modelVersion.getWeight());
+		}
+
+		private void released(){
+			this.releases.incrementAndGet();
+		}
+	}
+
+	/**
+	 * <p>
+	 * A model weigher that assigns the same weight to every model evaluator.
+	 * The maximum weight then limits the number of lazily loaded models.
+	 * </p>
+	 */
+	public static final ModelWeigher UNIT_WEIGHER = new ModelWeigher(){
+
+		@Override
+		public long weigh(ModelEvaluator<?> modelEvaluator){
+			return 1L;
+		}
+	};
+}
\ No newline at end of file
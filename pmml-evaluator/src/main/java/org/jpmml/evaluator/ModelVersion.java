@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A versioned model evaluator, as registered in a {@link ModelRegistry}.
+ * </p>
+ *
+ * <p>
+ * A model version that has been acquired by the application must be closed when done.
+ * Replacing, removing or evicting a model version retires it, but does not affect its current holders.
+ * A retired model version is released once its last holder has closed it, which is reported to the {@link ModelVersionListener}.
+ * </p>
+ *
+ * <strong>Simple example</strong>
+ * <pre>{@code
+ * try(ModelVersion modelVersion = modelRegistry.acquire("tenant-001")){
+ *   Evaluator evaluator = modelVersion.getModelEvaluator();
+ *
+ *   Map<String, ?> results = evaluator.evaluate(arguments);
+ * }
+ * }</pre>
+ *
+ * @see ModelRegistry#acquire(String)
+ */
+public class ModelVersion implements AutoCloseable {
+
+	private String key = null;
+
+	private long version = 0L;
+
+	private ModelEvaluator<?> modelEvaluator = null;
+
+	private long weight = 0L;
+
+	private ModelVersionListener listener = null;
+
+	// One reference is held by the model registry until this model version is retired
+	private AtomicInteger referenceCount = new AtomicInteger(1);
+
+	private AtomicBoolean retired = new AtomicBoolean(false);
+
+
+	ModelVersion(String key, long version, ModelEvaluator<?> modelEvaluator, long weight, ModelVersionListener listener){
+		setKey(key);
+		setVersion(version);
+		setModelEvaluator(modelEvaluator);
+		setWeight(weight);
+
+		this.listener = listener;
+	}
+
+	/**
+	 * @return This model version, or <code>null</code> if it has already been released.
+	 */
+	ModelVersion acquire(){
+
+		while(true){
+			int referenceCount = this.referenceCount.get();
+
+			if(referenceCount <= 0){
+				return null;
+			} // End if
+
+			if(this.referenceCount.compareAndSet(referenceCount, referenceCount + 1)){
+				return this;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Closes this model version.
+	 * Every successful acquisition must be followed by exactly one close.
+	 * </p>
+	 */
+	@Override
+	public void close(){
+		release();
+	}
+
+	/**
+	 * <p>
+	 * Drops the reference that is held by the model registry.
+	 * </p>
+	 */
+	void retire(){
+
+		if(this.retired.compareAndSet(false, true)){
+			release();
+		}
+	}
+
+	private void release(){
+
+		while(true){
+			int referenceCount = this.referenceCount.get();
+
+			if(referenceCount <= 0){
+				throw new IllegalStateException("Model version " + this.version + " has already been released");
+			} // End if
+
+			if(this.referenceCount.compareAndSet(referenceCount, referenceCount - 1)){
+
+				if(referenceCount == 1 && this.listener != null){
+					this.listener.released(this);
+				}
+
+				return;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of holders that have acquired this model version, but have not closed it yet.
+	 * </p>
+	 */
+	public int getReferenceCount(){
+		int referenceCount = this.referenceCount.get();
+
+		if(!isRetired()){
+			referenceCount--;
+		}
+
+		return Math.max(referenceCount, 0);
+	}
+
+	/**
+	 * <p>
+	 * Indicates if this model version has been replaced, removed or evicted.
+	 * </p>
+	 */
+	public boolean isRetired(){
+		return this.retired.get();
+	}
+
+	/**
+	 * <p>
+	 * Indicates if this model version has been retired, and all its holders have closed it.
+	 * </p>
+	 */
+	public boolean isReleased(){
+		return (this.referenceCount.get() == 0);
+	}
+
+	public String getKey(){
+		return this.key;
+	}
+
+	private void setKey(String key){
+		this.key = Objects.requireNonNull(key);
+	}
+
+	/**
+	 * <p>
+	 * Gets the version number.
+	 * Version numbers are assigned in load order, and are unique within a model registry.
+	 * </p>
+	 */
+	public long getVersion(){
+		return this.version;
+	}
+
+	private void setVersion(long version){
+		this.version = version;
+	}
+
+	public ModelEvaluator<?> getModelEvaluator(){
+		return this.modelEvaluator;
+	}
+
+	private void setModelEvaluator(ModelEvaluator<?> modelEvaluator){
+		this.modelEvaluator = Objects.requireNonNull(modelEvaluator);
+	}
+
+	public long getWeight(){
+		return this.weight;
+	}
+
+	private void setWeight(long weight){
+
+		if(weight < 0L){
+			throw new IllegalArgumentException();
+		}
+
+		this.weight = weight;
+	}
+}
\ No newline at end of file
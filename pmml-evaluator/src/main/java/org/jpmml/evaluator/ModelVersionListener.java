@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+/**
+ * <p>
+ * A callback for model versions that are no longer in use.
+ * </p>
+ *
+ * <p>
+ * A model version is released when it has been retired by the model registry (ie. replaced, removed or evicted),
+ * and all its holders have closed it.
+ * Every model version is released at most once.
+ * The callback runs on the thread that drops the last reference, and should return quickly.
+ * </p>
+ *
+ * <p>
+ * The application may then free resources that the model version depended on,
+ * such as the file that backs {@link org.jpmml.evaluator.visitors.SegmentSerializer#mapTo(java.io.File) memory-mapped segments}.
+ * </p>
+ *
+ * @see ModelRegistry#setModelVersionListener(ModelVersionListener)
+ */
+public interface ModelVersionListener {
+
+	void released(ModelVersion modelVersion);
+}
\ No newline at end of file
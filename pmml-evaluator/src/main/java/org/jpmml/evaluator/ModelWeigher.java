@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+/**
+ * <p>
+ * A function for estimating the weight of a model evaluator.
+ * </p>
+ *
+ * <p>
+ * Weights are expressed in arbitrary non-negative units, such as bytes.
+ * They must be consistent with the maximum weight of the model registry.
+ * </p>
+ *
+ * @see ModelRegistry#ModelRegistry(LoadingModelEvaluatorBuilder, long, ModelWeigher)
+ * @see RetainedSizeEstimator
+ */
+public interface ModelWeigher {
+
+	long weigh(ModelEvaluator<?> modelEvaluator);
+}
\ No newline at end of file
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+/**
+ * <p>
+ * Locale-independent parsing and formatting of numbers.
+ * </p>
+ *
+ * <p>
+ * Parsers handle plain decimal strings whose digits fit into 53 bits, and whose scale is within 22 orders of magnitude, without allocating,
+ * and produce exactly the same results as {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}.
+ * Formatters append shortest round-trip representations to a caller-supplied {@link StringBuilder},
+ * using the same plain notation as {@link Double#toString(double)} and {@link Float#toString(float)}.
+ * All other inputs fall back to the JDK.
+ * </p>
+ */
+public class NumberFormatUtil {
+
+	private NumberFormatUtil(){
+	}
+
+	static
+	public double parseDouble(CharSequence string){
+		long bits = parseDecimal(string);
+
+		if(bits != NumberFormatUtil.INVALID){
+			long mantissa = decodeMantissa(bits);
+			int exponent = decodeExponent(bits);
+			boolean negative = decodeNegative(bits);
+
+			double result = Double.NaN;
+
+			if(mantissa == 0L){
+				result = 0d;
+			} else
+
+			if(mantissa <= NumberFormatUtil.DOUBLE_MAX_EXACT){
+
+				if(exponent == 0){
+					result = mantissa;
+				} else
+
+				if(exponent > 0 && exponent < NumberFormatUtil.DOUBLE_POWERS_OF_TEN.length){
+					result = (double)mantissa * NumberFormatUtil.DOUBLE_POWERS_OF_TEN[exponent];
+				} else
+
+				if(exponent < 0 && -exponent < NumberFormatUtil.DOUBLE_POWERS_OF_TEN.length){
+					result = (double)mantissa / NumberFormatUtil.DOUBLE_POWERS_OF_TEN[-exponent];
+				}
+			} // End if
+
+			if(!Double.isNaN(result)){
+				return (negative ? -result : result);
+			}
+		}
+
+		return Double.parseDouble(string.toString());
+	}
+
+	static
+	public float parseFloat(CharSequence string){
+		long bits = parseDecimal(string);
+
+		if(bits != NumberFormatUtil.INVALID){
+			long mantissa = decodeMantissa(bits);
+			int exponent = decodeExponent(bits);
+			boolean negative = decodeNegative(bits);
+
+			float result = Float.NaN;
+
+			if(mantissa == 0L){
+				result = 0f;
+			} else
+
+			if(mantissa <= NumberFormatUtil.FLOAT_MAX_EXACT){
+
+				if(exponent == 0){
+					result = mantissa;
+				} else
+
+				if(exponent > 0 && exponent < NumberFormatUtil.FLOAT_POWERS_OF_TEN.length){
+					result = (float)mantissa * NumberFormatUtil.FLOAT_POWERS_OF_TEN[exponent];
+				} else
+
+				if(exponent < 0 && -exponent < NumberFormatUtil.FLOAT_POWERS_OF_TEN.length){
+					result = (float)mantissa / NumberFormatUtil.FLOAT_POWERS_OF_TEN[-exponent];
+				}
+			} // End if
+
+			if(!Float.isNaN(result)){
+				return (negative ? -result : result);
+			}
+		}
+
+		return Float.parseFloat(string.toString());
+	}
+
+	/**
+	 * @throws NumberFormatException If the string is not a valid integer, or is out of range.
+	 */
+	static
+	public long parseLong(CharSequence string){
+		int length = string.length();
+
+		// Eighteen digits never overflow
+		if(length > 0 && length <= 18){
+			int i = 0;
+
+			boolean negative = false;
+
+			char c = string.charAt(0);
+			if(c == '-' || c == '+'){
+				negative = (c == '-');
+
+				i++;
+			}
+
+			long result = 0L;
+
+			boolean valid = (i < length);
+
+			for(; i < length; i++){
+				c = string.charAt(i);
+
+				if(c < '0' || c > '9'){
+					valid = false;
+
+					break;
+				}
+
+				result = (result * 10L) + (c - '0');
+			}
+
+			if(valid && result >= 0L){
+				return (negative ? -result : result);
+			}
+		}
+
+		return Long.parseLong(string.toString());
+	}
+
+	static
+	public StringBuilder appendDouble(StringBuilder sb, double value){
+		double absValue = Math.abs(value);
+
+		if(absValue >= 1e-3 && absValue < 1e7){
+
+			for(int scale = 0; scale < NumberFormatUtil.DOUBLE_POWERS_OF_TEN.length; scale++){
+				double scaledValue = Math.rint(absValue * NumberFormatUtil.DOUBLE_POWERS_OF_TEN[scale]);
+
+				if(scaledValue > NumberFormatUtil.DOUBLE_MAX_EXACT){
+					break;
+				} // End if
+
+				// Exact, because both operands are exactly representable
+				if(scaledValue / NumberFormatUtil.DOUBLE_POWERS_OF_TEN[scale] == absValue){
+					return appendDecimal(sb, (value < 0d), (long)scaledValue, scale);
+				}
+			}
+		}
+
+		return sb.append(value);
+	}
+
+	static
+	public StringBuilder appendFloat(StringBuilder sb, float value){
+		float absValue = Math.abs(value);
+
+		if(absValue >= 1e-3f && absValue < 1e7f){
+
+			for(int scale = 0; scale < NumberFormatUtil.FLOAT_POWERS_OF_TEN.length; scale++){
+				double scaledValue = Math.rint((double)absValue * NumberFormatUtil.DOUBLE_POWERS_OF_TEN[scale]);
+
+				if(scaledValue > NumberFormatUtil.FLOAT_MAX_EXACT){
+					break;
+				} // End if
+
+				// Exact, because both operands are exactly representable
+				if((float)scaledValue / NumberFormatUtil.FLOAT_POWERS_OF_TEN[scale] == absValue){
+					return appendDecimal(sb, (value < 0f), (long)scaledValue, scale);
+				}
+			}
+		}
+
+		return sb.append(value);
+	}
+
+	/**
+	 * <p>
+	 * Formats a {@link Double}, {@link Float} or {@link Integer} value.
+	 * All other values are formatted using their {@link Object#toString()} method.
+	 * </p>
+	 */
+	static
+	public StringBuilder append(StringBuilder sb, Object value){
+
+		if(value instanceof Double){
+			return appendDouble(sb, (Double)value);
+		} else
+
+		if(value instanceof Float){
+			return appendFloat(sb, (Float)value);
+		} else
+
+		if(value instanceof Integer){
+			return sb.append(((Integer)value).intValue());
+		}
+
+		return sb.append(value);
+	}
+
+	/**
+	 * <p>
+	 * Formats a value using a reusable per-thread buffer.
+	 * </p>
+	 *
+	 * @see #append(StringBuilder, Object)
+	 */
+	static
+	public String format(Object value){
+
+		if(value instanceof String){
+			return (String)value;
+		}
+
+		StringBuilder sb = NumberFormatUtil.buffers.get();
+
+		sb.setLength(0);
+
+		return (append(sb, value)).toString();
+	}
+
+	static
+	private StringBuilder appendDecimal(StringBuilder sb, boolean negative, long unscaledValue, int scale){
+
+		if(negative){
+			sb.append('-');
+		}
+
+		long divisor = NumberFormatUtil.LONG_POWERS_OF_TEN[scale];
+
+		sb.append(unscaledValue / divisor);
+		sb.append('.');
+
+		if(scale == 0){
+			sb.append('0');
+		} else
+
+		{
+			long fraction = unscaledValue % divisor;
+
+			for(long limit = divisor / 10L; limit > fraction && limit > 1L; limit /= 10L){
+				sb.append('0');
+			}
+
+			sb.append(fraction);
+		}
+
+		return sb;
+	}
+
+	/**
+	 * <p>
+	 * Parses a plain decimal string into a packed triplet of sign, mantissa and decimal exponent.
+	 * </p>
+	 *
+	 * @return The packed triplet, or {@link #INVALID} if the string is not a plain decimal string, or its mantissa exceeds 2<sup>53</sup>.
+	 */
+	static
+	private long parseDecimal(CharSequence string){
+		int length = string.length();
+
+		int i = 0;
+
+		boolean negative = false;
+
+		if(i < length){
+			char c = string.charAt(i);
+
+			if(c == '-' || c == '+'){
+				negative = (c == '-');
+
+				i++;
+			}
+		}
+
+		long mantissa = 0L;
+		int exponent = 0;
+
+		boolean hasDigits = false;
+
+		for(; i < length; i++){
+			char c = string.charAt(i);
+
+			if(c < '0' || c > '9'){
+				break;
+			}
+
+			hasDigits = true;
+
+			mantissa = (mantissa * 10L) + (c - '0');
+
+			if(mantissa > NumberFormatUtil.DOUBLE_MAX_EXACT){
+				return NumberFormatUtil.INVALID;
+			}
+		}
+
+		if(i < length && string.charAt(i) == '.'){
+			i++;
+
+			for(; i < length; i++){
+				char c = string.charAt(i);
+
+				if(c < '0' || c > '9'){
+					break;
+				}
+
+				hasDigits = true;
+
+				mantissa = (mantissa * 10L) + (c - '0');
+
+				if(mantissa > NumberFormatUtil.DOUBLE_MAX_EXACT){
+					return NumberFormatUtil.INVALID;
+				}
+
+				exponent--;
+			}
+		} // End if
+
+		if(!hasDigits){
+			return NumberFormatUtil.INVALID;
+		} // End if
+
+		if(i < length && (string.charAt(i) == 'e' || string.charAt(i) == 'E')){
+			i++;
+
+			boolean negativeExponent = false;
+
+			if(i < length){
+				char c = string.charAt(i);
+
+				if(c == '-' || c == '+'){
+					negativeExponent = (c == '-');
+
+					i++;
+				}
+			}
+
+			int exponentValue = 0;
+
+			boolean hasExponentDigits = false;
+
+			for(; i < length; i++){
+				char c = string.charAt(i);
+
+				if(c < '0' || c > '9'){
+					break;
+				}
+
+				hasExponentDigits = true;
+
+				exponentValue = (exponentValue * 10) + (c - '0');
+
+				if(exponentValue > NumberFormatUtil.MAX_EXPONENT){
+					return NumberFormatUtil.INVALID;
+				}
+			}
+
+			if(!hasExponentDigits){
+				return NumberFormatUtil.INVALID;
+			}
+
+			exponent += (negativeExponent ? -exponentValue : exponentValue);
+		} // End if
+
+		if(i != length || exponent < -NumberFormatUtil.MAX_EXPONENT || exponent > NumberFormatUtil.MAX_EXPONENT){
+			return NumberFormatUtil.INVALID;
+		}
+
+		// The mantissa is at most 2^53, so the packed triplet is always non-negative
+		return (mantissa << 10) | ((long)(exponent + NumberFormatUtil.MAX_EXPONENT) << 1) | (negative ? 1L : 0L);
+	}
+
+	static
+	private long decodeMantissa(long bits){
+		return (bits >>> 10);
+	}
+
+	static
+	private int decodeExponent(long bits){
+		return (int)((bits >>> 1) & 0x1FF) - NumberFormatUtil.MAX_EXPONENT;
+	}
+
+	static
+	private boolean decodeNegative(long bits){
+		return (bits & 1L) != 0L;
+	}
+
+	private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>(){
+
+		@Override
+		protected StringBuilder initialValue(){
+			return new StringBuilder(32);
+		}
+	};
+
+	private static final long INVALID = -1L;
+
+	private static final int MAX_EXPONENT = 255;
+
+	private static final long DOUBLE_MAX_EXACT = (1L << 53);
+
+	private static final long FLOAT_MAX_EXACT = (1L << 24);
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+		1e21, 1e22
+	};
+
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	private static final long[] LONG_POWERS_OF_TEN = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+		100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+	};
+}
\ No newline at end of file
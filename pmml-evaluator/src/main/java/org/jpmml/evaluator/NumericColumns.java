@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * A batch of numeric columns.
+ * </p>
+ *
+ * <p>
+ * Every column is represented by a <code>double</code> array of values,
+ * together with a bitmask of missing values.
+ * The value at the index of a set bit is undefined.
+ * </p>
+ *
+ * @see NumericKernel
+ */
+public class NumericColumns {
+
+	private int numberOfRows = 0;
+
+	private Map<String, double[]> values = new LinkedHashMap<>();
+
+	private Map<String, BitSet> missing = new LinkedHashMap<>();
+
+
+	public NumericColumns(int numberOfRows){
+		setNumberOfRows(numberOfRows);
+	}
+
+	public Set<String> getColumns(){
+		return this.values.keySet();
+	}
+
+	public boolean hasColumn(String name){
+		return this.values.containsKey(name);
+	}
+
+	public double[] getValues(String name){
+		double[] values = this.values.get(name);
+
+		if(values == null){
+			throw new MissingFieldException(name);
+		}
+
+		return values;
+	}
+
+	public BitSet getMissing(String name){
+		BitSet missing = this.missing.get(name);
+
+		if(missing == null){
+			throw new MissingFieldException(name);
+		}
+
+		return missing;
+	}
+
+	public void put(String name, double[] values){
+		put(name, values, new BitSet(values.length));
+	}
+
+	public void put(String name, double[] values, BitSet missing){
+		int numberOfRows = getNumberOfRows();
+
+		if(values.length < numberOfRows){
+			throw new IllegalArgumentException("Expected " + numberOfRows + " values, got " + values.length + " values");
+		}
+
+		this.values.put(name, values);
+		this.missing.put(name, missing);
+	}
+
+	/**
+	 * <p>
+	 * Evaluates the specified kernel, and adds the result as a new column.
+	 * </p>
+	 */
+	public void put(String name, NumericKernel kernel){
+		int numberOfRows = getNumberOfRows();
+
+		double[] values = new double[numberOfRows];
+		BitSet missing = new BitSet(numberOfRows);
+
+		kernel.evaluate(this, values, missing);
+
+		put(name, values, missing);
+	}
+
+	public int getNumberOfRows(){
+		return this.numberOfRows;
+	}
+
+	private void setNumberOfRows(int numberOfRows){
+
+		if(numberOfRows < 0){
+			throw new IllegalArgumentException();
+		}
+
+		this.numberOfRows = numberOfRows;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import org.dmg.pmml.InvalidValueTreatmentMethod;
+
+/**
+ * <p>
+ * A compiled numeric expression, which evaluates a whole batch of rows at once.
+ * </p>
+ *
+ * <p>
+ * Kernels operate on <code>double</code> values directly, and do not allocate any {@link FieldValue} objects.
+ * Missing values are tracked in a bitmask that runs parallel to values.
+ * The result of a kernel is equivalent to the result of evaluating the source expression row by row,
+ * given that all referenced fields are continuous double fields.
+ * </p>
+ *
+ * @see NumericKernelUtil#compile(org.dmg.pmml.Expression)
+ * @see BatchEvaluator
+ */
+abstract
+public class NumericKernel {
+
+	NumericKernel(){
+	}
+
+	/**
+	 * <p>
+	 * Indicates if this kernel always produces double values (as opposed to integer values).
+	 * </p>
+	 *
+	 * <p>
+	 * PMML arithmetic functions switch to integer arithmetic when all their arguments are integers.
+	 * Such expressions cannot be compiled.
+	 * </p>
+	 */
+	abstract
+	boolean isDouble();
+
+	/**
+	 * @param columns The input columns.
+	 * @param values The output values.
+	 * @param missing The output missing value bitmask.
+	 */
+	abstract
+	public void evaluate(NumericColumns columns, double[] values, BitSet missing);
+
+	static
+	double filterValue(double value){
+
+		// Replace negative zero with positive zero
+		if(value == 0d){
+			return 0d;
+		}
+
+		return value;
+	}
+
+	static
+	class ConstantKernel extends NumericKernel {
+
+		private Double value = null;
+
+		private boolean _double = false;
+
+
+		ConstantKernel(Double value, boolean _double){
+			this.value = value;
+			this._double = _double;
+		}
+
+		@Override
+		boolean isDouble(){
+			return this._double;
+		}
+
+		@Override
+		public void evaluate(NumericColumns columns, double[] values, BitSet missing){
+			int numberOfRows = columns.getNumberOfRows();
+
+			if(this.value == null){
+				missing.set(0, numberOfRows);
+
+				return;
+			}
+
+			double value = filterValue(this.value);
+
+			for(int i = 0; i < numberOfRows; i++){
+				values[i] = value;
+			}
+
+			missing.clear(0, numberOfRows);
+		}
+
+		Double getValue(){
+			return this.value;
+		}
+	}
+
+	static
+	class ColumnKernel extends NumericKernel {
+
+		private String name = null;
+
+
+		ColumnKernel(String name){
+			this.name = Objects.requireNonNull(name);
+		}
+
+		@Override
+		boolean isDouble(){
+			return true;
+		}
+
+		@Override
+		public void evaluate(NumericColumns columns, double[] values, BitSet missing){
+			int numberOfRows = columns.getNumberOfRows();
+
+			double[] columnValues = columns.getValues(this.name);
+			BitSet columnMissing = columns.getMissing(this.name);
+
+			for(int i = 0; i < numberOfRows; i++){
+				values[i] = filterValue(columnValues[i]);
+			}
+
+			missing.clear(0, numberOfRows);
+			missing.or(columnMissing.get(0, numberOfRows));
+		}
+	}
+
+	/**
+	 * <p>
+	 * A function application with PMML missing value semantics.
+	 * </p>
+	 *
+	 * <ol>
+	 *   <li>If any argument is missing, and the <code>mapMissingTo</code> value is set, then the <code>mapMissingTo</code> value is returned.</li>
+	 *   <li>If any argument is missing, and the function is missing value tolerant, then the result is missing.
+	 *   Otherwise, a {@link MissingArgumentException} is thrown.</li>
+	 *   <li>If the result is missing, and the <code>defaultValue</code> value is set, then the <code>defaultValue</code> value is returned.</li>
+	 *   <li>If the result is invalid (ie. not a number), then the <code>invalidValueTreatment</code> method is applied.
+	 *   The {@link InvalidValueTreatmentMethod#RETURN_INVALID} method throws an {@link EvaluationException}.
+	 *   The {@link InvalidValueTreatmentMethod#AS_MISSING} method returns the <code>defaultValue</code> value, or a missing value.
+	 *   The {@link InvalidValueTreatmentMethod#AS_IS} method returns the invalid value.</li>
+	 * </ol>
+	 */
+	abstract
+	static
+	class ApplyKernel extends NumericKernel {
+
+		private String function = null;
+
+		private boolean missingValueTolerant = false;
+
+		private Double mapMissingTo = null;
+
+		private Double defaultValue = null;
+
+		private InvalidValueTreatmentMethod invalidValueTreatment = null;
+
+		private boolean _double = false;
+
+
+		ApplyKernel(String function, boolean missingValueTolerant, Double mapMissingTo, Double defaultValue, InvalidValueTreatmentMethod invalidValueTreatment, boolean _double){
+			this.function = Objects.requireNonNull(function);
+			this.missingValueTolerant = missingValueTolerant;
+			this.mapMissingTo = mapMissingTo;
+			this.defaultValue = defaultValue;
+			this.invalidValueTreatment = Objects.requireNonNull(invalidValueTreatment);
+			this._double = _double;
+		}
+
+		@Override
+		boolean isDouble(){
+			return this._double;
+		}
+
+		/**
+		 * @param argMissings The argument missing value bitmasks.
+		 */
+		void applyMissing(int numberOfRows, double[] values, BitSet[] argMissings, BitSet missing){
+			missing.clear(0, numberOfRows);
+
+			BitSet argMissing = new BitSet(numberOfRows);
+
+			for(BitSet argumentMissing : argMissings){
+				argMissing.or(argumentMissing);
+			}
+
+			applyInvalid(numberOfRows, values, argMissing, missing);
+
+			if(argMissing.isEmpty()){
+				return;
+			} // End if
+
+			if(this.mapMissingTo != null){
+				double mapMissingTo = filterValue(this.mapMissingTo);
+
+				for(int i = argMissing.nextSetBit(0); i > -1 && i < numberOfRows; i = argMissing.nextSetBit(i + 1)){
+					values[i] = mapMissingTo;
+				}
+
+				return;
+			} // End if
+
+			if(!this.missingValueTolerant){
+				int row = argMissing.nextSetBit(0);
+
+				int index = 0;
+
+				while(!argMissings[index].get(row)){
+					index++;
+				}
+
+				throw new MissingArgumentException(this.function, index, MissingArgumentException.formatMessage(this.function, "missing value at position " + index));
+			} // End if
+
+			if(this.defaultValue != null){
+				double defaultValue = filterValue(this.defaultValue);
+
+				for(int i = argMissing.nextSetBit(0); i > -1 && i < numberOfRows; i = argMissing.nextSetBit(i + 1)){
+					values[i] = defaultValue;
+				}
+
+				return;
+			}
+
+			missing.or(argMissing.get(0, numberOfRows));
+		}
+
+		/**
+		 * @param argMissing The union of argument missing value bitmasks.
+		 */
+		private void applyInvalid(int numberOfRows, double[] values, BitSet argMissing, BitSet missing){
+
+			for(int i = argMissing.nextClearBit(0); i < numberOfRows; i = argMissing.nextClearBit(i + 1)){
+
+				if(!Double.isNaN(values[i])){
+					continue;
+				}
+
+				switch(this.invalidValueTreatment){
+					case RETURN_INVALID:
+						throw new EvaluationException("Function " + EvaluationException.formatName(this.function) + " returned invalid value");
+					case AS_IS:
+						break;
+					case AS_MISSING:
+						if(this.defaultValue != null){
+							values[i] = filterValue(this.defaultValue);
+						} else
+
+						{
+							missing.set(i);
+						}
+						break;
+					default:
+						throw new IllegalStateException();
+				}
+			}
+		}
+	}
+
+	static
+	class UnaryKernel extends ApplyKernel {
+
+		private UnaryOperator operator = null;
+
+		private NumericKernel argument = null;
+
+
+		UnaryKernel(String function, boolean missingValueTolerant, Double mapMissingTo, Double defaultValue, InvalidValueTreatmentMethod invalidValueTreatment, boolean _double, UnaryOperator operator, NumericKernel argument){
+			super(function, missingValueTolerant, mapMissingTo, defaultValue, invalidValueTreatment, _double);
+
+			this.operator = Objects.requireNonNull(operator);
+			this.argument = Objects.requireNonNull(argument);
+		}
+
+		@Override
+		public void evaluate(NumericColumns columns, double[] values, BitSet missing){
+			int numberOfRows = columns.getNumberOfRows();
+
+			BitSet argMissing = new BitSet(numberOfRows);
+
+			this.argument.evaluate(columns, values, argMissing);
+
+			UnaryOperator operator = this.operator;
+
+			for(int i = 0; i < numberOfRows; i++){
+				values[i] = filterValue(operator.apply(values[i]));
+			}
+
+			applyMissing(numberOfRows, values, new BitSet[]{argMissing}, missing);
+		}
+	}
+
+	static
+	class BinaryKernel extends ApplyKernel {
+
+		private BinaryOperator operator = null;
+
+		private NumericKernel left = null;
+
+		private NumericKernel right = null;
+
+
+		BinaryKernel(String function, boolean missingValueTolerant, Double mapMissingTo, Double defaultValue, InvalidValueTreatmentMethod invalidValueTreatment, boolean _double, BinaryOperator operator, NumericKernel left, NumericKernel right){
+			super(function, missingValueTolerant, mapMissingTo, defaultValue, invalidValueTreatment, _double);
+
+			this.operator = Objects.requireNonNull(operator);
+			this.left = Objects.requireNonNull(left);
+			this.right = Objects.requireNonNull(right);
+		}
+
+		@Override
+		public void evaluate(NumericColumns columns, double[] values, BitSet missing){
+			int numberOfRows = columns.getNumberOfRows();
+
+			BitSet leftMissing = new BitSet(numberOfRows);
+
+			this.left.evaluate(columns, values, leftMissing);
+
+			double[] rightValues = new double[numberOfRows];
+			BitSet rightMissing = new BitSet(numberOfRows);
+
+			this.right.evaluate(columns, rightValues, rightMissing);
+
+			BinaryOperator operator = this.operator;
+
+			for(int i = 0; i < numberOfRows; i++){
+				values[i] = filterValue(operator.apply(values[i], rightValues[i]));
+			}
+
+			applyMissing(numberOfRows, values, new BitSet[]{leftMissing, rightMissing}, missing);
+		}
+	}
+
+	static
+	enum UnaryOperator {
+		ABS(){
+
+			@Override
+			double apply(double value){
+				return Math.abs(value);
+			}
+		},
+		EXP(){
+
+			@Override
+			double apply(double value){
+				return Math.exp(value);
+			}
+		},
+		EXPM1(){
+
+			@Override
+			double apply(double value){
+				return Math.expm1(value);
+			}
+		},
+		LN(){
+
+			@Override
+			double apply(double value){
+				return Math.log(value);
+			}
+		},
+		LN1P(){
+
+			@Override
+			double apply(double value){
+				return Math.log1p(value);
+			}
+		},
+		LOG10(){
+
+			@Override
+			double apply(double value){
+				return Math.log10(value);
+			}
+		},
+		SQRT(){
+
+			@Override
+			double apply(double value){
+				return Math.sqrt(value);
+			}
+		},
+		;
+
+		abstract
+		double apply(double value);
+	}
+
+	static
+	enum BinaryOperator {
+		ADD(){
+
+			@Override
+			double apply(double left, double right){
+				return (left + right);
+			}
+		},
+		SUBTRACT(){
+
+			@Override
+			double apply(double left, double right){
+				return (left - right);
+			}
+		},
+		MULTIPLY(){
+
+			@Override
+			double apply(double left, double right){
+				return (left * right);
+			}
+		},
+		DIVIDE(){
+
+			@Override
+			double apply(double left, double right){
+				return (left / right);
+			}
+		},
+		MODULO(){
+
+			@Override
+			double apply(double left, double right){
+				return left - Math.floor(left / right) * right;
+			}
+		},
+		POW(){
+
+			@Override
+			double apply(double left, double right){
+				return Math.pow(left, right);
+			}
+		},
+		;
+
+		abstract
+		double apply(double left, double right);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.List;
+
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.InvalidValueTreatmentMethod;
+import org.dmg.pmml.PMMLFunctions;
+import org.jpmml.evaluator.functions.MissingValueTolerant;
+
+public class NumericKernelUtil {
+
+	private NumericKernelUtil(){
+	}
+
+	/**
+	 * <p>
+	 * Compiles a numeric expression subtree into a kernel.
+	 * </p>
+	 *
+	 * <p>
+	 * Supported elements are {@link Constant}, {@link FieldRef} and {@link Apply} with built-in arithmetic and math functions.
+	 * A function is considered to be built-in only if it has not been overridden in the {@link FunctionRegistry}.
+	 * </p>
+	 *
+	 * @return A kernel, or <code>null</code> if the expression cannot be compiled.
+	 */
+	static
+	public NumericKernel compile(Expression expression){
+
+		if(expression instanceof Constant){
+			return compileConstant((Constant)expression);
+		} else
+
+		if(expression instanceof FieldRef){
+			return compileFieldRef((FieldRef)expression);
+		} else
+
+		if(expression instanceof Apply){
+			return compileApply((Apply)expression);
+		}
+
+		return null;
+	}
+
+	static
+	private NumericKernel compileConstant(Constant constant){
+		boolean missing = constant.isMissing();
+		if(missing){
+			return new NumericKernel.ConstantKernel(null, true);
+		}
+
+		Object value = constant.getValue();
+
+		DataType dataType = constant.getDataType();
+
+		if(ExpressionUtil.isEmptyContent(value)){
+
+			if(dataType != null && dataType != DataType.STRING){
+				return new NumericKernel.ConstantKernel(null, true);
+			}
+
+			return null;
+		} // End if
+
+		if(dataType == null){
+			dataType = TypeUtil.getConstantDataType(value);
+		}
+
+		return compileValue(dataType, value);
+	}
+
+	static
+	private NumericKernel compileFieldRef(FieldRef fieldRef){
+		Object mapMissingTo = fieldRef.getMapMissingTo();
+
+		// The mapMissingTo value is a string value
+		if(mapMissingTo != null){
+			return null;
+		}
+
+		return new NumericKernel.ColumnKernel(fieldRef.requireField());
+	}
+
+	static
+	private NumericKernel compileApply(Apply apply){
+		String function = apply.requireFunction();
+
+		InvalidValueTreatmentMethod invalidValueTreatment = apply.getInvalidValueTreatment();
+		switch(invalidValueTreatment){
+			case RETURN_INVALID:
+			case AS_IS:
+			case AS_MISSING:
+				break;
+			default:
+				return null;
+		}
+
+		Double mapMissingTo = null;
+		Double defaultValue = null;
+
+		boolean _double = true;
+
+		if(apply.getMapMissingTo() != null){
+			NumericKernel.ConstantKernel kernel = compileValue(apply.getMapMissingTo());
+			if(kernel == null){
+				return null;
+			}
+
+			mapMissingTo = kernel.getValue();
+			_double &= kernel.isDouble();
+		} // End if
+
+		if(apply.getDefaultValue() != null){
+			NumericKernel.ConstantKernel kernel = compileValue(apply.getDefaultValue());
+			if(kernel == null){
+				return null;
+			}
+
+			defaultValue = kernel.getValue();
+			_double &= kernel.isDouble();
+		}
+
+		Function builtInFunction = FunctionRegistry.getFunction(function);
+
+		boolean missingValueTolerant = (builtInFunction instanceof MissingValueTolerant);
+
+		List<Expression> expressions = apply.getExpressions();
+
+		if(expressions.size() == 1){
+			NumericKernel.UnaryOperator operator = getUnaryOperator(function, builtInFunction);
+			if(operator == null){
+				return null;
+			}
+
+			NumericKernel argument = compile(expressions.get(0));
+			if(argument == null){
+				return null;
+			} // End if
+
+			// The abs function preserves the data type of its argument
+			if((PMMLFunctions.ABS).equals(function) && !argument.isDouble()){
+				return null;
+			}
+
+			return new NumericKernel.UnaryKernel(function, missingValueTolerant, mapMissingTo, defaultValue, invalidValueTreatment, _double, operator, argument);
+		} else
+
+		if(expressions.size() == 2){
+			NumericKernel.BinaryOperator operator = getBinaryOperator(function, builtInFunction);
+			if(operator == null){
+				return null;
+			}
+
+			NumericKernel left = compile(expressions.get(0));
+			NumericKernel right = compile(expressions.get(1));
+			if(left == null || right == null){
+				return null;
+			} // End if
+
+			// Integer arithmetic
+			if(!left.isDouble() && !right.isDouble()){
+				return null;
+			}
+
+			return new NumericKernel.BinaryKernel(function, missingValueTolerant, mapMissingTo, defaultValue, invalidValueTreatment, _double, operator, left, right);
+		}
+
+		return null;
+	}
+
+	static
+	private NumericKernel.ConstantKernel compileValue(Object value){
+		DataType dataType = TypeUtil.getConstantDataType(value);
+
+		return compileValue(dataType, value);
+	}
+
+	static
+	private NumericKernel.ConstantKernel compileValue(DataType dataType, Object value){
+
+		switch(dataType){
+			case INTEGER:
+			case DOUBLE:
+				break;
+			default:
+				return null;
+		}
+
+		Number number;
+
+		try {
+			number = (Number)TypeUtil.parseOrCast(dataType, value);
+		} catch(IllegalArgumentException | TypeCheckException e){
+			return null;
+		}
+
+		return new NumericKernel.ConstantKernel(number.doubleValue(), (dataType == DataType.DOUBLE));
+	}
+
+	static
+	private NumericKernel.UnaryOperator getUnaryOperator(String name, Function function){
+
+		switch(name){
+			case PMMLFunctions.ABS:
+				return (function == Functions.ABS) ? NumericKernel.UnaryOperator.ABS : null;
+			case PMMLFunctions.EXP:
+				return (function == Functions.EXP) ? NumericKernel.UnaryOperator.EXP : null;
+			case PMMLFunctions.EXPM1:
+				return (function == Functions.EXPM1) ? NumericKernel.UnaryOperator.EXPM1 : null;
+			case PMMLFunctions.LN:
+				return (function == Functions.LN) ? NumericKernel.UnaryOperator.LN : null;
+			case PMMLFunctions.LN1P:
+				return (function == Functions.LN1P) ? NumericKernel.UnaryOperator.LN1P : null;
+			case PMMLFunctions.LOG10:
+				return (function == Functions.LOG10) ? NumericKernel.UnaryOperator.LOG10 : null;
+			case PMMLFunctions.SQRT:
+				return (function == Functions.SQRT) ? NumericKernel.UnaryOperator.SQRT : null;
+			default:
+				return null;
+		}
+	}
+
+	static
+	private NumericKernel.BinaryOperator getBinaryOperator(String name, Function function){
+
+		switch(name){
+			case PMMLFunctions.ADD:
+				return (function == Functions.ADD) ? NumericKernel.BinaryOperator.ADD : null;
+			case PMMLFunctions.SUBTRACT:
+				return (function == Functions.SUBTRACT) ? NumericKernel.BinaryOperator.SUBTRACT : null;
+			case PMMLFunctions.MULTIPLY:
+				return (function == Functions.MULTIPLY) ? NumericKernel.BinaryOperator.MULTIPLY : null;
+			case PMMLFunctions.DIVIDE:
+				return (function == Functions.DIVIDE) ? NumericKernel.BinaryOperator.DIVIDE : null;
+			case PMMLFunctions.MODULO:
+				return (function == Functions.MODULO) ? NumericKernel.BinaryOperator.MODULO : null;
+			case PMMLFunctions.POW:
+				return (function == Functions.POW) ? NumericKernel.BinaryOperator.POW : null;
+			default:
+				return null;
+		}
+	}
+}
\ No newline at end of file
@@ -89,6 +89,11 @@ public class OutputUtil {
 		for(int i = 0, max = outputFields.size(); i < max; i++){
 			OutputField outputField = outputFields.get(i);
 
+			// Not needed for computing any filtered output field
+			if(!modelEvaluator.isLive(outputField, context)){
+				continue outputFields;
+			}
+
 			String targetFieldName = outputField.getTargetField();
 
 			Object targetValue = null;
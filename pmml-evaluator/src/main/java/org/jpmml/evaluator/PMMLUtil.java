@@ -22,9 +22,11 @@ import java.util.List;
 import java.util.Objects;
 
 import com.google.common.base.Predicate;
+import org.dmg.pmml.Extension;
 import org.dmg.pmml.Model;
 import org.dmg.pmml.PMML;
 import org.jpmml.model.MissingElementException;
+import org.jpmml.model.ReflectionUtil;
 import org.jpmml.model.XPathUtil;
 
 public class PMMLUtil {
@@ -78,6 +80,75 @@ public class PMMLUtil {
 		return clazz.cast(model);
 	}
 
+	/**
+	 * <p>
+	 * Creates a shallow copy of a PMML element, which retains the specified model as the only model.
+	 * </p>
+	 *
+	 * @see ModelEvaluatorBuilder#setStripNonScoringElements(boolean)
+	 */
+	static
+	public PMML stripPMML(PMML pmml, Model model){
+		PMML result = new PMML(pmml.getVersion(), pmml.getHeader(), pmml.getDataDictionary())
+			.setBaseVersion(pmml.getBaseVersion())
+			.setTransformationDictionary(pmml.getTransformationDictionary())
+			.addModels(model);
+
+		if(pmml.hasExtensions()){
+			List<Extension> extensions = pmml.getExtensions();
+
+			result.addExtensions(extensions.toArray(new Extension[extensions.size()]));
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Creates a shallow copy of a model element, which leaves out model verification, model statistics and model explanation elements.
+	 * </p>
+	 *
+	 * <p>
+	 * If the model class cannot be instantiated reflectively, then the model element is returned unchanged.
+	 * </p>
+	 *
+	 * @see ModelEvaluatorBuilder#setStripNonScoringElements(boolean)
+	 */
+	static
+	public <M extends Model> M stripModel(M model){
+		Class<? extends Model> clazz = model.getClass();
+
+		M result;
+
+		try {
+			result = newInstance(clazz);
+		} catch(ReflectiveOperationException roe){
+			return model;
+		}
+
+		ReflectionUtil.copyState(model, result);
+
+		if(result.getModelVerification() != null){
+			result.setModelVerification(null);
+		} // End if
+
+		if(result.getModelStats() != null){
+			result.setModelStats(null);
+		} // End if
+
+		if(result.getModelExplanation() != null){
+			result.setModelExplanation(null);
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	static
+	private <M extends Model> M newInstance(Class<? extends Model> clazz) throws ReflectiveOperationException {
+		return (M)clazz.getDeclaredConstructor().newInstance();
+	}
+
 	static
 	private Model findModel(PMML pmml, Predicate<Model> predicate, String predicateXPath){
 
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.dmg.pmml.DataType;
+
+/**
+ * <p>
+ * A {@link Table} column that stores its values in a primitive array.
+ * Missing values are tracked in a separate bitmap.
+ * </p>
+ *
+ * <p>
+ * Primitive columns are drop-in replacements for boxed value lists.
+ * Elements can be appended and replaced, but not inserted or removed.
+ * </p>
+ *
+ * @see Table#convertValues(String, DataType)
+ */
+abstract
+public class PrimitiveColumn<E> extends AbstractList<E> implements RandomAccess {
+
+	private int size = 0;
+
+	private BitSet missing = new BitSet();
+
+
+	public PrimitiveColumn(){
+	}
+
+	/**
+	 * <p>
+	 * Creates a column of pre-existing elements.
+	 * </p>
+	 *
+	 * @param size The number of elements.
+	 * @param missing The missing value bitmap.
+	 */
+	protected PrimitiveColumn(int size, BitSet missing){
+
+		if(size < 0){
+			throw new IllegalArgumentException();
+		}
+
+		this.size = size;
+		this.missing = Objects.requireNonNull(missing);
+	}
+
+	abstract
+	public DataType getDataType();
+
+	abstract
+	protected int capacity();
+
+	abstract
+	protected void grow(int minCapacity);
+
+	abstract
+	protected E getValue(int index);
+
+	/**
+	 * @param value A non-<code>null</code> value.
+	 */
+	abstract
+	protected void setValue(int index, Object value);
+
+	public boolean isMissing(int index){
+		checkIndex(index);
+
+		return this.missing.get(index);
+	}
+
+	@Override
+	public int size(){
+		return this.size;
+	}
+
+	@Override
+	public E get(int index){
+		checkIndex(index);
+
+		if(this.missing.get(index)){
+			return null;
+		}
+
+		return getValue(index);
+	}
+
+	@Override
+	public E set(int index, E value){
+		E result = get(index);
+
+		if(value == null){
+			this.missing.set(index);
+		} else
+
+		{
+			setValue(index, value);
+
+			this.missing.clear(index);
+		}
+
+		this.modCount++;
+
+		return result;
+	}
+
+	@Override
+	public void add(int index, E value){
+
+		if(index != this.size){
+			throw new UnsupportedOperationException();
+		}
+
+		index = append();
+
+		set(index, value);
+	}
+
+	/**
+	 * <p>
+	 * Appends a new element, and returns its index.
+	 * The element is initially missing.
+	 * </p>
+	 */
+	protected int append(){
+		int index = this.size;
+
+		if(index >= capacity()){
+			grow(Math.max(16, index + (index >> 1)));
+		}
+
+		this.size++;
+
+		this.missing.set(index);
+
+		this.modCount++;
+
+		return index;
+	}
+
+	protected void setMissing(int index, boolean missing){
+		this.missing.set(index, missing);
+	}
+
+	@Override
+	public void clear(){
+		this.size = 0;
+		this.missing.clear();
+
+		this.modCount++;
+	}
+
+	protected void checkIndex(int index){
+
+		if(index < 0 || index >= this.size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	static
+	public PrimitiveColumn<?> create(DataType dataType, int initialCapacity){
+
+		switch(dataType){
+			case STRING:
+				return new DictionaryColumn(initialCapacity);
+			case INTEGER:
+				return new IntegerColumn(initialCapacity);
+			case FLOAT:
+				return new FloatColumn(initialCapacity);
+			case DOUBLE:
+				return new DoubleColumn(initialCapacity);
+			default:
+				throw new IllegalArgumentException(String.valueOf(dataType));
+		}
+	}
+}
\ No newline at end of file
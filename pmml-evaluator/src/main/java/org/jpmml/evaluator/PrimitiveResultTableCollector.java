@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.dmg.pmml.DataType;
+
+/**
+ * <p>
+ * A result table collector that writes numeric result fields into {@link PrimitiveColumn primitive columns}.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link ResultTableCollector}, result maps are not retained until the finishing step.
+ * Every result map is unpacked into preallocated columns as soon as it is accumulated,
+ * which makes the result map (and any intermediate objects such as {@link ProbabilityDistribution classification results}) immediately eligible for garbage collection.
+ * Numeric values are stored unboxed. Non-numeric values are decoded, and stored as objects.
+ * </p>
+ *
+ * @see ResultField#getDataType()
+ */
+@IgnoreJRERequirement
+public class PrimitiveResultTableCollector implements Collector<Object, PrimitiveResultTableCollector.Buffer, Table> {
+
+	private List<? extends ResultField> resultFields = null;
+
+	private int initialCapacity = 0;
+
+
+	public PrimitiveResultTableCollector(List<? extends ResultField> resultFields){
+		this(resultFields, 1024);
+	}
+
+	public PrimitiveResultTableCollector(List<? extends ResultField> resultFields, int initialCapacity){
+		setResultFields(resultFields);
+		setInitialCapacity(initialCapacity);
+	}
+
+	@Override
+	public Set<Collector.Characteristics> characteristics(){
+		return Collections.emptySet();
+	}
+
+	@Override
+	public Supplier<Buffer> supplier(){
+		List<? extends ResultField> resultFields = getResultFields();
+		int initialCapacity = getInitialCapacity();
+
+		return () -> {
+			return new Buffer(resultFields, initialCapacity);
+		};
+	}
+
+	@Override
+	public BiConsumer<Buffer, Object> accumulator(){
+		return (buffer, element) -> {
+			buffer.add(element);
+		};
+	}
+
+	@Override
+	public BinaryOperator<Buffer> combiner(){
+		return (left, right) -> {
+			left.addAll(right);
+
+			return left;
+		};
+	}
+
+	@Override
+	public Function<Buffer, Table> finisher(){
+		return (buffer) -> {
+			Table table = buffer.getTable();
+
+			table.canonicalize();
+
+			return table;
+		};
+	}
+
+	public List<? extends ResultField> getResultFields(){
+		return this.resultFields;
+	}
+
+	private void setResultFields(List<? extends ResultField> resultFields){
+		this.resultFields = Objects.requireNonNull(resultFields);
+	}
+
+	public int getInitialCapacity(){
+		return this.initialCapacity;
+	}
+
+	private void setInitialCapacity(int initialCapacity){
+
+		if(initialCapacity < 0){
+			throw new IllegalArgumentException();
+		}
+
+		this.initialCapacity = initialCapacity;
+	}
+
+	static
+	private List<?> createColumn(DataType dataType, int initialCapacity){
+
+		if(dataType != null){
+
+			switch(dataType){
+				case INTEGER:
+				case FLOAT:
+				case DOUBLE:
+					return PrimitiveColumn.create(dataType, initialCapacity);
+				default:
+					break;
+			}
+		}
+
+		return new ArrayList<>(initialCapacity);
+	}
+
+	static
+	public class Buffer {
+
+		private Table table = null;
+
+		private String[] names = null;
+
+		private List<?>[] columns = null;
+
+		private int size = 0;
+
+
+		@SuppressWarnings("unchecked")
+		private Buffer(List<? extends ResultField> resultFields, int initialCapacity){
+			List<String> names = new ArrayList<>(resultFields.size());
+			List<List<?>> columns = new ArrayList<>(resultFields.size());
+
+			for(ResultField resultField : resultFields){
+				names.add(resultField.getName());
+				columns.add(createColumn(resultField.getDataType(), initialCapacity));
+			}
+
+			this.table = new Table(new ArrayList<>(names), initialCapacity);
+			this.names = names.toArray(new String[names.size()]);
+			this.columns = columns.toArray(new List[columns.size()]);
+
+			for(int i = 0; i < this.names.length; i++){
+				this.table.setValues(this.names[i], this.columns[i]);
+			}
+		}
+
+		public Table getTable(){
+			return this.table;
+		}
+
+		private void add(Object element){
+			String[] names = this.names;
+			List<?>[] columns = this.columns;
+
+			if(element instanceof Map<?, ?>){
+				Map<?, ?> map = (Map<?, ?>)element;
+
+				for(int i = 0; i < names.length; i++){
+					Object value = map.get(names[i]);
+
+					if(value instanceof Number){
+						addNumber(columns[i], (Number)value);
+					} else
+
+					{
+						add(columns[i], EvaluatorUtil.decode(value));
+					}
+				}
+			} else
+
+			if(element instanceof Exception){
+				Exception exception = (Exception)element;
+
+				for(int i = 0; i < names.length; i++){
+					add(columns[i], null);
+				}
+
+				this.table.setException(this.size, exception);
+			} else
+
+			{
+				throw new IllegalArgumentException();
+			}
+
+			this.size++;
+		}
+
+		private void addAll(Buffer buffer){
+			List<?>[] columns = this.columns;
+
+			for(int i = 0; i < columns.length; i++){
+				addAll(columns[i], buffer.columns[i]);
+			}
+
+			Table table = buffer.getTable();
+
+			for(int i = 0; i < buffer.size; i++){
+				Exception exception = table.getException(i);
+
+				if(exception != null){
+					this.table.setException(this.size + i, exception);
+				}
+			}
+
+			this.size += buffer.size;
+		}
+
+		static
+		private void addNumber(List<?> values, Number number){
+
+			if(values instanceof DoubleColumn){
+				DoubleColumn doubleColumn = (DoubleColumn)values;
+
+				doubleColumn.addDouble(number.doubleValue());
+			} else
+
+			if(values instanceof FloatColumn){
+				FloatColumn floatColumn = (FloatColumn)values;
+
+				floatColumn.addFloat(number.floatValue());
+			} else
+
+			{
+				add(values, number);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		static
+		private void add(List<?> values, Object value){
+			((List<Object>)values).add(value);
+		}
+
+		@SuppressWarnings("unchecked")
+		static
+		private void addAll(List<?> left, List<?> right){
+
+			if(left instanceof DoubleColumn && right instanceof DoubleColumn){
+				DoubleColumn leftColumn = (DoubleColumn)left;
+				DoubleColumn rightColumn = (DoubleColumn)right;
+
+				for(int i = 0, max = rightColumn.size(); i < max; i++){
+
+					if(rightColumn.isMissing(i)){
+						leftColumn.add(null);
+					} else
+
+					{
+						leftColumn.addDouble(rightColumn.getDouble(i));
+					}
+				}
+			} else
+
+			if(left instanceof FloatColumn && right instanceof FloatColumn){
+				FloatColumn leftColumn = (FloatColumn)left;
+				FloatColumn rightColumn = (FloatColumn)right;
+
+				for(int i = 0, max = rightColumn.size(); i < max; i++){
+
+					if(rightColumn.isMissing(i)){
+						leftColumn.add(null);
+					} else
+
+					{
+						leftColumn.addFloat(rightColumn.getFloat(i));
+					}
+				}
+			} else
+
+			if(left instanceof IntegerColumn && right instanceof IntegerColumn){
+				IntegerColumn leftColumn = (IntegerColumn)left;
+				IntegerColumn rightColumn = (IntegerColumn)right;
+
+				for(int i = 0, max = rightColumn.size(); i < max; i++){
+
+					if(rightColumn.isMissing(i)){
+						leftColumn.add(null);
+					} else
+
+					{
+						leftColumn.addInt(rightColumn.getInt(i));
+					}
+				}
+			} else
+
+			{
+				((List<Object>)left).addAll(right);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * <p>
+ * An estimate of the retained heap size of a model evaluator.
+ * </p>
+ *
+ * @see RetainedSizeEstimator
+ */
+public class RetainedSize {
+
+	private long size = 0L;
+
+	private long objectCount = 0L;
+
+	private long sharedSize = 0L;
+
+	private long internedSize = 0L;
+
+	private Map<String, Long> segmentSizes = null;
+
+	private Map<Class<?>, Long> typeSizes = null;
+
+	private Map<Class<?>, Long> typeCounts = null;
+
+
+	RetainedSize(long size, long objectCount, long sharedSize, long internedSize, Map<String, Long> segmentSizes, Map<Class<?>, Long> typeSizes, Map<Class<?>, Long> typeCounts){
+		this.size = size;
+		this.objectCount = objectCount;
+		this.sharedSize = sharedSize;
+		this.internedSize = internedSize;
+		this.segmentSizes = Collections.unmodifiableMap(segmentSizes);
+		this.typeSizes = Collections.unmodifiableMap(typeSizes);
+		this.typeCounts = Collections.unmodifiableMap(typeCounts);
+	}
+
+	/**
+	 * <p>
+	 * Gets the total size in bytes.
+	 * </p>
+	 */
+	public long getSize(){
+		return this.size;
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of distinct objects.
+	 * </p>
+	 */
+	public long getObjectCount(){
+		return this.objectCount;
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of objects that are reachable from two or more segments.
+	 * </p>
+	 */
+	public long getSharedSize(){
+		return this.sharedSize;
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of canonical objects that are held by interner caches.
+	 * This size is not included in the total size, because it is not released together with the model evaluator.
+	 * </p>
+	 */
+	public long getInternedSize(){
+		return this.internedSize;
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of objects that are reachable from exactly one segment, by segment identifier.
+	 * The size of objects that are reachable from the model evaluator outside of segments is the remainder.
+	 * </p>
+	 *
+	 * @return A map of segment sizes, or an empty map if the model is not a segmentation model.
+	 */
+	public Map<String, Long> getSegmentSizes(){
+		return this.segmentSizes;
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of objects by class.
+	 * </p>
+	 */
+	public Map<Class<?>, Long> getTypeSizes(){
+		return this.typeSizes;
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of objects by class.
+	 * </p>
+	 */
+	public Map<Class<?>, Long> getTypeCounts(){
+		return this.typeCounts;
+	}
+}
\ No newline at end of file
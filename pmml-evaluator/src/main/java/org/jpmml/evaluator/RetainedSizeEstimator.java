@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.BiMap;
+import org.dmg.pmml.Entity;
+import org.dmg.pmml.mining.Segment;
+import org.jpmml.model.visitors.DoubleInterner;
+import org.jpmml.model.visitors.FloatInterner;
+import org.jpmml.model.visitors.IntegerInterner;
+import org.jpmml.model.visitors.MiningFieldInterner;
+import org.jpmml.model.visitors.PredicateInterner;
+import org.jpmml.model.visitors.ScoreDistributionInterner;
+
+/**
+ * <p>
+ * A retained heap size estimator for model evaluators.
+ * </p>
+ *
+ * <p>
+ * The estimator walks the object graph of a model evaluator, which comprises the PMML class model and the compiled evaluation structures.
+ * Object sizes are computed using the memory layout of a 64-bit JVM with compressed object references.
+ * The internals of JDK collection, string and byte buffer classes are not reflectively accessible, and are sized using per-class models instead.
+ * No Java agent is needed.
+ * </p>
+ *
+ * <p>
+ * Every distinct object is counted once.
+ * Objects that are reachable from two or more segments are attributed to the shared part, rather than to any single segment.
+ * Objects that are held by the interner caches of the current thread are retained by those caches, and are reported separately.
+ * Objects that are shared with the JVM (classes, enum constants, cached boxed values) are not counted at all.
+ * Evaluation structures that are cached statically by element identity are not counted either.
+ * </p>
+ *
+ * <strong>Simple example</strong>
+ * <pre>{@code
+ * RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+ *
+ * RetainedSize retainedSize = estimator.estimate(modelEvaluator);
+ *
+ * System.out.println(retainedSize.getSize());
+ * System.out.println(retainedSize.getSegmentSizes());
+ * }</pre>
+ *
+ * <p>
+ * Estimating a collection of model evaluators against a common object set yields the incremental size of each model evaluator:
+ * </p>
+ * <pre>{@code
+ * Set<Object> seenObjects = RetainedSizeEstimator.newObjectSet();
+ *
+ * for(ModelEvaluator<?> modelEvaluator : modelEvaluators){
+ *   RetainedSize retainedSize = estimator.estimate(modelEvaluator, seenObjects);
+ * }
+ * }</pre>
+ *
+ * @see ModelRegistry#ModelRegistry(LoadingModelEvaluatorBuilder, long, ModelWeigher)
+ */
+public class RetainedSizeEstimator implements ModelWeigher {
+
+	private ConcurrentMap<Class<?>, ClassLayout> classLayouts = new ConcurrentHashMap<>();
+
+
+	public RetainedSizeEstimator(){
+	}
+
+	/**
+	 * @return The estimated retained size in bytes.
+	 */
+	@Override
+	public long weigh(ModelEvaluator<?> modelEvaluator){
+		RetainedSize retainedSize = estimate(modelEvaluator);
+
+		return retainedSize.getSize();
+	}
+
+	public RetainedSize estimate(ModelEvaluator<?> modelEvaluator){
+		return estimate(modelEvaluator, newObjectSet());
+	}
+
+	/**
+	 * @param seenObjects Objects that have already been counted.
+	 * They are skipped by this estimate.
+	 * Objects that are counted by this estimate are added to it.
+	 */
+	public RetainedSize estimate(ModelEvaluator<?> modelEvaluator, Set<Object> seenObjects){
+		Map<String, Segment> segments = new LinkedHashMap<>();
+
+		if(modelEvaluator instanceof HasEntityRegistry){
+			HasEntityRegistry<?> hasEntityRegistry = (HasEntityRegistry<?>)modelEvaluator;
+
+			BiMap<String, ? extends Entity<?>> entityRegistry = hasEntityRegistry.getEntityRegistry();
+
+			Collection<? extends Map.Entry<String, ? extends Entity<?>>> entries = entityRegistry.entrySet();
+			for(Map.Entry<String, ? extends Entity<?>> entry : entries){
+				Entity<?> entity = entry.getValue();
+
+				if(entity instanceof Segment){
+					segments.put(entry.getKey(), (Segment)entity);
+				}
+			}
+		}
+
+		Set<Object> barriers = newObjectSet();
+		barriers.addAll(segments.values());
+
+		Walk walk = new Walk(seenObjects, getInternedObjects(), barriers);
+
+		walk.run(Collections.singletonList(modelEvaluator), RetainedSizeEstimator.ROOT);
+
+		List<Object> segmentModelEvaluators = walk.getBarrierObjects();
+
+		barriers.clear();
+
+		Collection<Map.Entry<String, Segment>> entries = segments.entrySet();
+		for(Map.Entry<String, Segment> entry : entries){
+			Segment segment = entry.getValue();
+
+			List<Object> roots = new ArrayList<>();
+			roots.add(segment);
+
+			for(Object segmentModelEvaluator : segmentModelEvaluators){
+
+				if(((ModelEvaluator<?>)segmentModelEvaluator).getModel() == segment.getModel()){
+					roots.add(segmentModelEvaluator);
+				}
+			}
+
+			walk.run(roots, entry.getKey());
+		}
+
+		seenObjects.addAll(walk.owners.keySet());
+		seenObjects.addAll(walk.countedInternedObjects);
+
+		Map<String, Long> segmentSizes = new LinkedHashMap<>();
+
+		for(String id : segments.keySet()){
+			segmentSizes.put(id, walk.getSize(id));
+		}
+
+		return new RetainedSize(walk.size, walk.owners.size(), walk.getSize(RetainedSizeEstimator.SHARED), walk.internedSize, segmentSizes, walk.typeSizes, walk.typeCounts);
+	}
+
+	/**
+	 * <p>
+	 * Gets the canonical instances that are held by the interner caches of the current thread.
+	 * </p>
+	 */
+	protected Set<Object> getInternedObjects(){
+		Set<Object> result = newObjectSet();
+
+		result.addAll((DoubleInterner.CACHE_PROVIDER.get()).values());
+		result.addAll((FloatInterner.CACHE_PROVIDER.get()).values());
+		result.addAll((IntegerInterner.CACHE_PROVIDER.get()).values());
+
+		result.addAll((PredicateInterner.CACHE_PROVIDER.get()).values());
+		result.addAll((ScoreDistributionInterner.CACHE_PROVIDER.get()).values());
+		result.addAll((MiningFieldInterner.CACHE_PROVIDER.get()).values());
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of the object itself, and its hidden internals.
+	 * </p>
+	 */
+	public long sizeOf(Object object){
+		Class<?> clazz = object.getClass();
+
+		if(clazz.isArray()){
+			Class<?> componentType = clazz.getComponentType();
+
+			return align(ARRAY_HEADER_SIZE + (long)Array.getLength(object) * sizeOf(componentType));
+		}
+
+		ClassLayout classLayout = getClassLayout(clazz);
+
+		long result = classLayout.size;
+
+		if(!classLayout.accessible){
+
+			if(object instanceof String){
+				String string = (String)object;
+
+				result += align(ARRAY_HEADER_SIZE + string.length());
+			} else
+
+			if(object instanceof ByteBuffer){
+				ByteBuffer byteBuffer = (ByteBuffer)object;
+
+				// Direct and memory-mapped buffers are allocated outside of the heap
+				if(!byteBuffer.isDirect()){
+					result += align(ARRAY_HEADER_SIZE + byteBuffer.capacity());
+				}
+			} else
+
+			if(object instanceof Map){
+				Map<?, ?> map = (Map<?, ?>)object;
+
+				result += sizeOfHashTable(map.size());
+			} else
+
+			if(object instanceof Set){
+				Set<?> set = (Set<?>)object;
+
+				// A hash map plus a hash table
+				result += align(OBJECT_HEADER_SIZE + 4 * REFERENCE_SIZE + 4 * 4) + sizeOfHashTable(set.size());
+			} else
+
+			if(object instanceof Collection){
+				Collection<?> collection = (Collection<?>)object;
+
+				result += align(ARRAY_HEADER_SIZE + (long)collection.size() * REFERENCE_SIZE);
+			}
+		}
+
+		return result;
+	}
+
+	private ClassLayout getClassLayout(Class<?> clazz){
+		ClassLayout classLayout = this.classLayouts.get(clazz);
+
+		if(classLayout == null){
+			classLayout = new ClassLayout(clazz);
+
+			this.classLayouts.putIfAbsent(clazz, classLayout);
+		}
+
+		return classLayout;
+	}
+
+	private class Walk {
+
+		private Set<Object> seenObjects = null;
+
+		private Set<Object> internedObjects = null;
+
+		private Set<Object> barriers = null;
+
+		private Set<Object> countedInternedObjects = newObjectSet();
+
+		private List<Object> barrierObjects = new ArrayList<>();
+
+		private Map<Object, Object> owners = new IdentityHashMap<>();
+
+		private Map<Object, Long> ownerSizes = new LinkedHashMap<>();
+
+		private Map<Class<?>, Long> typeSizes = new LinkedHashMap<>();
+
+		private Map<Class<?>, Long> typeCounts = new LinkedHashMap<>();
+
+		private long size = 0L;
+
+		private long internedSize = 0L;
+
+
+		private Walk(Set<Object> seenObjects, Set<Object> internedObjects, Set<Object> barriers){
+			this.seenObjects = seenObjects;
+			this.internedObjects = internedObjects;
+			this.barriers = barriers;
+		}
+
+		public void run(List<?> roots, Object owner){
+			Set<Object> visitedObjects = newObjectSet();
+
+			Deque<Object> stack = new ArrayDeque<>(roots);
+
+			while(!stack.isEmpty()){
+				Object object = stack.pop();
+
+				if(isShared(object) || !visitedObjects.add(object) || this.seenObjects.contains(object)){
+					continue;
+				} // End if
+
+				if(this.barriers.contains(object)){
+					continue;
+				} // End if
+
+				if(this.internedObjects.contains(object)){
+
+					if(this.countedInternedObjects.add(object)){
+						this.internedSize += sizeOf(object);
+					}
+
+					continue;
+				} // End if
+
+				if((object instanceof ModelEvaluator) && !roots.contains(object) && owner == RetainedSizeEstimator.ROOT){
+					this.barrierObjects.add(object);
+
+					continue;
+				}
+
+				Object prevOwner = this.owners.get(object);
+				if(prevOwner == null){
+					long size = sizeOf(object);
+
+					this.owners.put(object, owner);
+
+					add(this.ownerSizes, owner, size);
+
+					Class<?> clazz = object.getClass();
+
+					add(this.typeSizes, clazz, size);
+					add(this.typeCounts, clazz, 1L);
+
+					this.size += size;
+				} else
+
+				if(prevOwner == RetainedSizeEstimator.ROOT || prevOwner == RetainedSizeEstimator.SHARED){
+					continue;
+				} else
+
+				{
+					long size = sizeOf(object);
+
+					this.owners.put(object, RetainedSizeEstimator.SHARED);
+
+					add(this.ownerSizes, prevOwner, -size);
+					add(this.ownerSizes, RetainedSizeEstimator.SHARED, size);
+				}
+
+				pushChildren(object, stack);
+			}
+		}
+
+		public long getSize(Object owner){
+			Long size = this.ownerSizes.get(owner);
+
+			return (size != null ? size : 0L);
+		}
+
+		public List<Object> getBarrierObjects(){
+			return this.barrierObjects;
+		}
+
+		private void pushChildren(Object object, Deque<Object> stack){
+			Class<?> clazz = object.getClass();
+
+			if(clazz.isArray()){
+
+				if(object instanceof Object[]){
+					Object[] values = (Object[])object;
+
+					for(Object value : values){
+						push(value, stack);
+					}
+				}
+
+				return;
+			}
+
+			ClassLayout classLayout = getClassLayout(clazz);
+
+			if(classLayout.accessible){
+
+				for(Field field : classLayout.referenceFields){
+					Object value;
+
+					try {
+						value = field.get(object);
+					} catch(IllegalAccessException iae){
+						throw new IllegalStateException(iae);
+					}
+
+					push(value, stack);
+				}
+			} else
+
+			{
+				try {
+					if(object instanceof Map){
+						Map<?, ?> map = (Map<?, ?>)object;
+
+						Collection<? extends Map.Entry<?, ?>> entries = map.entrySet();
+						for(Map.Entry<?, ?> entry : entries){
+							push(entry.getKey(), stack);
+							push(entry.getValue(), stack);
+						}
+					} else
+
+					if(object instanceof Collection){
+						Collection<?> collection = (Collection<?>)object;
+
+						for(Object value : collection){
+							push(value, stack);
+						}
+					}
+				} catch(RuntimeException re){
+					// Ignored - the collection is being modified
+				}
+			}
+		}
+
+		private void push(Object object, Deque<Object> stack){
+
+			if(object != null){
+				stack.push(object);
+			}
+		}
+	}
+
+	static
+	public Set<Object> newObjectSet(){
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	static
+	private boolean isShared(Object object){
+
+		if((object instanceof Class) || (object instanceof ClassLoader) || (object instanceof Thread) || (object instanceof ThreadLocal)){
+			return true;
+		} else
+
+		if((object instanceof Enum) || (object instanceof Boolean) || (object instanceof AccessibleObject) || (object instanceof Member)){
+			return true;
+		} else
+
+		if(object instanceof Integer){
+			Integer value = (Integer)object;
+
+			return (value == Integer.valueOf(value.intValue()));
+		} else
+
+		if(object instanceof Long){
+			Long value = (Long)object;
+
+			return (value == Long.valueOf(value.longValue()));
+		} else
+
+		if(object instanceof Short){
+			Short value = (Short)object;
+
+			return (value == Short.valueOf(value.shortValue()));
+		} else
+
+		if(object instanceof Byte){
+			return true;
+		} else
+
+		if(object instanceof Character){
+			Character value = (Character)object;
+
+			return (value == Character.valueOf(value.charValue()));
+		}
+
+		return false;
+	}
+
+	static
+	private long sizeOfHashTable(int size){
+		int capacity = 16;
+
+		while(capacity * 0.75 < size){
+			capacity *= 2;
+		}
+
+		return align(ARRAY_HEADER_SIZE + (long)capacity * REFERENCE_SIZE) + size * align(OBJECT_HEADER_SIZE + 4 + 3 * REFERENCE_SIZE);
+	}
+
+	static
+	private long sizeOf(Class<?> type){
+
+		if(type == long.class || type == double.class){
+			return 8;
+		} else
+
+		if(type == int.class || type == float.class){
+			return 4;
+		} else
+
+		if(type == short.class || type == char.class){
+			return 2;
+		} else
+
+		if(type == byte.class || type == boolean.class){
+			return 1;
+		}
+
+		return REFERENCE_SIZE;
+	}
+
+	static
+	private long align(long size){
+		return ((size + (ALIGNMENT - 1)) / ALIGNMENT) * ALIGNMENT;
+	}
+
+	static
+	private <K> void add(Map<K, Long> map, K key, long value){
+		Long sum = map.get(key);
+
+		map.put(key, (sum != null ? sum + value : value));
+	}
+
+	static
+	private class ClassLayout {
+
+		private long size = 0L;
+
+		private List<Field> referenceFields = new ArrayList<>();
+
+		private boolean accessible = true;
+
+
+		private ClassLayout(Class<?> clazz){
+			long size = OBJECT_HEADER_SIZE;
+
+			for(Class<?> current = clazz; current != null; current = current.getSuperclass()){
+				Field[] fields = current.getDeclaredFields();
+
+				for(Field field : fields){
+
+					if(Modifier.isStatic(field.getModifiers())){
+						continue;
+					}
+
+					Class<?> type = field.getType();
+
+					size += RetainedSizeEstimator.sizeOf(type);
+
+					if(type.isPrimitive()){
+						continue;
+					}
+
+					try {
+						field.setAccessible(true);
+					} catch(RuntimeException re){
+						this.accessible = false;
+					}
+
+					this.referenceFields.add(field);
+				}
+			}
+
+			this.size = align(size);
+		}
+	}
+
+	private static final Object ROOT = new Object();
+	private static final Object SHARED = new Object();
+
+	private static final long OBJECT_HEADER_SIZE = 12;
+	private static final long ARRAY_HEADER_SIZE = 16;
+	private static final long REFERENCE_SIZE = 4;
+	private static final long ALIGNMENT = 8;
+}
\ No newline at end of file
@@ -144,6 +144,11 @@ public class ServiceLoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 		return (ServiceLoadingModelEvaluatorBuilder)super.setFunctionGuard(functionGuard);
 	}
 
+	@Override
+	public ServiceLoadingModelEvaluatorBuilder setStackTraceEnabled(boolean stackTraceEnabled){
+		return (ServiceLoadingModelEvaluatorBuilder)super.setStackTraceEnabled(stackTraceEnabled);
+	}
+
 	@Override
 	public ServiceLoadingModelEvaluatorBuilder setExtraResultFeatures(Set<ResultFeature> extraResultFeatures){
 		return (ServiceLoadingModelEvaluatorBuilder)super.setExtraResultFeatures(extraResultFeatures);
@@ -153,4 +158,14 @@ public class ServiceLoadingModelEvaluatorBuilder extends ModelEvaluatorBuilder {
 	public ServiceLoadingModelEvaluatorBuilder setCheckSchema(boolean checkSchema){
 		return (ServiceLoadingModelEvaluatorBuilder)super.setCheckSchema(checkSchema);
 	}
+
+	@Override
+	public ServiceLoadingModelEvaluatorBuilder setPruneOutputFields(boolean pruneOutputFields){
+		return (ServiceLoadingModelEvaluatorBuilder)super.setPruneOutputFields(pruneOutputFields);
+	}
+
+	@Override
+	public ServiceLoadingModelEvaluatorBuilder setStripNonScoringElements(boolean stripNonScoringElements){
+		return (ServiceLoadingModelEvaluatorBuilder)super.setStripNonScoringElements(stripNonScoringElements);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.VisitorAction;
+import org.jpmml.model.ReflectionUtil;
+import org.jpmml.model.visitors.AbstractVisitor;
+
+/**
+ * <p>
+ * A cache of PMML class model objects, which identifies elements by their structure rather than by their identity.
+ * </p>
+ *
+ * <p>
+ * The cache holds canonical elements weakly.
+ * An entry disappears after the last model evaluator that references the canonical element has been garbage collected.
+ * </p>
+ *
+ * @see org.jpmml.evaluator.visitors.StructuralInterner
+ */
+public class StructuralCache {
+
+	private Cache<StructuralKey, PMMLObject> cache = CacheBuilder.newBuilder()
+		.weakValues()
+		.build();
+
+	/**
+	 * Canonical elements, compared by identity.
+	 */
+	private Set<PMMLObject> canonicalObjects = Collections.newSetFromMap(new MapMaker().weakKeys().<PMMLObject, Boolean>makeMap());
+
+	private ConcurrentMap<Class<? extends PMMLObject>, Statistics> statistics = new ConcurrentHashMap<>();
+
+
+	public StructuralCache(){
+	}
+
+	/**
+	 * <p>
+	 * Gets the canonical element for the specified element.
+	 * </p>
+	 *
+	 * @return The canonical element, or the specified element itself if it is the first of its kind.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends PMMLObject> E intern(E object){
+		StructuralKey key = new StructuralKey(object);
+
+		Callable<PMMLObject> loader = new Callable<PMMLObject>(){
+
+			@Override
+			public PMMLObject call(){
+				return object;
+			}
+		};
+
+		PMMLObject result;
+
+		try {
+			result = this.cache.get(key, loader);
+		} catch(ExecutionException ee){
+			throw new RuntimeException(ee.getCause());
+		}
+
+		Statistics statistics = ensureStatistics(object.getClass());
+
+		statistics.lookups.incrementAndGet();
+
+		if(result != object){
+			statistics.hits.incrementAndGet();
+			statistics.savedObjects.addAndGet(countObjects(object, this.canonicalObjects));
+		} else
+
+		{
+			this.canonicalObjects.add(object);
+		}
+
+		return (E)result;
+	}
+
+	public long size(){
+		return this.cache.size();
+	}
+
+	/**
+	 * <p>
+	 * Gets the total number of PMML class model objects that have been replaced with canonical elements.
+	 * </p>
+	 */
+	public long getSavedObjects(){
+		long result = 0;
+
+		for(Statistics statistics : this.statistics.values()){
+			result += statistics.getSavedObjects();
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets interning statistics, broken down by element type.
+	 * </p>
+	 */
+	public Map<Class<? extends PMMLObject>, Statistics> getStatistics(){
+		return Collections.unmodifiableMap(this.statistics);
+	}
+
+	private Statistics ensureStatistics(Class<? extends PMMLObject> clazz){
+		Statistics statistics = this.statistics.get(clazz);
+
+		if(statistics == null){
+			this.statistics.putIfAbsent(clazz, new Statistics());
+
+			statistics = this.statistics.get(clazz);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * <p>
+	 * Counts the objects of a replaced element.
+	 * Descendant elements that are canonical elements themselves are left out,
+	 * because they were either interned as canonical elements, or were substituted for replaced elements that have been counted already.
+	 * </p>
+	 */
+	static
+	private long countObjects(PMMLObject object, Set<PMMLObject> canonicalObjects){
+		ObjectCounter objectCounter = new ObjectCounter(canonicalObjects);
+		objectCounter.applyTo(object);
+
+		return objectCounter.getCount();
+	}
+
+	static
+	public class Statistics {
+
+		private AtomicLong lookups = new AtomicLong();
+
+		private AtomicLong hits = new AtomicLong();
+
+		private AtomicLong savedObjects = new AtomicLong();
+
+
+		private Statistics(){
+		}
+
+		public long getLookups(){
+			return this.lookups.get();
+		}
+
+		/**
+		 * <p>
+		 * Gets the number of elements that were replaced with a structurally identical canonical element.
+		 * </p>
+		 */
+		public long getHits(){
+			return this.hits.get();
+		}
+
+		/**
+		 * <p>
+		 * Gets the number of PMML class model objects in all replaced elements (ie. including their descendant objects).
+		 * Every object is counted at most once, even if nested replaced elements (eg. segment models of an ensemble model) were replaced before their ancestors.
+		 * </p>
+		 */
+		public long getSavedObjects(){
+			return this.savedObjects.get();
+		}
+	}
+
+	static
+	private class StructuralKey {
+
+		private WeakReference<PMMLObject> object = null;
+
+		private int hashCode = 0;
+
+
+		private StructuralKey(PMMLObject object){
+			this.object = new WeakReference<>(object);
+			this.hashCode = ReflectionUtil.hashCode(object);
+		}
+
+		@Override
+		public int hashCode(){
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object){
+
+			if(object == this){
+				return true;
+			} // End if
+
+			if(object instanceof StructuralKey){
+				StructuralKey that = (StructuralKey)object;
+
+				if(this.hashCode != that.hashCode){
+					return false;
+				}
+
+				PMMLObject thisObject = this.object.get();
+				PMMLObject thatObject = that.object.get();
+
+				return (thisObject != null && thatObject != null) && ReflectionUtil.equals(thisObject, thatObject);
+			}
+
+			return false;
+		}
+	}
+
+	static
+	private class ObjectCounter extends AbstractVisitor {
+
+		private Set<PMMLObject> canonicalObjects = null;
+
+		private long count = 0;
+
+
+		private ObjectCounter(Set<PMMLObject> canonicalObjects){
+			this.canonicalObjects = canonicalObjects;
+		}
+
+		@Override
+		public VisitorAction visit(PMMLObject object){
+
+			if(this.canonicalObjects.contains(object)){
+				return VisitorAction.SKIP;
+			}
+
+			this.count++;
+
+			return super.visit(object);
+		}
+
+		public long getCount(){
+			return this.count;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.io.ByteStreams;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.ModelExplanation;
+import org.dmg.pmml.ModelStats;
+import org.dmg.pmml.ModelVerification;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.mining.Segmentation;
+import org.jpmml.model.InvalidElementException;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * A tree of SHA-256 digests, which describes the structure of an ensemble model at the level of segments.
+ * </p>
+ *
+ * <p>
+ * Every segmentation is described by a context digest and a list of segment digests.
+ * The context digest covers everything that the segments depend on, but not the segments themselves.
+ * For the top-level segmentation, this includes the data dictionary, the transformation dictionary and the names of Visitor classes.
+ * The segment digest of a nested ensemble model is computed from its own digest tree,
+ * so that an unchanged nested segment can be identified within a changed enclosing segment.
+ * </p>
+ *
+ * <p>
+ * Digests are computed from the Java serialization form of freshly loaded PMML class model objects.
+ * Header, model statistics, model explanation and model verification elements of the top-level model are ignored,
+ * because they typically change with every retraining.
+ * </p>
+ *
+ * @see LoadingModelEvaluatorBuilder#setDeltaLoading(boolean)
+ * @see ModelDelta
+ */
+public class StructuralDigest implements Serializable {
+
+	private byte[] context = null;
+
+	private byte[][] segments = null;
+
+	private StructuralDigest[] children = null;
+
+	private byte[] value = null;
+
+
+	private StructuralDigest(byte[] context, byte[][] segments, StructuralDigest[] children){
+		setContext(context);
+		setSegments(segments);
+		setChildren(children);
+
+		MessageDigest messageDigest = createMessageDigest();
+
+		messageDigest.update(context);
+
+		for(byte[] segment : segments){
+			messageDigest.update(segment);
+		}
+
+		setValue(messageDigest.digest());
+	}
+
+	/**
+	 * <p>
+	 * Gets the number of segments.
+	 * </p>
+	 */
+	public int size(){
+		return this.segments.length;
+	}
+
+	/**
+	 * <p>
+	 * Gets the digest of this digest tree as a whole.
+	 * </p>
+	 */
+	public byte[] getValue(){
+		return this.value.clone();
+	}
+
+	byte[] getContext(){
+		return this.context;
+	}
+
+	private void setContext(byte[] context){
+		this.context = context;
+	}
+
+	byte[] getSegment(int index){
+		return this.segments[index];
+	}
+
+	private void setSegments(byte[][] segments){
+		this.segments = segments;
+	}
+
+	StructuralDigest getChild(int index){
+		return this.children[index];
+	}
+
+	private void setChildren(StructuralDigest[] children){
+		this.children = children;
+	}
+
+	private void setValue(byte[] value){
+		this.value = value;
+	}
+
+	/**
+	 * @return The digest tree, or <code>null</code> if the model is not an ensemble model.
+	 */
+	static
+	public StructuralDigest compute(PMML pmml, Model model, List<Class<? extends Visitor>> visitors){
+
+		if(!(model instanceof MiningModel)){
+			return null;
+		}
+
+		MiningModel miningModel = (MiningModel)model;
+
+		if(visitors == null){
+			visitors = Collections.emptyList();
+		}
+
+		MessageDigest messageDigest = createMessageDigest();
+
+		try(ObjectOutputStream os = createObjectOutputStream(messageDigest)){
+
+			for(Class<? extends Visitor> visitor : visitors){
+				os.writeUTF(visitor.getName());
+			}
+
+			os.writeObject(pmml.getVersion());
+			os.writeObject(pmml.getDataDictionary());
+			os.writeObject(pmml.getTransformationDictionary());
+
+			writeContext(os, miningModel, true);
+		} catch(IOException ioe){
+			throw new InvalidElementException(pmml)
+				.initCause(ioe);
+		}
+
+		return compute(miningModel, messageDigest.digest());
+	}
+
+	static
+	private StructuralDigest compute(MiningModel miningModel, byte[] context){
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		List<Segment> segments = (segmentation.hasSegments() ? segmentation.getSegments() : Collections.emptyList());
+
+		byte[][] segmentDigests = new byte[segments.size()][];
+		StructuralDigest[] children = new StructuralDigest[segments.size()];
+
+		for(int i = 0, max = segments.size(); i < max; i++){
+			Segment segment = segments.get(i);
+
+			Model model = segment.getModel();
+
+			MessageDigest messageDigest = createMessageDigest();
+
+			try(ObjectOutputStream os = createObjectOutputStream(messageDigest)){
+
+				if(model instanceof MiningModel){
+					MiningModel childMiningModel = (MiningModel)model;
+
+					StructuralDigest child = compute(childMiningModel, digestContext(childMiningModel));
+
+					writeSegment(os, segment);
+
+					os.write(child.value);
+
+					children[i] = child;
+				} else
+
+				{
+					os.writeObject(segment);
+				}
+			} catch(IOException ioe){
+				throw new InvalidElementException(segment)
+					.initCause(ioe);
+			}
+
+			segmentDigests[i] = messageDigest.digest();
+		}
+
+		return new StructuralDigest(context, segmentDigests, children);
+	}
+
+	static
+	private byte[] digestContext(MiningModel miningModel){
+		MessageDigest messageDigest = createMessageDigest();
+
+		try(ObjectOutputStream os = createObjectOutputStream(messageDigest)){
+			writeContext(os, miningModel, false);
+		} catch(IOException ioe){
+			throw new InvalidElementException(miningModel)
+				.initCause(ioe);
+		}
+
+		return messageDigest.digest();
+	}
+
+	/**
+	 * <p>
+	 * Writes the state of an ensemble model element, leaving out segments.
+	 * </p>
+	 */
+	static
+	private void writeContext(ObjectOutputStream os, MiningModel miningModel, boolean topLevel) throws IOException {
+		List<Field> fields = ReflectionUtil.getFields(miningModel.getClass());
+
+		for(Field field : fields){
+			Object value = ReflectionUtil.getFieldValue(field, miningModel);
+
+			if(value instanceof Segmentation){
+				Segmentation segmentation = (Segmentation)value;
+
+				os.writeObject(segmentation.requireMultipleModelMethod());
+				os.writeObject(segmentation.getMissingPredictionTreatment());
+				os.writeObject(segmentation.getMissingThreshold());
+				os.writeObject(segmentation.hasExtensions() ? segmentation.getExtensions() : null);
+				os.writeObject(segmentation.getLocalTransformations());
+
+				continue;
+			} // End if
+
+			if(topLevel && (value instanceof ModelStats || value instanceof ModelExplanation || value instanceof ModelVerification)){
+				continue;
+			}
+
+			os.writeObject(value);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Writes the state of a segment element, leaving out the model.
+	 * </p>
+	 */
+	static
+	private void writeSegment(ObjectOutputStream os, Segment segment) throws IOException {
+		os.writeObject(segment.getId());
+		os.writeObject(segment.getWeight());
+		os.writeObject(segment.hasExtensions() ? segment.getExtensions() : null);
+		os.writeObject(segment.getPredicate());
+		os.writeObject(segment.getVariableWeight());
+	}
+
+	static
+	private ObjectOutputStream createObjectOutputStream(MessageDigest messageDigest) throws IOException {
+		return new ObjectOutputStream(new DigestOutputStream(ByteStreams.nullOutputStream(), messageDigest));
+	}
+
+	static
+	private MessageDigest createMessageDigest(){
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch(NoSuchAlgorithmException nsae){
+			throw new IllegalStateException(nsae);
+		}
+	}
+}
\ No newline at end of file
@@ -42,6 +42,7 @@ import org.apache.commons.math3.stat.descriptive.rank.Median;
 import org.apache.commons.math3.stat.descriptive.summary.Product;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.dmg.pmml.DataType;
 
 public class Table {
 
@@ -274,6 +275,45 @@ public class Table {
 		columnValues.put(column, values);
 	}
 
+	/**
+	 * <p>
+	 * Replaces the values of a column with a {@link PrimitiveColumn primitive column} of the specified data type.
+	 * </p>
+	 *
+	 * <p>
+	 * Supported data types are {@link DataType#STRING}, {@link DataType#INTEGER}, {@link DataType#FLOAT} and {@link DataType#DOUBLE}.
+	 * String values are parsed, and number values are converted.
+	 * </p>
+	 *
+	 * @return The primitive column, or <code>null</code> if the column does not exist.
+	 */
+	public PrimitiveColumn<?> convertValues(String column, DataType dataType){
+		List<?> values = getValues(column);
+
+		if(values == null){
+			return null;
+		} // End if
+
+		if(values instanceof PrimitiveColumn){
+			PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)values;
+
+			if(primitiveColumn.getDataType() == dataType){
+				return primitiveColumn;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		PrimitiveColumn<Object> result = (PrimitiveColumn<Object>)PrimitiveColumn.create(dataType, values.size());
+
+		for(int i = 0, max = values.size(); i < max; i++){
+			result.add(values.get(i));
+		}
+
+		setValues(column, result);
+
+		return result;
+	}
+
 	private <E> List<E> createList(){
 		return createList(getInitialCapacity());
 	}
@@ -458,6 +498,19 @@ public class Table {
 			return null;
 		}
 
+		public boolean isMissing(String key){
+			int origin = getOrigin();
+
+			List<?> values = getValues(key);
+			if(values instanceof PrimitiveColumn){
+				PrimitiveColumn<?> primitiveColumn = (PrimitiveColumn<?>)values;
+
+				return (origin >= primitiveColumn.size()) || primitiveColumn.isMissing(origin);
+			}
+
+			return (get(key) == null);
+		}
+
 		@Override
 		public Object getLagged(String key, int n, List<String> blockIndicatorKeys){
 			int origin = getOrigin();
@@ -18,17 +18,30 @@
  */
 package org.jpmml.evaluator;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
@@ -87,6 +100,157 @@ public class TableReader {
 		return table;
 	}
 
+	/**
+	 * <p>
+	 * Reads a UTF-8 encoded CSV file using multiple threads.
+	 * </p>
+	 *
+	 * <p>
+	 * The file is split into up to <code>numberOfChunks</code> chunks at record boundaries.
+	 * Each chunk is memory-mapped, decoded and parsed straight into column lists on the executor service.
+	 * Column lists are merged in file order.
+	 * </p>
+	 *
+	 * @param executorService The executor service. The caller is responsible for shutting it down.
+	 */
+	public Table read(File file, ExecutorService executorService, int numberOfChunks) throws IOException {
+		CsvReader.CsvReaderBuilder csvReaderBuilder = getCsvReaderBuilder();
+
+		if(numberOfChunks < 1){
+			throw new IllegalArgumentException("Number of chunks must be positive");
+		}
+
+		char separator = getSeparator(csvReaderBuilder);
+		if(separator > 0x7F){
+			throw new IllegalArgumentException("Expected ASCII separator character, got \'" + separator + "\'");
+		}
+
+		char quoteCharacter = getQuoteCharacter(csvReaderBuilder);
+		if(quoteCharacter > 0x7F){
+			throw new IllegalArgumentException("Expected ASCII quote character, got \'" + quoteCharacter + "\'");
+		}
+
+		List<Future<List<List<String>>>> futures = new ArrayList<>();
+
+		try(FileInputStream is = new FileInputStream(file)){
+			FileChannel channel = is.getChannel();
+
+			long[] boundaries = split(channel, (byte)separator, (byte)quoteCharacter, numberOfChunks);
+
+			for(int i = 0; i < (boundaries.length - 1); i++){
+				long position = boundaries[i];
+				long size = (boundaries[i + 1] - boundaries[i]);
+
+				ByteBuffer byteBuffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+
+				Callable<List<List<String>>> task = new Callable<>(){
+
+					@Override
+					public List<List<String>> call() throws IOException {
+						String string = (StandardCharsets.UTF_8.decode(byteBuffer)).toString();
+
+						return parse(csvReaderBuilder, string);
+					}
+				};
+
+				futures.add(executorService.submit(task));
+			}
+
+			Table table = new Table(0);
+
+			List<List<List<String>>> chunks = new ArrayList<>();
+
+			for(int i = 0; i < futures.size(); i++){
+				List<List<String>> chunkColumnValues = get(futures.get(i));
+
+				if(chunkColumnValues.isEmpty()){
+					continue;
+				} // End if
+
+				if(!chunks.isEmpty() && chunkColumnValues.size() != (chunks.get(0)).size()){
+					throw new IllegalArgumentException("Expected " + (chunks.get(0)).size() + " cells per record, got " + chunkColumnValues.size() + " cells");
+				}
+
+				chunks.add(chunkColumnValues);
+			}
+
+			if(!chunks.isEmpty()){
+				List<List<String>> headerChunkColumnValues = chunks.get(0);
+
+				List<String> columns = new ArrayList<>();
+
+				for(List<String> chunkValues : headerChunkColumnValues){
+					columns.add(chunkValues.get(0));
+				}
+
+				initColumns(table, columns);
+
+				for(int j = 0; j < columns.size(); j++){
+					int size = 0;
+
+					for(List<List<String>> chunkColumnValues : chunks){
+						size += (chunkColumnValues.get(j)).size();
+					}
+
+					List<String> values = new ArrayList<>(size - 1);
+
+					for(int k = 0; k < chunks.size(); k++){
+						List<String> chunkValues = (chunks.get(k)).get(j);
+
+						// Skip the header cell
+						for(int l = (k == 0 ? 1 : 0); l < chunkValues.size(); l++){
+							values.add(chunkValues.get(l));
+						}
+					}
+
+					table.setValues(columns.get(j), values);
+				}
+			}
+
+			table.canonicalize();
+
+			return table;
+		} finally {
+
+			for(Future<?> future : futures){
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Opens a reader that returns the content of a CSV document in chunks of up to <code>chunkSize</code> rows.
+	 * </p>
+	 *
+	 * <p>
+	 * At any one time, only the current chunk is held in memory.
+	 * The caller is responsible for closing the chunk reader.
+	 * </p>
+	 */
+	public ChunkReader open(InputStream is, int chunkSize) throws IOException {
+		return open(new InputStreamReader(is, "UTF-8"), chunkSize);
+	}
+
+	public ChunkReader open(Reader reader, int chunkSize) throws IOException {
+		CsvReader.CsvReaderBuilder csvReaderBuilder = getCsvReaderBuilder();
+
+		if(chunkSize < 1){
+			throw new IllegalArgumentException("Chunk size must be positive");
+		}
+
+		FilterReader safeReader = new FilterReader(reader){
+
+			@Override
+			public void close(){
+			}
+		};
+
+		CsvReader<NamedCsvRecord> csvReader = csvReaderBuilder.ofNamedCsvRecord(safeReader);
+
+		return new ChunkReader(csvReader, chunkSize);
+	}
+
 	public char getSeparator(){
 		CsvReader.CsvReaderBuilder csvReaderBuilder = getCsvReaderBuilder();
 
@@ -113,6 +277,18 @@ public class TableReader {
 		}
 	}
 
+	static
+	public char getQuoteCharacter(CsvReader.CsvReaderBuilder csvReaderBuilder){
+
+		try {
+			Field quoteCharacterField = CsvReader.CsvReaderBuilder.class.getDeclaredField("quoteCharacter");
+
+			return ReflectionUtil.getFieldValue(quoteCharacterField, csvReaderBuilder);
+		} catch(ReflectiveOperationException roe){
+			throw new RuntimeException(roe);
+		}
+	}
+
 	static
 	public CsvReader.CsvReaderBuilder detectCsvReaderBuilder(Reader reader, int numberOfLines) throws IOException {
 
@@ -176,10 +352,170 @@ public class TableReader {
 		return csvReaderBuilder;
 	}
 
+	/**
+	 * <p>
+	 * Finds record boundaries that are closest to (but not before) evenly spaced split points.
+	 * </p>
+	 *
+	 * <p>
+	 * The scan tracks the state of the CSV parser from the start of the file, so every boundary is a known record start.
+	 * A quote character opens a quoted field only at the start of a field.
+	 * Elsewhere in an unquoted field it is a regular character, and does not affect the quoting state.
+	 * Inside a quoted field, a pair of quote characters is an escaped quote character.
+	 * If the file ends inside a quoted field, then its structure is ambiguous, and the whole file is returned as a single chunk.
+	 * </p>
+	 *
+	 * <p>
+	 * The scan works on raw bytes, because UTF-8 multi-byte sequences never contain ASCII bytes.
+	 * </p>
+	 */
+	static
+	long[] split(FileChannel channel, byte separator, byte quoteCharacter, int numberOfChunks) throws IOException {
+		long size = channel.size();
+
+		// Keep every chunk mappable
+		numberOfChunks = (int)Math.max(numberOfChunks, (size / Integer.MAX_VALUE) + 1);
+
+		List<Long> result = new ArrayList<>();
+		result.add(0L);
+
+		long target = (size / numberOfChunks);
+
+		int state = TableReader.STATE_FIELD_START;
+
+		for(long windowPosition = 0; windowPosition < size; windowPosition += TableReader.SCAN_WINDOW_SIZE){
+			long windowSize = Math.min(TableReader.SCAN_WINDOW_SIZE, size - windowPosition);
+
+			MappedByteBuffer byteBuffer = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition, windowSize);
+
+			for(int i = 0; i < windowSize; i++){
+				byte b = byteBuffer.get(i);
+
+				switch(state){
+					case TableReader.STATE_QUOTED:
+						if(b == quoteCharacter){
+							state = TableReader.STATE_QUOTED_QUOTE;
+						}
+						continue;
+					case TableReader.STATE_QUOTED_QUOTE:
+						if(b == quoteCharacter){
+							state = TableReader.STATE_QUOTED;
+
+							continue;
+						}
+						break;
+					case TableReader.STATE_FIELD_START:
+						if(b == quoteCharacter){
+							state = TableReader.STATE_QUOTED;
+
+							continue;
+						}
+						break;
+					default:
+						break;
+				}
+
+				if(b == separator || b == '\r'){
+					state = TableReader.STATE_FIELD_START;
+				} else
+
+				if(b == '\n'){
+					state = TableReader.STATE_FIELD_START;
+
+					long position = windowPosition + i + 1;
+
+					if(position >= target && position < size){
+						result.add(position);
+
+						target = (result.size() * (size / numberOfChunks));
+					}
+				} else
+
+				{
+					state = TableReader.STATE_UNQUOTED;
+				}
+			}
+		}
+
+		// Unterminated quoted field
+		if(state == TableReader.STATE_QUOTED){
+			return new long[]{0L, size};
+		}
+
+		result.add(size);
+
+		long[] boundaries = new long[result.size()];
+
+		for(int i = 0; i < boundaries.length; i++){
+			boundaries[i] = result.get(i);
+		}
+
+		return boundaries;
+	}
+
+	static
+	private List<List<String>> parse(CsvReader.CsvReaderBuilder csvReaderBuilder, String string) throws IOException {
+		List<List<String>> result = new ArrayList<>();
+
+		try(CsvReader<CsvRecord> csvReader = csvReaderBuilder.ofCsvRecord(string)){
+
+			for(Iterator<CsvRecord> it = csvReader.iterator(); it.hasNext(); ){
+				CsvRecord csvRecord = it.next();
+
+				int fieldCount = csvRecord.getFieldCount();
+
+				if(result.isEmpty()){
+
+					for(int i = 0; i < fieldCount; i++){
+						result.add(new ArrayList<>());
+					}
+				}
+
+				for(int i = 0; i < fieldCount; i++){
+					List<String> values = result.get(i);
+
+					values.add(csvRecord.getField(i));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	static
+	private <E> E get(Future<E> future) throws IOException {
+
+		try {
+			return future.get();
+		} catch(InterruptedException ie){
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException();
+		} catch(ExecutionException ee){
+			Throwable cause = ee.getCause();
+
+			if(cause instanceof IOException){
+				throw (IOException)cause;
+			} else
+
+			if(cause instanceof RuntimeException){
+				throw (RuntimeException)cause;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
 	static
 	private List<String> initColumns(Table table, NamedCsvRecord csvRecord){
 		List<String> columns = csvRecord.getHeader();
 
+		return initColumns(table, columns);
+	}
+
+	static
+	private List<String> initColumns(Table table, List<String> columns){
+
 		Set<String> duplicateColumns = new LinkedHashSet<>();
 
 		for(String column : columns){
@@ -196,4 +532,79 @@ public class TableReader {
 
 		return columns;
 	}
+
+	private static final long SCAN_WINDOW_SIZE = (1L << 28);
+
+	private static final int STATE_FIELD_START = 0;
+	private static final int STATE_UNQUOTED = 1;
+	private static final int STATE_QUOTED = 2;
+	private static final int STATE_QUOTED_QUOTE = 3;
+
+	public class ChunkReader implements Closeable {
+
+		private CsvReader<NamedCsvRecord> csvReader = null;
+
+		private Iterator<NamedCsvRecord> iterator = null;
+
+		private int chunkSize = 0;
+
+		private List<String> columns = null;
+
+
+		private ChunkReader(CsvReader<NamedCsvRecord> csvReader, int chunkSize){
+			this.csvReader = Objects.requireNonNull(csvReader);
+			this.iterator = csvReader.iterator();
+			this.chunkSize = chunkSize;
+		}
+
+		/**
+		 * @return The next chunk, or <code>null</code> if the CSV document has been exhausted.
+		 */
+		public Table read(){
+			Iterator<NamedCsvRecord> it = this.iterator;
+
+			if(!it.hasNext()){
+				return null;
+			}
+
+			Table table = new Table(this.chunkSize);
+
+			if(this.columns != null){
+
+				for(String column : this.columns){
+					table.addColumn(column);
+				}
+			}
+
+			Table.Row row = table.createWriterRow(0);
+
+			for(int i = 0; (i < this.chunkSize) && it.hasNext(); i++){
+				NamedCsvRecord csvRecord = it.next();
+
+				if(this.columns == null){
+					this.columns = initColumns(table, csvRecord);
+				}
+
+				row.putAll(csvRecord.getFieldsAsMap());
+
+				row.advance();
+			}
+
+			table.canonicalize();
+
+			return table;
+		}
+
+		/**
+		 * @return The header row, or <code>null</code> if no chunks have been read yet.
+		 */
+		public List<String> getColumns(){
+			return this.columns;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.csvReader.close();
+		}
+	}
 }
\ No newline at end of file
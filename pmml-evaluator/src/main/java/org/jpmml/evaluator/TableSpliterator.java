@@ -20,6 +20,7 @@ package org.jpmml.evaluator;
 
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
@@ -31,6 +32,10 @@ public class TableSpliterator implements Spliterator<Table.Row> {
 
 	private Table.Row row = null;
 
+	private int minChunkSize = 1;
+
+	private CostTracker costTracker = null;
+
 
 	public TableSpliterator(Table table){
 		setTable(table);
@@ -82,14 +87,38 @@ public class TableSpliterator implements Spliterator<Table.Row> {
 	@Override
 	public void forEachRemaining(Consumer<? super Table.Row> action){
 		Table.Row row = ensureRow();
+		CostTracker costTracker = getCostTracker();
+
+		long startTime = (costTracker != null ? System.nanoTime() : 0L);
+
+		int count = 0;
 
 		while(row.canAdvance()){
 			action.accept(row);
 
 			row.advance();
+
+			count++;
+		}
+
+		if(costTracker != null && count > 0){
+			costTracker.record(count, System.nanoTime() - startTime);
 		}
 	}
 
+	/**
+	 * <p>
+	 * Splits off the first half of the remaining rows.
+	 * </p>
+	 *
+	 * <p>
+	 * Splitting is refused if either half would be smaller than the chunk size.
+	 * The chunk size is the minimum chunk size, or the cost tracker's estimate, whichever is greater.
+	 * </p>
+	 *
+	 * @see #getMinChunkSize()
+	 * @see #getCostTracker()
+	 */
 	@Override
 	public TableSpliterator trySplit(){
 		Table.Row row = ensureRow();
@@ -97,13 +126,22 @@ public class TableSpliterator implements Spliterator<Table.Row> {
 		int origin = row.getOrigin();
 		int fence = row.getFence();
 
+		int chunkSize = getMinChunkSize();
+
+		CostTracker costTracker = getCostTracker();
+		if(costTracker != null){
+			chunkSize = Math.max(chunkSize, costTracker.estimateChunkSize());
+		}
+
 		int mid = (origin + fence) >>> 1;
-		if(origin < mid){
+		if(origin < mid && (mid - origin) >= chunkSize && (fence - mid) >= chunkSize){
 			Table table = getTable();
 
 			row.setOrigin(mid);
 
 			return new TableSpliterator(table)
+				.setMinChunkSize(getMinChunkSize())
+				.setCostTracker(costTracker)
 				.init(origin, mid);
 		}
 
@@ -135,4 +173,101 @@ public class TableSpliterator implements Spliterator<Table.Row> {
 	private void setRow(Table.Row row){
 		this.row = Objects.requireNonNull(row);
 	}
+
+	public int getMinChunkSize(){
+		return this.minChunkSize;
+	}
+
+	public TableSpliterator setMinChunkSize(int minChunkSize){
+
+		if(minChunkSize < 1){
+			throw new IllegalArgumentException();
+		}
+
+		this.minChunkSize = minChunkSize;
+
+		return this;
+	}
+
+	public CostTracker getCostTracker(){
+		return this.costTracker;
+	}
+
+	public TableSpliterator setCostTracker(CostTracker costTracker){
+		this.costTracker = costTracker;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Measures the average per-row cost of processing, and translates it to the chunk size that takes the target amount of time.
+	 * </p>
+	 *
+	 * <p>
+	 * A cost tracker should be shared between all spliterators over a table, and between successive runs over similar tables,
+	 * so that cheap rows are processed in few large chunks, and expensive rows in many small chunks.
+	 * </p>
+	 */
+	static
+	public class CostTracker {
+
+		private long targetNanos = 0L;
+
+		private AtomicLong rows = new AtomicLong();
+
+		private AtomicLong nanos = new AtomicLong();
+
+
+		/**
+		 * @param targetNanos The target processing time of a chunk, in nanoseconds.
+		 */
+		public CostTracker(long targetNanos){
+
+			if(targetNanos < 1){
+				throw new IllegalArgumentException();
+			}
+
+			this.targetNanos = targetNanos;
+		}
+
+		public void record(long rows, long nanos){
+			this.rows.addAndGet(rows);
+			this.nanos.addAndGet(nanos);
+		}
+
+		/**
+		 * @return The average cost of a row in nanoseconds, or <code>-1</code> if nothing has been recorded yet.
+		 */
+		public double getRowCost(){
+			long rows = this.rows.get();
+			long nanos = this.nanos.get();
+
+			if(rows == 0){
+				return -1d;
+			}
+
+			return ((double)nanos / (double)rows);
+		}
+
+		public int estimateChunkSize(){
+			double rowCost = getRowCost();
+
+			if(rowCost < 0d){
+				return 1;
+			}
+
+			double chunkSize = (this.targetNanos / Math.max(rowCost, 1d));
+
+			return (int)Math.max(1d, Math.min(chunkSize, Integer.MAX_VALUE));
+		}
+
+		public long getRowCount(){
+			return this.rows.get();
+		}
+
+		public long getTargetNanos(){
+			return this.targetNanos;
+		}
+	}
 }
\ No newline at end of file
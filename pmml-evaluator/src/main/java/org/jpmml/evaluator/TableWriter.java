@@ -18,11 +18,13 @@
  */
 package org.jpmml.evaluator;
 
+import java.io.Closeable;
 import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -62,12 +64,18 @@ public class TableWriter {
 
 			csvWriter.writeRecord(columns);
 
+			List<String> cells = new ArrayList<>(columns.size());
+
 			int numberOfRows = table.getNumberOfRows();
 			if(numberOfRows > 0){
 				Table.Row row = table.createWriterRow(0);
 
 				for(int i = 0; i < numberOfRows; i++){
-					Iterable<String> cells = (Iterable)row.values();
+					cells.clear();
+
+					for(String column : columns){
+						cells.add(formatCell(row.get(column)));
+					}
 
 					csvWriter.writeRecord(cells);
 
@@ -77,6 +85,37 @@ public class TableWriter {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Opens a writer that appends tables to a CSV document one chunk at a time.
+	 * </p>
+	 *
+	 * <p>
+	 * The header row is determined by the first chunk.
+	 * Subsequent chunks may omit columns (written as missing values), but may not introduce new ones.
+	 * The caller is responsible for closing the chunk writer.
+	 * </p>
+	 */
+	public ChunkWriter open(OutputStream os) throws IOException {
+		return open(new OutputStreamWriter(os, "UTF-8"));
+	}
+
+	public ChunkWriter open(Writer writer) throws IOException {
+		CsvWriter.CsvWriterBuilder csvWriterBuilder = getCsvWriterBuilder();
+
+		FilterWriter safeWriter = new FilterWriter(writer){
+
+			@Override
+			public void close() throws IOException {
+				super.flush();
+			}
+		};
+
+		CsvWriter csvWriter = csvWriterBuilder.build(safeWriter);
+
+		return new ChunkWriter(csvWriter);
+	}
+
 	public CsvWriter.CsvWriterBuilder getCsvWriterBuilder(){
 		return this.csvWriterBuilder;
 	}
@@ -93,4 +132,79 @@ public class TableWriter {
 
 		return csvWriterBuilder;
 	}
+
+	/**
+	 * <p>
+	 * Formats a cell value.
+	 * String values are written as-is, and number values are formatted using {@link NumberFormatUtil}.
+	 * </p>
+	 */
+	static
+	private String formatCell(Object value){
+
+		if(value == null){
+			return null;
+		}
+
+		return NumberFormatUtil.format(value);
+	}
+
+	public class ChunkWriter implements Closeable {
+
+		private CsvWriter csvWriter = null;
+
+		private List<String> columns = null;
+
+
+		private ChunkWriter(CsvWriter csvWriter){
+			this.csvWriter = Objects.requireNonNull(csvWriter);
+		}
+
+		public void write(Table table) throws IOException {
+			CsvWriter csvWriter = this.csvWriter;
+
+			if(this.columns == null){
+				this.columns = new ArrayList<>(table.getColumns());
+
+				csvWriter.writeRecord(this.columns);
+			} else
+
+			{
+				List<String> unknownColumns = new ArrayList<>(table.getColumns());
+				unknownColumns.removeAll(this.columns);
+
+				if(!unknownColumns.isEmpty()){
+					throw new IllegalArgumentException("Expected " + this.columns + " columns, got non-matching column(s) " + unknownColumns);
+				}
+			}
+
+			List<String> cells = new ArrayList<>(this.columns.size());
+
+			int numberOfRows = table.getNumberOfRows();
+			if(numberOfRows > 0){
+				Table.Row row = table.createWriterRow(0);
+
+				for(int i = 0; i < numberOfRows; i++){
+					cells.clear();
+
+					for(String column : this.columns){
+						cells.add(formatCell(row.get(column)));
+					}
+
+					csvWriter.writeRecord(cells);
+
+					row.advance();
+				}
+			}
+		}
+
+		public List<String> getColumns(){
+			return this.columns;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.csvWriter.close();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Table;
+import org.dmg.pmml.InlineTable;
+import org.dmg.pmml.PMMLAttributes;
+import org.dmg.pmml.Row;
+import org.dmg.pmml.TextIndex;
+import org.dmg.pmml.TextIndexNormalization;
+import org.jpmml.model.InvalidAttributeException;
+import org.jpmml.model.InvalidElementException;
+import org.jpmml.model.PMMLException;
+
+/**
+ * <p>
+ * A precompiled text normalization pipeline of a {@link TextIndex} element.
+ * </p>
+ *
+ * <p>
+ * The content of all {@link TextIndexNormalization} child elements is parsed and compiled to {@link Pattern} objects once.
+ * The results of normalization are kept in a bounded cache,
+ * so that repeated text values skip the pipeline altogether.
+ * </p>
+ *
+ * @see TextUtil#getTextNormalizer(TextIndex)
+ */
+public class TextNormalizer {
+
+	private Stage[] stages = null;
+
+	private Cache<String, String> cache = null;
+
+
+	public TextNormalizer(TextIndex textIndex){
+		setStages(compile(textIndex));
+
+		Cache<String, String> cache = CacheBuilder.newBuilder()
+			.maximumSize(TextNormalizer.maximumCacheSize)
+			.build();
+
+		setCache(cache);
+	}
+
+	public String normalize(String string){
+		Stage[] stages = getStages();
+
+		if(stages.length == 0){
+			return string;
+		}
+
+		Cache<String, String> cache = getCache();
+
+		String result = cache.getIfPresent(string);
+		if(result == null){
+			result = string;
+
+			for(Stage stage : stages){
+				result = stage.apply(result);
+			}
+
+			cache.put(string, result);
+		}
+
+		return result;
+	}
+
+	public long size(){
+		Cache<String, String> cache = getCache();
+
+		return cache.size();
+	}
+
+	Stage[] getStages(){
+		return this.stages;
+	}
+
+	private void setStages(Stage[] stages){
+		this.stages = Objects.requireNonNull(stages);
+	}
+
+	Cache<String, String> getCache(){
+		return this.cache;
+	}
+
+	private void setCache(Cache<String, String> cache){
+		this.cache = Objects.requireNonNull(cache);
+	}
+
+	static
+	public long getMaximumCacheSize(){
+		return TextNormalizer.maximumCacheSize;
+	}
+
+	/**
+	 * <p>
+	 * Sets the maximum number of normalization results that are retained per {@link TextIndex} element.
+	 * The change takes effect for {@link TextNormalizer} objects that are created afterwards.
+	 * </p>
+	 */
+	static
+	public void setMaximumCacheSize(long maximumCacheSize){
+
+		if(maximumCacheSize < 0){
+			throw new IllegalArgumentException();
+		}
+
+		TextNormalizer.maximumCacheSize = maximumCacheSize;
+	}
+
+	static
+	private Stage[] compile(TextIndex textIndex){
+		List<Stage> result = new ArrayList<>();
+
+		if(textIndex.hasTextIndexNormalizations()){
+			List<TextIndexNormalization> textIndexNormalizations = textIndex.getTextIndexNormalizations();
+
+			for(TextIndexNormalization textIndexNormalization : textIndexNormalizations){
+				Stage stage;
+
+				try {
+					stage = compile(textIndex, textIndexNormalization);
+				} catch(PMMLException pe){
+					throw pe.ensureContext(textIndexNormalization);
+				}
+
+				if(stage != null){
+					result.add(stage);
+				}
+			}
+		}
+
+		return result.toArray(new Stage[result.size()]);
+	}
+
+	static
+	private Stage compile(TextIndex textIndex, TextIndexNormalization textIndexNormalization){
+		Boolean caseSensitive = textIndexNormalization.isCaseSensitive();
+		if(caseSensitive == null){
+			caseSensitive = textIndex.isCaseSensitive();
+		}
+
+		Integer maxLevenshteinDistance = textIndexNormalization.getMaxLevenshteinDistance();
+		if(maxLevenshteinDistance == null){
+			maxLevenshteinDistance = textIndex.getMaxLevenshteinDistance();
+
+			if(maxLevenshteinDistance < 0){
+				throw new InvalidAttributeException(textIndex, PMMLAttributes.TEXTINDEX_MAXLEVENSHTEINDISTANCE, maxLevenshteinDistance);
+			}
+		} else
+
+		{
+			if(maxLevenshteinDistance < 0){
+				throw new InvalidAttributeException(textIndexNormalization, PMMLAttributes.TEXTINDEXNORMALIZATION_MAXLEVENSHTEINDISTANCE, maxLevenshteinDistance);
+			}
+		}
+
+		InlineTable inlineTable = InlineTableUtil.getInlineTable(textIndexNormalization);
+		if(inlineTable == null){
+			return null;
+		}
+
+		String inColumn = textIndexNormalization.getInField();
+		String outColumn = textIndexNormalization.getOutField();
+		String regexColumn = textIndexNormalization.getRegexField();
+
+		Table<Integer, String, Object> table = InlineTableUtil.getContent(inlineTable);
+
+		int regexFlags = (caseSensitive ? 0 : (Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+
+		List<Row> rows = inlineTable.getRows();
+
+		String[] literals = new String[rows.size()];
+		Pattern[] patterns = new Pattern[rows.size()];
+		String[] replacements = new String[rows.size()];
+
+		for(int i = 0, max = rows.size(); i < max; i++){
+			Row row = rows.get(i);
+
+			Integer rowKey = (i + 1);
+
+			String inValue = (String)table.get(rowKey, inColumn);
+			if(inValue == null){
+				throw new InvalidElementException("Cell " + EvaluationException.formatKey(inColumn) + " is not defined", row);
+			}
+
+			String outValue = (String)table.get(rowKey, outColumn);
+			if(outValue == null){
+				throw new InvalidElementException("Cell " + EvaluationException.formatKey(outColumn) + " is not defined", row);
+			}
+
+			String regexValue = (String)table.get(rowKey, regexColumn);
+
+			// "If there is a regexField column and its value for that row is true, then the string in the inField column should be treated as a PCRE regular expression"
+			boolean regex = ("true").equalsIgnoreCase(regexValue);
+			if(regex){
+				patterns[i] = RegExUtil.compile(inValue, regexFlags, row);
+			} else
+
+			{
+				// A case-sensitive literal can be ruled out by a plain substring search
+				if(caseSensitive){
+					literals[i] = inValue;
+				}
+
+				patterns[i] = RegExUtil.compile(Pattern.quote(inValue), regexFlags, row);
+			}
+
+			replacements[i] = outValue;
+		}
+
+		return new Stage(literals, patterns, replacements, textIndexNormalization.isRecursive());
+	}
+
+	static
+	class Stage {
+
+		private String[] literals = null;
+
+		private Pattern[] patterns = null;
+
+		private String[] replacements = null;
+
+		private boolean recursive = false;
+
+
+		Stage(String[] literals, Pattern[] patterns, String[] replacements, boolean recursive){
+			this.literals = Objects.requireNonNull(literals);
+			this.patterns = Objects.requireNonNull(patterns);
+			this.replacements = Objects.requireNonNull(replacements);
+			this.recursive = recursive;
+		}
+
+		public String apply(String string){
+
+			while(true){
+				String normalizedString = applyOnce(string);
+
+				// "If the recursive flag is set to true, then the normalization table is reapplied until none of its rows causes a change to the input text."
+				if(this.recursive && !(normalizedString).equals(string)){
+					string = normalizedString;
+
+					continue;
+				}
+
+				return normalizedString;
+			}
+		}
+
+		private String applyOnce(String string){
+
+			for(int i = 0; i < this.patterns.length; i++){
+				String literal = this.literals[i];
+
+				if(literal != null && !string.contains(literal)){
+					continue;
+				}
+
+				string = this.patterns[i].matcher(string).replaceAll(this.replacements[i]);
+			}
+
+			return string;
+		}
+	}
+
+	private static long maximumCacheSize = 10000;
+}
\ No newline at end of file
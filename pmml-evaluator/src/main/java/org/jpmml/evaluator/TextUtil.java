@@ -19,6 +19,7 @@
 package org.jpmml.evaluator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,13 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.Interner;
 import com.google.common.collect.Table;
 import org.dmg.pmml.InlineTable;
@@ -51,18 +59,19 @@ public class TextUtil {
 	public String normalize(TextIndex textIndex, String string){
 
 		if(textIndex.hasTextIndexNormalizations()){
-			List<TextIndexNormalization> textIndexNormalizations = textIndex.getTextIndexNormalizations();
+			TextNormalizer textNormalizer = getTextNormalizer(textIndex);
 
-			for(int i = 0, max = textIndexNormalizations.size(); i < max; i++){
-				TextIndexNormalization textIndexNormalization = textIndexNormalizations.get(i);
-
-				string = TextUtil.normalize(textIndex, textIndexNormalization, string);
-			}
+			return textNormalizer.normalize(string);
 		}
 
 		return string;
 	}
 
+	static
+	public TextNormalizer getTextNormalizer(TextIndex textIndex){
+		return CacheUtil.getValue(textIndex, TextUtil.textNormalizers);
+	}
+
 	static
 	public String normalize(TextIndex textIndex, TextIndexNormalization textIndexNormalization, String string){
 		TextTokenizer tokenizer = null;
@@ -274,6 +283,8 @@ public class TextUtil {
 		int textSize = textTokens.size();
 		int termSize = termTokens.size();
 
+		LevenshteinDistanceUtil.Term[] terms = (maxLevenshteinDistance > 0 ? compile(termTokens, caseSensitive) : null);
+
 		text:
 		for(int i = 0, max = (textSize - termSize); i <= max; i++){
 			int levenshteinDistance = 0;
@@ -301,7 +312,7 @@ public class TextUtil {
 				} else
 
 				{
-					int tokenLevenshteinDistance = LevenshteinDistanceUtil.limitedCompare(textToken, termToken, caseSensitive, threshold);
+					int tokenLevenshteinDistance = limitedCompare(textToken, termToken, terms[j], caseSensitive, threshold);
 
 					if(tokenLevenshteinDistance < 0){
 						continue text;
@@ -349,13 +360,21 @@ public class TextUtil {
 		Map<TokenizedString, Integer> result = new HashMap<>();
 
 		List<TokenizedString> termTokenList;
+		List<LevenshteinDistanceUtil.Term[]> termList;
 
 		if(caseSensitive && maxLevenshteinDistance == 0){
 			termTokenList = null;
+			termList = null;
 		} else
 
 		{
 			termTokenList = new ArrayList<>(termTokenSet);
+			termList = new ArrayList<>(termTokenList.size());
+
+			// The match masks of term tokens are shared between all slices of the text
+			for(TokenizedString termTokens : termTokenList){
+				termList.add(maxLevenshteinDistance > 0 ? compile(termTokens, caseSensitive) : null);
+			}
 		}
 
 		for(int i = 0, textMax = textTokens.size(); i < textMax; i++){
@@ -382,7 +401,7 @@ public class TextUtil {
 					for(int j = 0, termMax = termTokenList.size(); j < termMax; j++){
 						TokenizedString termTokens = termTokenList.get(j);
 
-						boolean matches = matches(sliceOfTextTokens, termTokens, caseSensitive, maxLevenshteinDistance);
+						boolean matches = matches(sliceOfTextTokens, termTokens, termList.get(j), caseSensitive, maxLevenshteinDistance);
 
 						if(matches){
 							Integer count = result.get(termTokens);
@@ -399,6 +418,13 @@ public class TextUtil {
 
 	static
 	boolean matches(TokenizedString leftTokens, TokenizedString rightTokens, boolean caseSensitive, int maxLevenshteinDistance){
+		LevenshteinDistanceUtil.Term[] rightTerms = (maxLevenshteinDistance > 0 ? compile(rightTokens, caseSensitive) : null);
+
+		return matches(leftTokens, rightTokens, rightTerms, caseSensitive, maxLevenshteinDistance);
+	}
+
+	static
+	private boolean matches(TokenizedString leftTokens, TokenizedString rightTokens, LevenshteinDistanceUtil.Term[] rightTerms, boolean caseSensitive, int maxLevenshteinDistance){
 
 		if(leftTokens.size() != rightTokens.size()){
 			return false;
@@ -429,7 +455,7 @@ public class TextUtil {
 			} else
 
 			{
-				int tokenLevenshteinDistance = LevenshteinDistanceUtil.limitedCompare(leftToken, rightToken, caseSensitive, threshold);
+				int tokenLevenshteinDistance = limitedCompare(leftToken, rightToken, rightTerms[i], caseSensitive, threshold);
 
 				if(tokenLevenshteinDistance < 0){
 					return false;
@@ -442,6 +468,116 @@ public class TextUtil {
 		return true;
 	}
 
+	static
+	private LevenshteinDistanceUtil.Term[] compile(TokenizedString tokens, boolean caseSensitive){
+		LevenshteinDistanceUtil.Term[] result = new LevenshteinDistanceUtil.Term[tokens.size()];
+
+		for(int i = 0; i < result.length; i++){
+			result[i] = LevenshteinDistanceUtil.compile(tokens.get(i), caseSensitive);
+		}
+
+		return result;
+	}
+
+	static
+	private int limitedCompare(String textToken, String termToken, LevenshteinDistanceUtil.Term term, boolean caseSensitive, int threshold){
+
+		if(term != null){
+			return term.limitedCompare(textToken, threshold);
+		}
+
+		return LevenshteinDistanceUtil.limitedCompare(textToken, termToken, caseSensitive, threshold);
+	}
+
+	/**
+	 * <p>
+	 * Gets the cumulative statistics of text token caches.
+	 * </p>
+	 *
+	 * <p>
+	 * The statistics include token caches that have been discarded together with their {@link TextIndex} element.
+	 * </p>
+	 */
+	static
+	public CacheStats getTextTokenCacheStats(){
+		return getStats(TextUtil.textTokenCaches, TextUtil.textTokenCacheStatsCounter);
+	}
+
+	/**
+	 * <p>
+	 * Gets the cumulative statistics of term token caches.
+	 * </p>
+	 *
+	 * <p>
+	 * The statistics include token caches that have been discarded together with their {@link TextIndex} element.
+	 * </p>
+	 */
+	static
+	public CacheStats getTermTokenCacheStats(){
+		return getStats(TextUtil.termTokenCaches, TextUtil.termTokenCacheStatsCounter);
+	}
+
+	static
+	Cache<String, TokenizedString> getTextTokenCache(TextIndex textIndex){
+		return CacheUtil.getValue(textIndex, TextUtil.textTokenCaches, TextUtil.textTokenCacheLoader);
+	}
+
+	static
+	Cache<String, TokenizedString> getTermTokenCache(TextIndex textIndex){
+		return CacheUtil.getValue(textIndex, TextUtil.termTokenCaches, TextUtil.termTokenCacheLoader);
+	}
+
+	static
+	public long getTokenCacheMaximumWeight(){
+		return TextUtil.tokenCacheMaximumWeight;
+	}
+
+	/**
+	 * <p>
+	 * Sets the maximum weight of a token cache.
+	 * The weight of a cache entry is the number of tokens plus one.
+	 * </p>
+	 *
+	 * <p>
+	 * Token caches are maintained per {@link TextIndex} element.
+	 * The change takes effect for token caches that are created afterwards.
+	 * </p>
+	 */
+	static
+	public void setTokenCacheMaximumWeight(long tokenCacheMaximumWeight){
+
+		if(tokenCacheMaximumWeight < 0){
+			throw new IllegalArgumentException();
+		}
+
+		TextUtil.tokenCacheMaximumWeight = tokenCacheMaximumWeight;
+	}
+
+	static
+	private Cache<String, TokenizedString> buildTokenCache(){
+		CacheBuilder<String, TokenizedString> cacheBuilder = CacheBuilder.newBuilder()
+			.maximumWeight(TextUtil.tokenCacheMaximumWeight)
+			.weigher(TextUtil.tokenWeigher)
+			.recordStats();
+
+		return cacheBuilder.build();
+	}
+
+	static
+	private CacheStats getStats(Cache<TextIndex, Cache<String, TokenizedString>> tokenCaches, TokenCacheStatsCounter statsCounter){
+		// Discard the token caches of garbage collected TextIndex elements
+		tokenCaches.cleanUp();
+
+		CacheStats result = statsCounter.getRetiredStats();
+
+		Collection<Cache<String, TokenizedString>> values = (tokenCaches.asMap()).values();
+		for(Cache<String, TokenizedString> value : values){
+			result = result.plus(value.stats());
+		}
+
+		return result;
+	}
+
 	static
 	private TextTokenizer createTextTokenizer(TextIndex textIndex, TextIndexNormalization textIndexNormalization){
 
@@ -550,7 +686,7 @@ public class TextUtil {
 			TextIndex textIndex = getTextIndex();
 			String value = getValue();
 
-			Cache<String, TokenizedString> textTokenCache = CacheUtil.getValue(textIndex, TextUtil.textTokenCaches, TextUtil.textTokenCacheLoader);
+			Cache<String, TokenizedString> textTokenCache = TextUtil.getTextTokenCache(textIndex);
 
 			TokenizedString textTokens = textTokenCache.getIfPresent(value);
 			if(textTokens == null){
@@ -577,7 +713,7 @@ public class TextUtil {
 			TextIndex textIndex = getTextIndex();
 			String value = getValue();
 
-			Cache<String, TokenizedString> termTokenCache = CacheUtil.getValue(textIndex, TextUtil.termTokenCaches, TextUtil.termTokenCacheLoader);
+			Cache<String, TokenizedString> termTokenCache = TextUtil.getTermTokenCache(textIndex);
 
 			TokenizedString termTokens = termTokenCache.getIfPresent(value);
 			if(termTokens == null){
@@ -590,25 +726,72 @@ public class TextUtil {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Accumulates the statistics of token caches that have been removed from the owning cache.
+	 * </p>
+	 */
+	static
+	class TokenCacheStatsCounter implements RemovalListener<TextIndex, Cache<String, TokenizedString>> {
+
+		private CacheStats retiredStats = new CacheStats(0L, 0L, 0L, 0L, 0L, 0L);
+
+
+		@Override
+		public synchronized void onRemoval(RemovalNotification<TextIndex, Cache<String, TokenizedString>> notification){
+			Cache<String, TokenizedString> tokenCache = notification.getValue();
+
+			if(tokenCache != null){
+				this.retiredStats = this.retiredStats.plus(tokenCache.stats());
+			}
+		}
+
+		public synchronized CacheStats getRetiredStats(){
+			return this.retiredStats;
+		}
+	}
+
 	private static final Interner<String> STRING_INTERNER = InternerUtil.buildInterner();
 
-	private static final Cache<TextIndex, Cache<String, TokenizedString>> textTokenCaches = CacheUtil.buildCache();
+	private static final LoadingCache<TextIndex, TextNormalizer> textNormalizers = CacheUtil.buildLoadingCache(new CacheLoader<TextIndex, TextNormalizer>(){
+
+		@Override
+		public TextNormalizer load(TextIndex textIndex){
+			return new TextNormalizer(textIndex);
+		}
+	});
+
+	private static final TokenCacheStatsCounter textTokenCacheStatsCounter = new TokenCacheStatsCounter();
+
+	private static final Cache<TextIndex, Cache<String, TokenizedString>> textTokenCaches = CacheUtil.buildCache(TextUtil.textTokenCacheStatsCounter);
 
 	private static final Callable<Cache<String, TokenizedString>> textTokenCacheLoader = new Callable<>(){
 
 		@Override
 		public Cache<String, TokenizedString> call(){
-			return CacheUtil.buildCache();
+			return buildTokenCache();
 		}
 	};
 
-	private static final Cache<TextIndex, Cache<String, TokenizedString>> termTokenCaches = CacheUtil.buildCache();
+	private static final TokenCacheStatsCounter termTokenCacheStatsCounter = new TokenCacheStatsCounter();
+
+	private static final Cache<TextIndex, Cache<String, TokenizedString>> termTokenCaches = CacheUtil.buildCache(TextUtil.termTokenCacheStatsCounter);
 
 	private static final Callable<Cache<String, TokenizedString>> termTokenCacheLoader = new Callable<>(){
 
 		@Override
 		public Cache<String, TokenizedString> call(){
-			return CacheUtil.buildCache();
+			return buildTokenCache();
+		}
+	};
+
+	private static final Weigher<String, TokenizedString> tokenWeigher = new Weigher<>(){
+
+		@Override
+		public int weigh(String value, TokenizedString tokens){
+			return 1 + tokens.size();
 		}
 	};
+
+	private static long tokenCacheMaximumWeight = 100000L;
 }
\ No newline at end of file
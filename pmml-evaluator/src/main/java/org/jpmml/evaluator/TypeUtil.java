@@ -136,13 +136,13 @@ public class TypeUtil {
 	private Integer parseInteger(String value){
 
 		try {
-			long result = Long.parseLong(value);
+			long result = NumberFormatUtil.parseLong(value);
 
 			return parseInteger(value, result);
 		} catch(NumberFormatException nfeInteger){
 
 			try {
-				double result = Double.parseDouble(value);
+				double result = NumberFormatUtil.parseDouble(value);
 
 				if(DoubleMath.isMathematicalInteger(result)){
 					return parseInteger(value, (long)result);
@@ -205,7 +205,7 @@ public class TypeUtil {
 
 		try {
 			// -0f + 0f = 0f
-			return (Float.parseFloat(value) + 0f);
+			return (NumberFormatUtil.parseFloat(value) + 0f);
 		} catch(NumberFormatException nfe){
 
 			try {
@@ -257,7 +257,7 @@ public class TypeUtil {
 
 		try {
 			// -0d + 0d = 0d
-			return (Double.parseDouble(value) + 0d);
+			return (NumberFormatUtil.parseDouble(value) + 0d);
 		} catch(NumberFormatException nfe){
 
 			try {
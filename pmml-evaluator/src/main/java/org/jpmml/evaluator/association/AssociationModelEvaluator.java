@@ -69,7 +69,8 @@ import org.jpmml.model.MissingAttributeException;
 
 public class AssociationModelEvaluator extends ModelEvaluator<AssociationModel> implements HasGroupFields, HasEntityRegistry<AssociationRule> {
 
-	private BiMap<String, AssociationRule> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, AssociationRule> entityRegistry = null;
 
 	private Map<String, Item> items = Collections.emptyMap();
 
@@ -95,9 +96,7 @@ public class AssociationModelEvaluator extends ModelEvaluator<AssociationModel>
 			throw new MisplacedElementException(targets);
 		} // End if
 
-		if(associationModel.hasAssociationRules()){
-			this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(associationModel.getAssociationRules()));
-		} // End if
+		this.entityRegistry = buildEntityRegistry(associationModel);
 
 		if(associationModel.hasItems()){
 			this.items = ImmutableMap.copyOf(IndexableUtil.buildMap(associationModel.getItems()));
@@ -140,6 +139,11 @@ public class AssociationModelEvaluator extends ModelEvaluator<AssociationModel>
 
 	@Override
 	public BiMap<String, AssociationRule> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -340,6 +344,16 @@ public class AssociationModelEvaluator extends ModelEvaluator<AssociationModel>
 		return this.itemValues;
 	}
 
+	static
+	private BiMap<String, AssociationRule> buildEntityRegistry(AssociationModel associationModel){
+
+		if(!associationModel.hasAssociationRules()){
+			return ImmutableBiMap.of();
+		}
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(associationModel.getAssociationRules()));
+	}
+
 	static
 	private boolean isSubset(Set<String> items, Itemset itemset){
 		boolean result = true;
@@ -66,7 +66,8 @@ import org.jpmml.model.UnsupportedElementException;
 
 public class ClusteringModelEvaluator extends ModelEvaluator<ClusteringModel> implements HasEntityRegistry<Cluster> {
 
-	private BiMap<String, Cluster> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, Cluster> entityRegistry = null;
 
 	private Map<Cluster, ?> clusterCentroids = Collections.emptyMap();
 
@@ -106,7 +107,7 @@ public class ClusteringModelEvaluator extends ModelEvaluator<ClusteringModel> im
 
 		List<Cluster> clusters = clusteringModel.requireClusters();
 
-		this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(clusters));
+		this.entityRegistry = buildEntityRegistry(clusteringModel);
 
 		Map<Cluster, List<FieldValue>> clusterValues = parseClusterValues(clusters);
 
@@ -148,6 +149,11 @@ public class ClusteringModelEvaluator extends ModelEvaluator<ClusteringModel> im
 
 	@Override
 	public BiMap<String, Cluster> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -282,6 +288,13 @@ public class ClusteringModelEvaluator extends ModelEvaluator<ClusteringModel> im
 		return this.clusterCentroids.get(cluster);
 	}
 
+	static
+	private BiMap<String, Cluster> buildEntityRegistry(ClusteringModel clusteringModel){
+		List<Cluster> clusters = clusteringModel.requireClusters();
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(clusters));
+	}
+
 	static
 	private Map<Cluster, List<FieldValue>> parseClusterValues(List<Cluster> clusters){
 		Map<Cluster, List<FieldValue>> result = new HashMap<>();
@@ -18,6 +18,7 @@
  */
 package org.jpmml.evaluator.mining;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -91,11 +92,14 @@ import org.jpmml.model.XPathUtil;
 
 public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements HasEntityRegistry<Segment> {
 
-	private BiMap<String, Segment> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, Segment> entityRegistry = null;
 
 	private Map<String, Set<ResultFeature>> segmentResultFeatures = Collections.emptyMap();
 
-	private ConcurrentMap<String, ModelEvaluator<?>> segmentModelEvaluators = new ConcurrentHashMap<>();
+	private transient volatile ConcurrentMap<String, ModelEvaluator<?>> segmentModelEvaluators = null;
+
+	private transient volatile ConcurrentMap<String, SoftReference<ModelEvaluator<?>>> serializedSegmentModelEvaluators = null;
 
 
 	private MiningModelEvaluator(){
@@ -121,7 +125,7 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 
 		List<Segment> segments = segmentation.requireSegments();
 
-		this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(segments));
+		this.entityRegistry = buildEntityRegistry(miningModel);
 
 		for(Segment segment : segments){
 			VariableWeight variableWeight = segment.getVariableWeight();
@@ -150,7 +154,8 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 	public void configure(Configuration configuration){
 		super.configure(configuration);
 
-		this.segmentModelEvaluators.clear();
+		this.segmentModelEvaluators = null;
+		this.serializedSegmentModelEvaluators = null;
 	}
 
 	@Override
@@ -194,6 +199,11 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 
 	@Override
 	public BiMap<String, Segment> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -645,7 +655,7 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 
 			String segmentId = EntityUtil.getId(segment, entityRegistry);
 
-			ModelEvaluator<?> segmentModelEvaluator = ensureSegmentModelEvaluator(segmentId, model);
+			ModelEvaluator<?> segmentModelEvaluator = ensureSegmentModelEvaluator(segmentId, segment, model);
 
 			ModelEvaluationContext segmentContext;
 
@@ -859,6 +869,7 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 		return segmentResults;
 	}
 
+	static
 	private List<Segment> getActiveHead(List<Segment> segments){
 
 		for(int i = 0, max = segments.size(); i < max; i++){
@@ -874,6 +885,7 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 		return segments;
 	}
 
+	static
 	private List<Segment> getActiveTail(List<Segment> segments){
 		return Lists.reverse(getActiveHead(Lists.reverse(segments)));
 	}
@@ -883,19 +895,119 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 
 		Segmentation segmentation = miningModel.requireSegmentation();
 
+		List<Segment> segments = getOutputSegments(segmentation);
+
+		List<OutputField> result = new ArrayList<>();
+
+		BiMap<String, Segment> entityRegistry = getEntityRegistry();
+
+		for(int i = 0, max = segments.size(); i < max; i++){
+			Segment segment = segments.get(i);
+
+			List<OutputField> outputFields;
+
+			if(segment instanceof SerializedSegment){
+				SerializedSegment serializedSegment = (SerializedSegment)segment;
+
+				// Unfiltered, the output filter is applied at this level
+				outputFields = serializedSegment.getOutputFields();
+			} else
+
+			{
+				Model model = segment.requireModel();
+
+				String segmentId = EntityUtil.getId(segment, entityRegistry);
+
+				ModelEvaluator<?> segmentModelEvaluator = ensureSegmentModelEvaluator(segmentId, segment, model);
+
+				outputFields = segmentModelEvaluator.getOutputFields();
+			}
+
+			for(OutputField outputField : outputFields){
+				OutputField nestedOutputField = new OutputField(outputField.getField(), outputField.getDepth() + 1);
+
+				result.add(nestedOutputField);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Collects the output fields of a model, including the output fields of nested models, without applying any output filter.
+	 * </p>
+	 *
+	 * <p>
+	 * The result is equivalent to the unfiltered output fields of a model evaluator.
+	 * However, serialized segments are not decoded.
+	 * </p>
+	 */
+	static
+	List<OutputField> collectOutputFields(Model model){
+		List<OutputField> result = new ArrayList<>();
+
+		if(model instanceof MiningModel){
+			MiningModel miningModel = (MiningModel)model;
+
+			Segmentation segmentation = miningModel.requireSegmentation();
+
+			List<Segment> segments = getOutputSegments(segmentation);
+			for(Segment segment : segments){
+				List<OutputField> outputFields;
+
+				if(segment instanceof SerializedSegment){
+					SerializedSegment serializedSegment = (SerializedSegment)segment;
+
+					outputFields = serializedSegment.getOutputFields();
+				} else
+
+				{
+					outputFields = collectOutputFields(segment.requireModel());
+				}
+
+				for(OutputField outputField : outputFields){
+					OutputField nestedOutputField = new OutputField(outputField.getField(), outputField.getDepth() + 1);
+
+					result.add(nestedOutputField);
+				}
+			}
+		}
+
+		Output output = model.getOutput();
+		if(output != null && output.hasOutputFields()){
+			List<org.dmg.pmml.OutputField> pmmlOutputFields = output.getOutputFields();
+
+			for(org.dmg.pmml.OutputField pmmlOutputField : pmmlOutputFields){
+				OutputField outputField = new OutputField(pmmlOutputField);
+
+				result.add(outputField);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets the segments whose output fields are exposed by the segmentation.
+	 * </p>
+	 */
+	static
+	private List<Segment> getOutputSegments(Segmentation segmentation){
 		List<Segment> segments = segmentation.requireSegments();
 
 		Segmentation.MultipleModelMethod multipleModelMethod = segmentation.requireMultipleModelMethod();
 		switch(multipleModelMethod){
 			case SELECT_FIRST:
-				return createNestedOutputFields(getActiveHead(segments));
+				return getActiveHead(segments);
 			case SELECT_ALL:
 				// Ignored
 				break;
 			case MODEL_CHAIN:
-				return createNestedOutputFields(getActiveTail(segments));
+				return getActiveTail(segments);
 			case MULTI_MODEL_CHAIN:
-				return createNestedOutputFields(segments);
+				return segments;
 			default:
 				break;
 		}
@@ -903,38 +1015,67 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 		return Collections.emptyList();
 	}
 
-	private List<OutputField> createNestedOutputFields(List<Segment> segments){
-		List<OutputField> result = new ArrayList<>();
-
-		BiMap<String, Segment> entityRegistry = getEntityRegistry();
+	private ModelEvaluator<?> ensureSegmentModelEvaluator(String segmentId, Segment segment, Model model){
 
-		for(int i = 0, max = segments.size(); i < max; i++){
-			Segment segment = segments.get(i);
+		if(segment instanceof SerializedSegment){
+			return ensureSerializedSegmentModelEvaluator(segmentId, model);
+		}
 
-			Model model = segment.requireModel();
+		ConcurrentMap<String, ModelEvaluator<?>> segmentModelEvaluators = this.segmentModelEvaluators;
 
-			String segmentId = EntityUtil.getId(segment, entityRegistry);
+		if(segmentModelEvaluators == null){
 
-			ModelEvaluator<?> segmentModelEvaluator = ensureSegmentModelEvaluator(segmentId, model);
+			synchronized(this){
+				segmentModelEvaluators = this.segmentModelEvaluators;
 
-			List<OutputField> outputFields = segmentModelEvaluator.getOutputFields();
-			for(OutputField outputField : outputFields){
-				OutputField nestedOutputField = new OutputField(outputField.getField(), outputField.getDepth() + 1);
+				if(segmentModelEvaluators == null){
+					segmentModelEvaluators = new ConcurrentHashMap<>();
 
-				result.add(nestedOutputField);
+					this.segmentModelEvaluators = segmentModelEvaluators;
+				}
 			}
 		}
 
-		return result;
+		ModelEvaluator<?> segmentModelEvaluator = segmentModelEvaluators.get(segmentId);
+
+		if(segmentModelEvaluator == null){
+			segmentModelEvaluator = createSegmentModelEvaluator(segmentId, model);
+
+			segmentModelEvaluators.putIfAbsent(segmentId, segmentModelEvaluator);
+		}
+
+		return segmentModelEvaluator;
 	}
 
-	private ModelEvaluator<?> ensureSegmentModelEvaluator(String segmentId, Model model){
-		ModelEvaluator<?> segmentModelEvaluator = this.segmentModelEvaluators.get(segmentId);
+	/**
+	 * <p>
+	 * Segment model evaluators strongly reference their models.
+	 * They are softly referenced here, so that the garbage collector can reclaim a decoded model together with its evaluator.
+	 * </p>
+	 */
+	private ModelEvaluator<?> ensureSerializedSegmentModelEvaluator(String segmentId, Model model){
+		ConcurrentMap<String, SoftReference<ModelEvaluator<?>>> serializedSegmentModelEvaluators = this.serializedSegmentModelEvaluators;
 
-		if(segmentModelEvaluator == null){
+		if(serializedSegmentModelEvaluators == null){
+
+			synchronized(this){
+				serializedSegmentModelEvaluators = this.serializedSegmentModelEvaluators;
+
+				if(serializedSegmentModelEvaluators == null){
+					serializedSegmentModelEvaluators = new ConcurrentHashMap<>();
+
+					this.serializedSegmentModelEvaluators = serializedSegmentModelEvaluators;
+				}
+			}
+		}
+
+		SoftReference<ModelEvaluator<?>> segmentModelEvaluatorReference = serializedSegmentModelEvaluators.get(segmentId);
+
+		ModelEvaluator<?> segmentModelEvaluator = (segmentModelEvaluatorReference != null ? segmentModelEvaluatorReference.get() : null);
+		if(segmentModelEvaluator == null || segmentModelEvaluator.getModel() != model){
 			segmentModelEvaluator = createSegmentModelEvaluator(segmentId, model);
 
-			this.segmentModelEvaluators.putIfAbsent(segmentId, segmentModelEvaluator);
+			serializedSegmentModelEvaluators.put(segmentId, new SoftReference<>(segmentModelEvaluator));
 		}
 
 		return segmentModelEvaluator;
@@ -1040,6 +1181,15 @@ public class MiningModelEvaluator extends ModelEvaluator<MiningModel> implements
 		return result;
 	}
 
+	static
+	private BiMap<String, Segment> buildEntityRegistry(MiningModel miningModel){
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		List<Segment> segments = segmentation.requireSegments();
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(segments));
+	}
+
 	static
 	private boolean isEmpty(List<SegmentResult> segmentResults){
 		return (segmentResults == null) || segmentResults.isEmpty();
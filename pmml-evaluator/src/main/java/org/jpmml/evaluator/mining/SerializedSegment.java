@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.mining;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.collect.ImmutableList;
+import jakarta.xml.bind.annotation.XmlTransient;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.mining.PMMLElements;
+import org.dmg.pmml.mining.Segment;
+import org.jpmml.evaluator.OutputField;
+import org.jpmml.model.InvalidElementException;
+import org.jpmml.model.MissingElementException;
+import org.jpmml.model.ReflectionUtil;
+import org.jpmml.model.Serializer;
+import org.jpmml.model.annotations.CopyConstructor;
+
+/**
+ * <p>
+ * A segment that keeps its model in serialized and compressed form.
+ * </p>
+ *
+ * <p>
+ * The model is decoded on first access, and is softly referenced afterwards.
+ * The garbage collector may reclaim it under memory pressure, in which case it is decoded again on next access.
+ * The serialized form is held in a byte buffer, which may be backed by a heap array or by a memory-mapped file.
+ * </p>
+ *
+ * <p>
+ * Visitors do not descend into the model.
+ * </p>
+ *
+ * @see org.jpmml.evaluator.visitors.SegmentSerializer
+ */
+public class SerializedSegment extends Segment {
+
+	@XmlTransient
+	private Serializer serializer = null;
+
+	@XmlTransient
+	private ByteBuffer body = null;
+
+	@XmlTransient
+	private List<OutputField> outputFields = null;
+
+	@XmlTransient
+	private volatile SoftReference<Model> modelReference = null;
+
+
+	@CopyConstructor
+	public SerializedSegment(Segment segment, Serializer serializer){
+		ReflectionUtil.copyState(segment, this);
+
+		setSerializer(serializer);
+
+		Model model = super.getModel();
+
+		super.setModel(null);
+
+		setModel(model);
+	}
+
+	@Override
+	public Model getModel(){
+		SoftReference<Model> modelReference = this.modelReference;
+
+		Model model = (modelReference != null ? modelReference.get() : null);
+		if(model == null){
+
+			synchronized(this){
+				modelReference = this.modelReference;
+
+				model = (modelReference != null ? modelReference.get() : null);
+				if(model == null && this.body != null){
+					model = decode(this.body);
+
+					this.modelReference = new SoftReference<>(model);
+				}
+			}
+		}
+
+		return model;
+	}
+
+	@Override
+	public Model requireModel(){
+		Model model = getModel();
+
+		if(model == null){
+			throw new MissingElementException(this, PMMLElements.SEGMENT_MODEL);
+		}
+
+		return model;
+	}
+
+	@Override
+	public SerializedSegment setModel(Model model){
+
+		synchronized(this){
+			this.body = (model != null ? encode(model) : null);
+			this.outputFields = (model != null ? ImmutableList.copyOf(MiningModelEvaluator.collectOutputFields(model)) : null);
+			this.modelReference = null;
+		}
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Tells if the model is currently held in decoded form.
+	 * </p>
+	 */
+	public boolean isMaterialized(){
+		SoftReference<Model> modelReference = this.modelReference;
+
+		return (modelReference != null && modelReference.get() != null);
+	}
+
+	/**
+	 * <p>
+	 * Gets the size of the serialized and compressed model in bytes.
+	 * </p>
+	 */
+	public int getBodySize(){
+		ByteBuffer body = getBody();
+
+		return (body != null ? body.remaining() : 0);
+	}
+
+	/**
+	 * <p>
+	 * Gets the unfiltered output fields of the model, including the output fields of nested models.
+	 * </p>
+	 *
+	 * <p>
+	 * They are collected when the model is encoded, so that model evaluators can be built without decoding it.
+	 * </p>
+	 */
+	public List<OutputField> getOutputFields(){
+		List<OutputField> outputFields = this.outputFields;
+
+		if(outputFields == null){
+			return Collections.emptyList();
+		}
+
+		return outputFields;
+	}
+
+	@Override
+	public VisitorAction accept(Visitor visitor){
+		VisitorAction status = visitor.visit(this);
+
+		if(status == VisitorAction.CONTINUE){
+			visitor.pushParent(this);
+
+			if(status == VisitorAction.CONTINUE && hasExtensions()){
+				status = traverse(visitor, getExtensions());
+			} // End if
+
+			if(status == VisitorAction.CONTINUE){
+				status = traverse(visitor, getPredicate(), getVariableWeight());
+			}
+
+			visitor.popParent();
+		} // End if
+
+		if(status == VisitorAction.TERMINATE){
+			return VisitorAction.TERMINATE;
+		}
+
+		return VisitorAction.CONTINUE;
+	}
+
+	private Model decode(ByteBuffer body){
+		Serializer serializer = getSerializer();
+
+		byte[] bytes = new byte[body.remaining()];
+
+		(body.duplicate()).get(bytes);
+
+		try(InputStream is = new InflaterInputStream(new ByteArrayInputStream(bytes))){
+			return (Model)serializer.deserialize(is);
+		} catch(Exception e){
+			throw new InvalidElementException(this)
+				.initCause(e);
+		}
+	}
+
+	private ByteBuffer encode(Model model){
+		Serializer serializer = getSerializer();
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		try(OutputStream os = new DeflaterOutputStream(buffer)){
+			serializer.serialize(model, os);
+		} catch(Exception e){
+			throw new InvalidElementException(model)
+				.initCause(e);
+		}
+
+		return (ByteBuffer.wrap(buffer.toByteArray())).asReadOnlyBuffer();
+	}
+
+	/**
+	 * <p>
+	 * Replaces this segment with a regular segment when serialized.
+	 * </p>
+	 */
+	private Object writeReplace() throws ObjectStreamException {
+		Segment segment = new Segment();
+
+		List<Field> fields = ReflectionUtil.getFields(Segment.class);
+		for(Field field : fields){
+			ReflectionUtil.setFieldValue(field, segment, ReflectionUtil.getFieldValue(field, this));
+		}
+
+		segment.setModel(getModel());
+
+		return segment;
+	}
+
+	public Serializer getSerializer(){
+		return this.serializer;
+	}
+
+	private void setSerializer(Serializer serializer){
+		this.serializer = Objects.requireNonNull(serializer);
+	}
+
+	public ByteBuffer getBody(){
+		return this.body;
+	}
+
+	/**
+	 * <p>
+	 * Replaces the serialized form with an equivalent byte buffer, such as a slice of a memory-mapped file.
+	 * </p>
+	 */
+	public void setBody(ByteBuffer body){
+
+		synchronized(this){
+			this.body = (body != null ? body.asReadOnlyBuffer() : null);
+		}
+	}
+}
\ No newline at end of file
@@ -105,8 +105,10 @@ import org.jpmml.model.visitors.ActiveFieldFinder;
 
 public class NearestNeighborModelEvaluator extends ModelEvaluator<NearestNeighborModel> {
 
+	transient
 	private Table<Integer, String, FieldValue> trainingInstances = null;
 
+	transient
 	private Map<Integer, ?> trainingInstanceCentroids = null;
 
 
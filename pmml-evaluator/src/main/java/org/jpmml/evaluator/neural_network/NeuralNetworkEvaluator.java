@@ -78,7 +78,8 @@ import org.jpmml.model.visitors.AbstractVisitor;
 
 public class NeuralNetworkEvaluator extends ModelEvaluator<NeuralNetwork> implements HasEntityRegistry<NeuralEntity> {
 
-	private BiMap<String, NeuralEntity> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, NeuralEntity> entityRegistry = null;
 
 	private Map<String, List<NeuralOutput>> neuralOutputMap = null;
 
@@ -99,9 +100,7 @@ public class NeuralNetworkEvaluator extends ModelEvaluator<NeuralNetwork> implem
 		@SuppressWarnings("unused")
 		List<NeuralLayer> neuralLayers = neuralNetwork.requireNeuralLayers();
 
-		List<NeuralEntity> neuralEntities = collectNeuralEntities(neuralNetwork);
-
-		this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(neuralEntities));
+		this.entityRegistry = buildEntityRegistry(neuralNetwork);
 
 		@SuppressWarnings("unused")
 		List<NeuralOutput> neuralOutputs = (neuralNetwork.requireNeuralOutputs()).requireNeuralOutputs();
@@ -114,6 +113,11 @@ public class NeuralNetworkEvaluator extends ModelEvaluator<NeuralNetwork> implem
 
 	@Override
 	public BiMap<String, NeuralEntity> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -562,6 +566,13 @@ public class NeuralNetworkEvaluator extends ModelEvaluator<NeuralNetwork> implem
 		return Multimaps.asMap(result);
 	}
 
+	static
+	private BiMap<String, NeuralEntity> buildEntityRegistry(NeuralNetwork neuralNetwork){
+		List<NeuralEntity> neuralEntities = collectNeuralEntities(neuralNetwork);
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(neuralEntities));
+	}
+
 	static
 	private List<NeuralEntity> collectNeuralEntities(NeuralNetwork neuralNetwork){
 		List<NeuralEntity> result = new ArrayList<>();
@@ -57,7 +57,8 @@ import org.jpmml.model.visitors.AbstractVisitor;
 
 public class RuleSetModelEvaluator extends ModelEvaluator<RuleSetModel> implements HasEntityRegistry<SimpleRule> {
 
-	private BiMap<String, SimpleRule> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, SimpleRule> entityRegistry = null;
 
 
 	private RuleSetModelEvaluator(){
@@ -75,11 +76,7 @@ public class RuleSetModelEvaluator extends ModelEvaluator<RuleSetModel> implemen
 		@SuppressWarnings("unused")
 		List<RuleSelectionMethod> ruleSelectionMethods = ruleSet.requireRuleSelectionMethods();
 
-		if(ruleSet.hasRules()){
-			List<SimpleRule> simpleRules = collectSimpleRules(ruleSetModel);
-
-			this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(simpleRules));
-		}
+		this.entityRegistry = buildEntityRegistry(ruleSetModel);
 	}
 
 	@Override
@@ -89,6 +86,11 @@ public class RuleSetModelEvaluator extends ModelEvaluator<RuleSetModel> implemen
 
 	@Override
 	public BiMap<String, SimpleRule> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -244,6 +246,19 @@ public class RuleSetModelEvaluator extends ModelEvaluator<RuleSetModel> implemen
 		}
 	}
 
+	static
+	private BiMap<String, SimpleRule> buildEntityRegistry(RuleSetModel ruleSetModel){
+		RuleSet ruleSet = ruleSetModel.requireRuleSet();
+
+		if(!ruleSet.hasRules()){
+			return ImmutableBiMap.of();
+		}
+
+		List<SimpleRule> simpleRules = collectSimpleRules(ruleSetModel);
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(simpleRules));
+	}
+
 	static
 	private List<SimpleRule> collectSimpleRules(RuleSetModel ruleSetModel){
 		List<SimpleRule> result = new ArrayList<>();
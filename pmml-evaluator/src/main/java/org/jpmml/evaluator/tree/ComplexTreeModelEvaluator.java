@@ -52,7 +52,8 @@ import org.jpmml.model.visitors.AbstractVisitor;
 
 public class ComplexTreeModelEvaluator extends TreeModelEvaluator implements HasNodeRegistry {
 
-	private BiMap<String, Node> entityRegistry = ImmutableBiMap.of();
+	transient
+	private BiMap<String, Node> entityRegistry = null;
 
 
 	private ComplexTreeModelEvaluator(){
@@ -65,13 +66,16 @@ public class ComplexTreeModelEvaluator extends TreeModelEvaluator implements Has
 	public ComplexTreeModelEvaluator(PMML pmml, TreeModel treeModel){
 		super(pmml, treeModel);
 
-		List<Node> nodes = collectNodes(treeModel);
-
-		this.entityRegistry = ImmutableBiMap.copyOf(EntityUtil.buildBiMap(nodes));
+		this.entityRegistry = buildEntityRegistry(treeModel);
 	}
 
 	@Override
 	public BiMap<String, Node> getEntityRegistry(){
+
+		if(this.entityRegistry == null){
+			this.entityRegistry = buildEntityRegistry(getModel());
+		}
+
 		return this.entityRegistry;
 	}
 
@@ -435,6 +439,13 @@ public class ComplexTreeModelEvaluator extends TreeModelEvaluator implements Has
 		return node;
 	}
 
+	static
+	private BiMap<String, Node> buildEntityRegistry(TreeModel treeModel){
+		List<Node> nodes = collectNodes(treeModel);
+
+		return ImmutableBiMap.copyOf(EntityUtil.buildBiMap(nodes));
+	}
+
 	static
 	private List<Node> collectNodes(TreeModel treeModel){
 		List<Node> result = new ArrayList<>();
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.visitors;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.mining.Segmentation;
+import org.jpmml.evaluator.mining.SerializedSegment;
+import org.jpmml.model.JavaSerializer;
+import org.jpmml.model.Serializer;
+import org.jpmml.model.visitors.AbstractVisitor;
+import org.jpmml.model.visitors.Resettable;
+
+/**
+ * <p>
+ * A Visitor that replaces the segments of sparsely evaluated segmentations with {@link SerializedSegment serialized segments}.
+ * </p>
+ *
+ * <p>
+ * By default, only <code>selectFirst</code> and <code>modelChain</code> segmentations are processed,
+ * because their rows are typically scored by a small subset of segments.
+ * The serialized forms are held in memory.
+ * They can be moved to a memory-mapped file afterwards:
+ * </p>
+ * <pre>{@code
+ * SegmentSerializer segmentSerializer = new SegmentSerializer();
+ * segmentSerializer.applyTo(pmml);
+ * segmentSerializer.mapTo(new File("segments.bin"));
+ * }</pre>
+ *
+ * <p>
+ * This Visitor should be applied last, because other Visitors do not descend into serialized segments.
+ * </p>
+ */
+public class SegmentSerializer extends AbstractVisitor implements Resettable {
+
+	private Serializer serializer = null;
+
+	private Set<Segmentation.MultipleModelMethod> multipleModelMethods = null;
+
+	private List<SerializedSegment> serializedSegments = new ArrayList<>();
+
+
+	public SegmentSerializer(){
+		this(new JavaSerializer());
+	}
+
+	public SegmentSerializer(Serializer serializer){
+		this(serializer, EnumSet.of(Segmentation.MultipleModelMethod.SELECT_FIRST, Segmentation.MultipleModelMethod.MODEL_CHAIN));
+	}
+
+	public SegmentSerializer(Serializer serializer, Set<Segmentation.MultipleModelMethod> multipleModelMethods){
+		setSerializer(serializer);
+		setMultipleModelMethods(multipleModelMethods);
+	}
+
+	@Override
+	public void reset(){
+		this.serializedSegments.clear();
+	}
+
+	@Override
+	public VisitorAction visit(Segmentation segmentation){
+		Serializer serializer = getSerializer();
+		Set<Segmentation.MultipleModelMethod> multipleModelMethods = getMultipleModelMethods();
+
+		Segmentation.MultipleModelMethod multipleModelMethod = segmentation.requireMultipleModelMethod();
+
+		if(multipleModelMethods.contains(multipleModelMethod)){
+			List<Segment> segments = segmentation.requireSegments();
+
+			for(int i = 0, max = segments.size(); i < max; i++){
+				Segment segment = segments.get(i);
+
+				if(segment instanceof SerializedSegment){
+					continue;
+				}
+
+				SerializedSegment serializedSegment = new SerializedSegment(segment, serializer);
+
+				segments.set(i, serializedSegment);
+
+				this.serializedSegments.add(serializedSegment);
+			}
+		}
+
+		return super.visit(segmentation);
+	}
+
+	/**
+	 * <p>
+	 * Moves the serialized forms of all segments that have been processed so far to a file,
+	 * and replaces them with slices of its memory mapping.
+	 * </p>
+	 *
+	 * <p>
+	 * The file must not be modified or deleted while the PMML class model object is in use.
+	 * </p>
+	 */
+	public void mapTo(File file) throws IOException {
+		List<SerializedSegment> serializedSegments = getSerializedSegments();
+
+		try(RandomAccessFile raf = new RandomAccessFile(file, "rw")){
+			FileChannel channel = raf.getChannel();
+
+			channel.truncate(0L);
+
+			long[] offsets = new long[serializedSegments.size()];
+
+			long offset = 0L;
+
+			for(int i = 0, max = serializedSegments.size(); i < max; i++){
+				SerializedSegment serializedSegment = serializedSegments.get(i);
+
+				offsets[i] = offset;
+
+				if(serializedSegment.getBody() == null){
+					continue;
+				}
+
+				ByteBuffer body = (serializedSegment.getBody()).duplicate();
+
+				while(body.hasRemaining()){
+					offset += channel.write(body, offset);
+				}
+			}
+
+			long regionOffset = 0L;
+
+			MappedByteBuffer region = null;
+
+			for(int i = 0, max = serializedSegments.size(); i < max; i++){
+				SerializedSegment serializedSegment = serializedSegments.get(i);
+
+				if(serializedSegment.getBody() == null){
+					continue;
+				}
+
+				int size = serializedSegment.getBodySize();
+
+				if(region == null || (offsets[i] + size) > (regionOffset + region.capacity())){
+					regionOffset = offsets[i];
+
+					region = channel.map(FileChannel.MapMode.READ_ONLY, regionOffset, Math.min(offset - regionOffset, SegmentSerializer.MAX_REGION_SIZE));
+				}
+
+				ByteBuffer body = region.duplicate();
+
+				int position = (int)(offsets[i] - regionOffset);
+
+				((Buffer)body).limit(position + size);
+				((Buffer)body).position(position);
+
+				serializedSegment.setBody(body.slice());
+			}
+		}
+	}
+
+	public Serializer getSerializer(){
+		return this.serializer;
+	}
+
+	private void setSerializer(Serializer serializer){
+		this.serializer = Objects.requireNonNull(serializer);
+	}
+
+	public Set<Segmentation.MultipleModelMethod> getMultipleModelMethods(){
+		return this.multipleModelMethods;
+	}
+
+	private void setMultipleModelMethods(Set<Segmentation.MultipleModelMethod> multipleModelMethods){
+		this.multipleModelMethods = Objects.requireNonNull(multipleModelMethods);
+	}
+
+	/**
+	 * <p>
+	 * Gets the segments that have been serialized since the last reset.
+	 * </p>
+	 */
+	public List<SerializedSegment> getSerializedSegments(){
+		return this.serializedSegments;
+	}
+
+	private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+}
\ No newline at end of file
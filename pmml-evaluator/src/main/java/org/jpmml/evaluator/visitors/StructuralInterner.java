@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.visitors;
+
+import java.util.List;
+
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.TransformationDictionary;
+import org.dmg.pmml.mining.Segment;
+import org.jpmml.evaluator.StructuralCache;
+import org.jpmml.model.visitors.AbstractVisitor;
+
+/**
+ * <p>
+ * A Visitor that replaces <code>DataDictionary</code>, <code>TransformationDictionary</code> and model elements
+ * with structurally identical canonical elements.
+ * </p>
+ *
+ * <p>
+ * Elements are interned bottom-up, so that the canonical element of an ensemble model references canonical segment models.
+ * The structural cache may be shared between any number of PMML class model objects,
+ * which must not be modified after having been interned.
+ * </p>
+ *
+ * @see org.jpmml.evaluator.ModelRegistry
+ */
+public class StructuralInterner extends AbstractVisitor {
+
+	private StructuralCache cache = null;
+
+
+	public StructuralInterner(StructuralCache cache){
+		setCache(cache);
+	}
+
+	@Override
+	public PMMLObject popParent(){
+		PMMLObject object = super.popParent();
+
+		if((object instanceof DataDictionary) || (object instanceof TransformationDictionary) || (object instanceof Model)){
+			StructuralCache cache = getCache();
+
+			PMMLObject canonicalObject = cache.intern(object);
+
+			if(canonicalObject != object && hasParent()){
+				PMMLObject parent = getParent();
+
+				replace(parent, object, canonicalObject);
+			}
+		}
+
+		return object;
+	}
+
+	public StructuralCache getCache(){
+		return this.cache;
+	}
+
+	private void setCache(StructuralCache cache){
+		this.cache = cache;
+	}
+
+	static
+	private void replace(PMMLObject parent, PMMLObject object, PMMLObject canonicalObject){
+
+		if(parent instanceof PMML){
+			PMML pmml = (PMML)parent;
+
+			if(object instanceof DataDictionary){
+				pmml.setDataDictionary((DataDictionary)canonicalObject);
+			} else
+
+			if(object instanceof TransformationDictionary){
+				pmml.setTransformationDictionary((TransformationDictionary)canonicalObject);
+			} else
+
+			if(object instanceof Model){
+				List<Model> models = pmml.getModels();
+
+				for(int i = 0, max = models.size(); i < max; i++){
+
+					if(models.get(i) == object){
+						models.set(i, (Model)canonicalObject);
+					}
+				}
+			}
+		} else
+
+		if(parent instanceof Segment){
+			Segment segment = (Segment)parent;
+
+			if(object instanceof Model){
+				segment.setModel((Model)canonicalObject);
+			}
+		}
+	}
+}
\ No newline at end of file
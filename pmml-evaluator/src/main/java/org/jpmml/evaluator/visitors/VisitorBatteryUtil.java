@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.visitors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.Extension;
+import org.dmg.pmml.LocalTransformations;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.dmg.pmml.mining.Segmentation;
+import org.jpmml.model.visitors.VisitorBattery;
+
+public class VisitorBatteryUtil {
+
+	private VisitorBatteryUtil(){
+	}
+
+	/**
+	 * <p>
+	 * Applies a visitor battery to a PMML class model object,
+	 * processing the segments of top-level ensemble models in parallel.
+	 * </p>
+	 *
+	 * <p>
+	 * The visitor battery is first applied to the "skeleton" of the PMML class model object (ie. everything but the segments),
+	 * and then to every segment in a separate task.
+	 * Every task gets its own set of visitors, which see the same field scopes as during a sequential traversal.
+	 * Interners share their caches between tasks, because visitors are created on the calling thread.
+	 * </p>
+	 *
+	 * <p>
+	 * Segmentations of the model chain type are processed sequentially,
+	 * because their segments depend on the output fields of earlier segments.
+	 * </p>
+	 */
+	static
+	public void applyTo(VisitorBattery visitorBattery, PMML pmml, ExecutorService executorService){
+		List<MiningModel> miningModels = new ArrayList<>();
+
+		PMML skeletonPMML = copy(pmml);
+
+		List<Model> models = pmml.getModels();
+		for(Model model : models){
+
+			if(isParallelizable(model)){
+				MiningModel miningModel = (MiningModel)model;
+
+				miningModels.add(miningModel);
+
+				model = copy(miningModel);
+			}
+
+			skeletonPMML.addModels(model);
+		}
+
+		if(miningModels.isEmpty()){
+			visitorBattery.applyTo(pmml);
+
+			return;
+		}
+
+		visitorBattery.applyTo(skeletonPMML);
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+
+		for(MiningModel miningModel : miningModels){
+			Segmentation segmentation = miningModel.requireSegmentation();
+
+			List<Segment> segments = segmentation.requireSegments();
+			for(Segment segment : segments){
+				List<Visitor> visitors = createVisitors(visitorBattery);
+
+				Callable<Void> task = new Callable<Void>(){
+
+					@Override
+					public Void call(){
+
+						for(Visitor visitor : visitors){
+							applyTo(visitor, pmml, miningModel, segment);
+						}
+
+						return null;
+					}
+				};
+
+				tasks.add(task);
+			}
+		}
+
+		List<Future<Void>> futures;
+
+		try {
+			futures = executorService.invokeAll(tasks);
+		} catch(InterruptedException ie){
+			Thread.currentThread().interrupt();
+
+			throw new RuntimeException(ie);
+		}
+
+		for(Future<Void> future : futures){
+
+			try {
+				future.get();
+			} catch(InterruptedException ie){
+				Thread.currentThread().interrupt();
+
+				throw new RuntimeException(ie);
+			} catch(ExecutionException ee){
+				Throwable cause = ee.getCause();
+
+				if(cause instanceof RuntimeException){
+					throw (RuntimeException)cause;
+				} else
+
+				if(cause instanceof Error){
+					throw (Error)cause;
+				}
+
+				throw new RuntimeException(cause);
+			}
+		}
+
+		// Finally, process the attributes of the ensemble model elements themselves
+		List<Visitor> visitors = createVisitors(visitorBattery);
+
+		for(Visitor visitor : visitors){
+			visitor.visit(pmml);
+			visitor.pushParent(pmml);
+
+			for(MiningModel miningModel : miningModels){
+				visitor.visit(miningModel);
+				visitor.pushParent(miningModel);
+
+				visitor.visit(miningModel.requireSegmentation());
+
+				visitor.popParent();
+			}
+
+			visitor.popParent();
+		}
+	}
+
+	static
+	private void applyTo(Visitor visitor, PMML pmml, MiningModel miningModel, Segment segment){
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		// Shallow copies, so that visitors do not modify any shared ancestor elements
+		PMML contextPMML = copy(pmml);
+		MiningModel contextMiningModel = copy(miningModel);
+		Segmentation contextSegmentation = contextMiningModel.requireSegmentation();
+
+		contextPMML.addModels(contextMiningModel);
+
+		LocalTransformations contextLocalTransformations = null;
+
+		LocalTransformations localTransformations = segmentation.getLocalTransformations();
+		if(localTransformations != null){
+			contextLocalTransformations = new LocalTransformations();
+
+			if(localTransformations.hasDerivedFields()){
+				List<DerivedField> derivedFields = localTransformations.getDerivedFields();
+
+				contextLocalTransformations.addDerivedFields(derivedFields.toArray(new DerivedField[derivedFields.size()]));
+			}
+
+			contextSegmentation.setLocalTransformations(contextLocalTransformations);
+		}
+
+		visitor.visit(contextPMML);
+		visitor.pushParent(contextPMML);
+
+		visitor.visit(contextMiningModel);
+		visitor.pushParent(contextMiningModel);
+
+		visitor.visit(contextSegmentation);
+		visitor.pushParent(contextSegmentation);
+
+		// Declare the fields of segmentation-level local transformations
+		if(contextLocalTransformations != null){
+			visitor.visit(contextLocalTransformations);
+			visitor.pushParent(contextLocalTransformations);
+			visitor.popParent();
+		}
+
+		segment.accept(visitor);
+
+		visitor.popParent();
+		visitor.popParent();
+		visitor.popParent();
+	}
+
+	static
+	private boolean isParallelizable(Model model){
+
+		if(model instanceof MiningModel){
+			MiningModel miningModel = (MiningModel)model;
+
+			Segmentation segmentation = miningModel.getSegmentation();
+			if(segmentation == null || !segmentation.hasSegments()){
+				return false;
+			}
+
+			Segmentation.MultipleModelMethod multipleModelMethod = segmentation.requireMultipleModelMethod();
+			switch(multipleModelMethod){
+				case MODEL_CHAIN:
+				case MULTI_MODEL_CHAIN:
+					return false;
+				default:
+					break;
+			}
+
+			List<Segment> segments = segmentation.getSegments();
+
+			return (segments.size() > 1);
+		}
+
+		return false;
+	}
+
+	static
+	private List<Visitor> createVisitors(VisitorBattery visitorBattery){
+		List<Visitor> result = new ArrayList<>(visitorBattery.size());
+
+		for(Class<? extends Visitor> clazz : visitorBattery){
+			Visitor visitor;
+
+			try {
+				visitor = clazz.getDeclaredConstructor().newInstance();
+			} catch(ReflectiveOperationException roe){
+				throw new RuntimeException(roe);
+			}
+
+			result.add(visitor);
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Creates a shallow copy of a PMML element, without models.
+	 * </p>
+	 */
+	static
+	private PMML copy(PMML pmml){
+		PMML result = new PMML(pmml.getVersion(), pmml.getHeader(), pmml.getDataDictionary())
+			.setBaseVersion(pmml.getBaseVersion())
+			.setMiningBuildTask(pmml.getMiningBuildTask())
+			.setTransformationDictionary(pmml.getTransformationDictionary());
+
+		if(pmml.hasExtensions()){
+			List<Extension> extensions = pmml.getExtensions();
+
+			result.addExtensions(extensions.toArray(new Extension[extensions.size()]));
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Creates a shallow copy of a MiningModel element, without segments.
+	 * </p>
+	 */
+	static
+	private MiningModel copy(MiningModel miningModel){
+		Segmentation segmentation = miningModel.requireSegmentation();
+
+		Segmentation resultSegmentation = new Segmentation(segmentation.requireMultipleModelMethod(), new ArrayList<>())
+			.setMissingPredictionTreatment(segmentation.getMissingPredictionTreatment())
+			.setMissingThreshold(segmentation.getMissingThreshold())
+			.setLocalTransformations(segmentation.getLocalTransformations());
+
+		if(segmentation.hasExtensions()){
+			List<Extension> extensions = segmentation.getExtensions();
+
+			resultSegmentation.addExtensions(extensions.toArray(new Extension[extensions.size()]));
+		}
+
+		MiningModel result = new MiningModel(miningModel.requireMiningFunction(), miningModel.requireMiningSchema())
+			.setModelName(miningModel.getModelName())
+			.setAlgorithmName(miningModel.getAlgorithmName())
+			.setScorable(miningModel.isScorable())
+			.setMathContext(miningModel.getMathContext())
+			.setOutput(miningModel.getOutput())
+			.setModelStats(miningModel.getModelStats())
+			.setModelExplanation(miningModel.getModelExplanation())
+			.setTargets(miningModel.getTargets())
+			.setLocalTransformations(miningModel.getLocalTransformations())
+			.setSegmentation(resultSegmentation)
+			.setModelVerification(miningModel.getModelVerification());
+
+		if(miningModel.hasExtensions()){
+			List<Extension> extensions = miningModel.getExtensions();
+
+			result.addExtensions(extensions.toArray(new Extension[extensions.size()]));
+		}
+
+		return result;
+	}
+}
\ No newline at end of file
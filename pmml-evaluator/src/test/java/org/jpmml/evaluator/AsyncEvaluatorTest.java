@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jpmml.evaluator.mining.ModelChainSimpleTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AsyncEvaluatorTest extends ModelEvaluatorTest {
+
+	@Test
+	public void evaluate() throws Exception {
+		ModelEvaluator<?> evaluator = createModelEvaluator(ModelChainSimpleTest.class);
+
+		List<Map<String, ?>> argumentsList = new ArrayList<>();
+		List<Map<String, ?>> expectedResultsList = new ArrayList<>();
+
+		for(int i = 0; i < 10; i++){
+			Map<String, ?> arguments = createArguments("petal_length", 1.4d, "petal_width", 0.2d, "temperature", (double)i, "cloudiness", (double)(i % 3));
+
+			argumentsList.add(arguments);
+			expectedResultsList.add(evaluator.evaluate(arguments));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			AsyncEvaluator asyncEvaluator = new AsyncEvaluator(evaluator, executor);
+
+			assertEquals(expectedResultsList.get(0), (asyncEvaluator.evaluate(argumentsList.get(0))).get());
+			assertEquals(expectedResultsList, (asyncEvaluator.evaluateAll(argumentsList)).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
\ No newline at end of file
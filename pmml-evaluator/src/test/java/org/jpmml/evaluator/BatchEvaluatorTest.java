@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchEvaluatorTest extends ModelEvaluatorTest {
+
+	@Test
+	public void evaluateAll() throws Exception {
+		ModelEvaluator<?> evaluator = createModelEvaluator();
+
+		BatchEvaluator batchEvaluator = new BatchEvaluator(evaluator);
+
+		assertEquals(new LinkedHashSet<>(Arrays.asList("log_x", "x_times_y", "ratio", "y_squared", "sqrt_y")), batchEvaluator.getCompiledFields());
+
+		List<Map<String, ?>> argumentsList = Arrays.asList(
+			createArguments("x", 1d, "y", 2d, "n", 1),
+			createArguments("x", -3.5d, "y", 0.5d, "n", 2),
+			createArguments("x", 0d, "y", 4d, "n", 3)
+		);
+
+		checkEquivalence(evaluator, batchEvaluator, argumentsList);
+
+		// Invalid function results
+		argumentsList = Arrays.asList(
+			createArguments("x", 1d, "y", -4d, "n", 1),
+			createArguments("x", 2d, "y", 9d, "n", 1)
+		);
+
+		checkEquivalence(evaluator, batchEvaluator, argumentsList);
+
+		// Missing values
+		argumentsList = Arrays.asList(
+			createArguments("x", 1d, "y", 2d, "n", 1),
+			createArguments("x", null, "y", 2d, "n", 1),
+			createArguments("x", 1d, "y", null, "n", 1)
+		);
+
+		checkEquivalence(evaluator, batchEvaluator, argumentsList);
+	}
+
+	static
+	private void checkEquivalence(ModelEvaluator<?> evaluator, BatchEvaluator batchEvaluator, List<Map<String, ?>> argumentsList){
+		List<Map<String, ?>> batchResults = batchEvaluator.evaluateAll(argumentsList);
+
+		assertEquals(argumentsList.size(), batchResults.size());
+
+		for(int i = 0; i < argumentsList.size(); i++){
+			Map<String, ?> results = evaluator.evaluate(argumentsList.get(i));
+
+			assertEquals(EvaluatorUtil.decodeAll(results), EvaluatorUtil.decodeAll(batchResults.get(i)));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.dmg.pmml.DataType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarTableReaderTest {
+
+	@Test
+	public void readWrite() throws IOException {
+		Table table = new Table(3);
+		table.setValues("id", Arrays.asList(1, 2, 3));
+		table.setValues("x", Arrays.asList(1.5d, null, -0.25d));
+		table.setValues("y", Arrays.asList(1f, 2, 3f));
+		table.setValues("label", Arrays.asList("yes", "no", "yes"));
+		table.setValues("text", Arrays.asList("ä", null));
+
+		table.convertValues("x", DataType.DOUBLE);
+
+		File file = File.createTempFile("table", ".col");
+
+		try {
+			ColumnarTableWriter tableWriter = new ColumnarTableWriter();
+
+			tableWriter.write(table, file);
+
+			assertTrue(ColumnarTableReader.isColumnar(file));
+
+			ColumnarTableReader tableReader = new ColumnarTableReader();
+
+			Table readTable = tableReader.read(file);
+
+			assertEquals(Arrays.asList("id", "x", "y", "label", "text"), readTable.getColumns());
+			assertEquals(3, readTable.getNumberOfRows());
+
+			IntegerColumn idColumn = (IntegerColumn)readTable.getValues("id");
+			assertEquals(Arrays.asList(1, 2, 3), idColumn);
+
+			DoubleColumn xColumn = (DoubleColumn)readTable.getValues("x");
+			assertEquals(Arrays.asList(1.5d, null, -0.25d), xColumn);
+
+			DoubleColumn yColumn = (DoubleColumn)readTable.getValues("y");
+			assertEquals(Arrays.asList(1d, 2d, 3d), yColumn);
+
+			DictionaryColumn labelColumn = (DictionaryColumn)readTable.getValues("label");
+			assertEquals(Arrays.asList("yes", "no", "yes"), labelColumn);
+			assertEquals(Arrays.asList("yes", "no"), labelColumn.getDictionary());
+
+			DictionaryColumn textColumn = (DictionaryColumn)readTable.getValues("text");
+			assertEquals(Arrays.asList("ä", null, null), textColumn);
+
+			// Copy-on-write
+			xColumn.setDouble(1, 2d);
+			xColumn.addDouble(3d);
+			labelColumn.set(0, "maybe");
+
+			assertEquals(Arrays.asList(1.5d, 2d, -0.25d, 3d), xColumn);
+			assertEquals(Arrays.asList("maybe", "no", "yes"), labelColumn);
+
+			Table rereadTable = tableReader.read(file);
+
+			assertEquals(Arrays.asList(1.5d, null, -0.25d), rereadTable.getValues("x"));
+			assertEquals(Arrays.asList("yes", "no", "yes"), rereadTable.getValues("label"));
+		} finally {
+			file.delete();
+		}
+
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void readEmpty() throws IOException {
+		Table table = new Table(Arrays.asList("a", "b"), 0);
+
+		File file = File.createTempFile("table", ".col");
+
+		try {
+			ColumnarTableWriter tableWriter = new ColumnarTableWriter();
+
+			tableWriter.write(table, file);
+
+			ColumnarTableReader tableReader = new ColumnarTableReader();
+
+			Table readTable = tableReader.read(file);
+
+			assertEquals(Arrays.asList("a", "b"), readTable.getColumns());
+			assertEquals(0, readTable.getNumberOfRows());
+			assertNull(readTable.getException(0));
+		} finally {
+			file.delete();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EvaluationExceptionTest extends ModelEvaluatorTest {
+
+	@Test
+	public void fillInStackTrace() throws Exception {
+		Map<String, ?> arguments = createArguments("x", "one", "y", 1d, "n", 1);
+
+		ModelEvaluator<?> evaluator = createModelEvaluator(BatchEvaluatorTest.class);
+
+		EvaluationException exception = assertThrows(EvaluationException.class, () -> evaluator.evaluate(arguments));
+
+		assertTrue((exception.getStackTrace()).length > 0);
+
+		Configuration configuration = new ConfigurationBuilder()
+			.setStackTraceEnabled(false)
+			.build();
+
+		ModelEvaluator<?> compactEvaluator = createModelEvaluator(BatchEvaluatorTest.class, configuration);
+
+		exception = assertThrows(EvaluationException.class, () -> compactEvaluator.evaluate(arguments));
+
+		assertEquals(0, (exception.getStackTrace()).length);
+		assertTrue(exception.getMessage() != null);
+
+		// Other evaluators, and code outside of evaluation calls, are not affected
+		exception = assertThrows(EvaluationException.class, () -> evaluator.evaluate(arguments));
+
+		assertTrue((exception.getStackTrace()).length > 0);
+
+		exception = new ValueCheckException("Test");
+
+		assertTrue((exception.getStackTrace()).length > 0);
+	}
+}
\ No newline at end of file
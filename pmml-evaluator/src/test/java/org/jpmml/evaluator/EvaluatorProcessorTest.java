@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import org.jpmml.evaluator.mining.ModelChainSimpleTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EvaluatorProcessorTest extends ModelEvaluatorTest {
+
+	private ModelEvaluator<?> evaluator = null;
+
+	private List<Map<String, ?>> argumentsList = new ArrayList<>();
+
+	private List<Map<String, ?>> expectedResultsList = new ArrayList<>();
+
+	private ExecutorService executor = null;
+
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.evaluator = createModelEvaluator(ModelChainSimpleTest.class);
+
+		for(int i = 0; i < 10; i++){
+			Map<String, ?> arguments = createArguments("petal_length", 1.4d, "petal_width", 0.2d, "temperature", (double)i, "cloudiness", (double)(i % 3));
+
+			this.argumentsList.add(arguments);
+			this.expectedResultsList.add(this.evaluator.evaluate(arguments));
+		}
+
+		this.executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	public void tearDown(){
+		this.executor.shutdown();
+	}
+
+	@Test
+	public void process() throws Exception {
+		List<Map<String, ?>> resultsList = Collections.synchronizedList(new ArrayList<>());
+
+		EvaluatorProcessor processor = new EvaluatorProcessor(this.evaluator, this.executor, 3);
+
+		CompletableFuture<Void> future = processor.consume(resultsList::add);
+
+		try(SubmissionPublisher<Map<String, ?>> publisher = new SubmissionPublisher<>(this.executor, 4)){
+			publisher.subscribe(processor);
+
+			for(Map<String, ?> arguments : this.argumentsList){
+				publisher.submit(arguments);
+			}
+		}
+
+		future.get(10, TimeUnit.SECONDS);
+
+		assertEquals(this.expectedResultsList, resultsList);
+	}
+
+	@Test
+	public void processUpstreamFirst() throws Exception {
+		List<Map<String, ?>> resultsList = Collections.synchronizedList(new ArrayList<>());
+
+		Semaphore requested = new Semaphore(0);
+
+		Flow.Subscription subscription = new Flow.Subscription(){
+
+			@Override
+			public void request(long n){
+				requested.release((int)Math.min(n, Integer.MAX_VALUE));
+			}
+
+			@Override
+			public void cancel(){
+			}
+		};
+
+		EvaluatorProcessor processor = new EvaluatorProcessor(this.evaluator, this.executor, 3);
+
+		processor.onSubscribe(subscription);
+
+		// Nothing may be requested before there is somebody to deliver results to
+		assertEquals(0, requested.availablePermits());
+
+		CompletableFuture<Void> future = processor.consume(resultsList::add);
+
+		for(Map<String, ?> arguments : this.argumentsList){
+			assertTrue(requested.tryAcquire(10, TimeUnit.SECONDS));
+
+			processor.onNext(arguments);
+		}
+
+		processor.onComplete();
+
+		future.get(10, TimeUnit.SECONDS);
+
+		assertEquals(this.expectedResultsList, resultsList);
+	}
+
+	@Test
+	public void processSlowSubscriber() throws Exception {
+		List<Map<String, ?>> resultsList = Collections.synchronizedList(new ArrayList<>());
+
+		EvaluatorProcessor processor = new EvaluatorProcessor(this.evaluator, this.executor, 3);
+
+		// Requests one result map at a time, and takes its time to process it
+		Flow.Subscriber<Map<String, ?>> subscriber = new Flow.Subscriber<Map<String, ?>>(){
+
+			private Flow.Subscription subscription = null;
+
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription){
+				this.subscription = subscription;
+
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(Map<String, ?> results){
+
+				try {
+					Thread.sleep(5);
+				} catch(InterruptedException ie){
+					Thread.currentThread().interrupt();
+				}
+
+				resultsList.add(results);
+
+				this.subscription.request(1);
+			}
+
+			@Override
+			public void onError(Throwable throwable){
+			}
+
+			@Override
+			public void onComplete(){
+			}
+		};
+
+		processor.subscribe(subscriber);
+
+		try(SubmissionPublisher<Map<String, ?>> publisher = new SubmissionPublisher<>(this.executor, 4)){
+			publisher.subscribe(processor);
+
+			for(Map<String, ?> arguments : this.argumentsList){
+				publisher.submit(arguments);
+			}
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while(resultsList.size() < this.expectedResultsList.size() && System.nanoTime() < deadline){
+			Thread.sleep(10);
+		}
+
+		assertEquals(this.expectedResultsList, resultsList);
+	}
+
+	@Test
+	public void processSlowUnboundedSubscriber() throws Exception {
+		List<Map<String, ?>> resultsList = Collections.synchronizedList(new ArrayList<>());
+
+		// The buffer is smaller than the number of argument maps
+		EvaluatorProcessor processor = new EvaluatorProcessor(this.evaluator, this.executor, 2, 3);
+
+		// Requests an unbounded number of result maps, and takes its time to process each of them
+		CompletableFuture<Void> future = processor.consume(results -> {
+
+			try {
+				Thread.sleep(5);
+			} catch(InterruptedException ie){
+				Thread.currentThread().interrupt();
+			}
+
+			resultsList.add(results);
+		});
+
+		try(SubmissionPublisher<Map<String, ?>> publisher = new SubmissionPublisher<>(this.executor, 4)){
+			publisher.subscribe(processor);
+
+			for(Map<String, ?> arguments : this.argumentsList){
+				publisher.submit(arguments);
+			}
+		}
+
+		future.get(10, TimeUnit.SECONDS);
+
+		assertEquals(this.expectedResultsList, resultsList);
+	}
+
+	@Test
+	public void processInvalid() throws Exception {
+		EvaluatorProcessor processor = new EvaluatorProcessor(this.evaluator, this.executor, 3);
+
+		CompletableFuture<Void> future = processor.consume(results -> {});
+
+		try(SubmissionPublisher<Map<String, ?>> publisher = new SubmissionPublisher<>(this.executor, 4)){
+			publisher.subscribe(processor);
+
+			publisher.submit(createArguments("petal_length", "one point four", "petal_width", 0.2d, "temperature", 0d, "cloudiness", 0d));
+		}
+
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+		assertTrue(exception.getCause() instanceof RuntimeException);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LevenshteinDistanceUtilTest {
+
+	@Test
+	public void limitedCompare(){
+		assertEquals(7, limitedCompare("elephant", "hippo", true, 7));
+		assertEquals(-1, limitedCompare("elephant", "hippo", true, 6));
+		assertEquals(7, limitedCompare("hippo", "elephant", true, 7));
+		assertEquals(-1, limitedCompare("hippo", "elephant", true, 6));
+
+		assertEquals(-1, limitedCompare("Kitten", "kitten", true, 0));
+		assertEquals(0, limitedCompare("Kitten", "kitten", false, 0));
+		assertEquals(-1, limitedCompare("Kitten", "sitting", true, 2));
+		assertEquals(3, limitedCompare("Kitten", "sitting", true, 3));
+
+		assertEquals(0, limitedCompare("Äpfel", "äPFEL", false, 0));
+		assertEquals(-1, limitedCompare("Äpfel", "äPFEL", true, 4));
+		assertEquals(5, limitedCompare("Äpfel", "äPFEL", true, 5));
+
+		assertNull(LevenshteinDistanceUtil.compile("", true));
+		assertNull(LevenshteinDistanceUtil.compile(repeat('a', Long.SIZE + 1), true));
+	}
+
+	@Test
+	public void limitedCompareRandom(){
+		Random random = new Random(42L);
+
+		char[] alphabet = {'a', 'b', 'c', 'A', 'B', 'ä', 'Ä'};
+
+		for(int i = 0; i < 5000; i++){
+			String left = randomString(random, alphabet, 1 + random.nextInt(Long.SIZE));
+			String right = randomString(random, alphabet, random.nextInt(12));
+
+			boolean caseSensitive = random.nextBoolean();
+			int threshold = random.nextInt(8);
+
+			LevenshteinDistanceUtil.Term term = LevenshteinDistanceUtil.compile(left, caseSensitive);
+
+			assertEquals(LevenshteinDistanceUtil.limitedCompare(right, left, caseSensitive, threshold), term.limitedCompare(right, threshold));
+		}
+	}
+
+	static
+	private int limitedCompare(String term, String text, boolean caseSensitive, int threshold){
+		int expectedDistance = LevenshteinDistanceUtil.limitedCompare(text, term, caseSensitive, threshold);
+
+		LevenshteinDistanceUtil.Term compiledTerm = LevenshteinDistanceUtil.compile(term, caseSensitive);
+
+		assertEquals(expectedDistance, compiledTerm.limitedCompare(text, threshold));
+
+		return expectedDistance;
+	}
+
+	static
+	private String randomString(Random random, char[] alphabet, int length){
+		StringBuilder sb = new StringBuilder(length);
+
+		for(int i = 0; i < length; i++){
+			sb.append(alphabet[random.nextInt(alphabet.length)]);
+		}
+
+		return sb.toString();
+	}
+
+	static
+	private String repeat(char c, int count){
+		StringBuilder sb = new StringBuilder(count);
+
+		for(int i = 0; i < count; i++){
+			sb.append(c);
+		}
+
+		return sb.toString();
+	}
+}
\ No newline at end of file
@@ -18,13 +18,22 @@
  */
 package org.jpmml.evaluator;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.google.common.collect.Iterables;
+import com.google.common.io.ByteStreams;
 import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
 import org.dmg.pmml.DataDictionary;
 import org.dmg.pmml.Header;
 import org.dmg.pmml.MiningFunction;
@@ -34,17 +43,30 @@ import org.dmg.pmml.PMML;
 import org.dmg.pmml.Predicate;
 import org.dmg.pmml.True;
 import org.dmg.pmml.Version;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
 import org.dmg.pmml.tree.ComplexNode;
 import org.dmg.pmml.tree.Node;
 import org.dmg.pmml.tree.TreeModel;
 import org.jpmml.evaluator.java.JavaModel;
 import org.jpmml.model.DirectByteArrayOutputStream;
+import org.jpmml.model.JAXBUtil;
 import org.jpmml.model.PMMLUtil;
+import org.jpmml.model.SAXUtil;
+import org.jpmml.model.filters.ImportFilter;
+import org.jpmml.model.visitors.AbstractVisitor;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class LoadingModelEvaluatorBuilderTest {
 
@@ -136,6 +158,171 @@ public class LoadingModelEvaluatorBuilderTest {
 		assertEquals(results, javaResults);
 	}
 
+	@Test
+	public void loadIncremental() throws Exception {
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("x", 1d);
+
+		Map<String, ?> results = evaluate(new LoadingModelEvaluatorBuilder(), "/pmml/mining/GradientBoosterTest.pmml", arguments);
+		Map<String, ?> incrementalResults = evaluate(new LoadingModelEvaluatorBuilder().setIncremental(true), "/pmml/mining/GradientBoosterTest.pmml", arguments);
+
+		assertEquals(results, incrementalResults);
+	}
+
+	@Test
+	public void loadIncrementalNested() throws Exception {
+		List<Segment> segments = new ArrayList<>();
+
+		Visitor visitor = new AbstractVisitor(){
+
+			@Override
+			public VisitorAction visit(Segment segment){
+				segments.add(segment);
+
+				return super.visit(segment);
+			}
+		};
+
+		IncrementalCompactor compactor = new IncrementalCompactor(false, Collections.singletonList(visitor));
+
+		try(InputStream is = LoadingModelEvaluatorBuilderTest.class.getResourceAsStream("/pmml/mining/GradientBoosterTest.pmml")){
+			Unmarshaller unmarshaller = JAXBUtil.getContext().createUnmarshaller();
+			unmarshaller.setListener(compactor);
+
+			unmarshaller.unmarshal(SAXUtil.createFilteredSource(is, new ImportFilter()));
+		}
+
+		// Three innermost segments of the nested ensemble model, plus one innermost segment of the top-level ensemble model
+		assertEquals(4, segments.size());
+
+		Set<Segment> uniqueSegments = Collections.newSetFromMap(new IdentityHashMap<>());
+		uniqueSegments.addAll(segments);
+
+		assertEquals(4, uniqueSegments.size());
+
+		for(Segment segment : segments){
+			assertFalse(segment.requireModel() instanceof MiningModel);
+		}
+	}
+
+	@Test
+	public void loadParallel() throws Exception {
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("sepal_length", 5.1d, "sepal_width", 3.5d, "petal_length", 1.4d, "petal_width", 0.2d);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Map<String, ?> results = evaluate(new LoadingModelEvaluatorBuilder(), "/pmml/mining/SelectAllTest.pmml", arguments);
+			Map<String, ?> parallelResults = evaluate(new LoadingModelEvaluatorBuilder().setExecutorService(executorService), "/pmml/mining/SelectAllTest.pmml", arguments);
+
+			assertEquals(results, parallelResults);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void loadDelta() throws Exception {
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("x", 1d);
+
+		String string;
+
+		try(InputStream is = LoadingModelEvaluatorBuilderTest.class.getResourceAsStream("/pmml/mining/GradientBoosterTest.pmml")){
+			string = new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8);
+		}
+
+		LoadingModelEvaluatorBuilder modelEvaluatorBuilder = new LoadingModelEvaluatorBuilder()
+			.setDeltaLoading(true);
+
+		ModelEvaluator<?> modelEvaluator = modelEvaluatorBuilder
+			.load(toInputStream(string))
+			.build();
+
+		assertNotNull(modelEvaluator.getStructuralDigest());
+		assertNull(modelEvaluatorBuilder.getModelDelta());
+
+		ModelEvaluator<?> unchangedModelEvaluator = modelEvaluatorBuilder
+			.setBaseline(modelEvaluator)
+			.load(toInputStream(string))
+			.build();
+
+		ModelDelta modelDelta = modelEvaluatorBuilder.getModelDelta();
+
+		assertEquals(2, modelDelta.getAdoptedSegments());
+		assertEquals(0, modelDelta.getRebuiltSegments());
+
+		List<Segment> segments = getSegments(modelEvaluator.getModel());
+		List<Segment> unchangedSegments = getSegments(unchangedModelEvaluator.getModel());
+
+		assertSame(segments.get(0), unchangedSegments.get(0));
+		assertSame(segments.get(1), unchangedSegments.get(1));
+
+		// Retraining appends a tree to the nested ensemble model, which invalidates all subsequent model chain segments
+		String retrainedString = string.replace("\t\t\t\t\t</Segmentation>", "\t\t\t\t\t\t<Segment><True/><RegressionModel functionName=\"regression\"><MiningSchema><MiningField name=\"x\"/></MiningSchema><RegressionTable intercept=\"0.0\"><NumericPredictor name=\"x\" coefficient=\"0.25\"/></RegressionTable></RegressionModel></Segment>\n\t\t\t\t\t</Segmentation>");
+
+		assertNotEquals(string, retrainedString);
+
+		ModelEvaluator<?> retrainedModelEvaluator = modelEvaluatorBuilder
+			.setBaseline(unchangedModelEvaluator)
+			.load(toInputStream(retrainedString))
+			.build();
+
+		modelDelta = modelEvaluatorBuilder.getModelDelta();
+
+		assertEquals(3, modelDelta.getAdoptedSegments());
+		assertEquals(3, modelDelta.getRebuiltSegments());
+
+		List<Segment> retrainedSegments = getSegments(retrainedModelEvaluator.getModel());
+
+		assertNotSame(unchangedSegments.get(0), retrainedSegments.get(0));
+		assertNotSame(unchangedSegments.get(1), retrainedSegments.get(1));
+
+		List<Segment> nestedSegments = getSegments((unchangedSegments.get(0)).requireModel());
+		List<Segment> retrainedNestedSegments = getSegments((retrainedSegments.get(0)).requireModel());
+
+		assertEquals(4, retrainedNestedSegments.size());
+
+		for(int i = 0; i < 3; i++){
+			assertSame(nestedSegments.get(i), retrainedNestedSegments.get(i));
+		}
+
+		Map<String, ?> results = evaluate(new LoadingModelEvaluatorBuilder(), toInputStream(retrainedString), arguments);
+
+		assertEquals(results, EvaluatorUtil.decodeAll(retrainedModelEvaluator.evaluate(arguments)));
+	}
+
+	static
+	private Map<String, ?> evaluate(LoadingModelEvaluatorBuilder modelEvaluatorBuilder, String name, Map<String, ?> arguments) throws Exception {
+
+		try(InputStream is = LoadingModelEvaluatorBuilderTest.class.getResourceAsStream(name)){
+			ModelEvaluator<?> modelEvaluator = modelEvaluatorBuilder
+				.load(is)
+				.build();
+
+			return EvaluatorUtil.decodeAll(modelEvaluator.evaluate(arguments));
+		}
+	}
+
+	static
+	private Map<String, ?> evaluate(LoadingModelEvaluatorBuilder modelEvaluatorBuilder, InputStream is, Map<String, ?> arguments) throws Exception {
+		ModelEvaluator<?> modelEvaluator = modelEvaluatorBuilder
+			.load(is)
+			.build();
+
+		return EvaluatorUtil.decodeAll(modelEvaluator.evaluate(arguments));
+	}
+
+	static
+	private List<Segment> getSegments(Model model){
+		MiningModel miningModel = (MiningModel)model;
+
+		return (miningModel.requireSegmentation()).requireSegments();
+	}
+
+	static
+	private InputStream toInputStream(String string){
+		return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+	}
+
 	static
 	private InputStream createResource(String modelName) throws JAXBException {
 		Node root = new ComplexNode()
@@ -24,6 +24,7 @@ import java.util.Map;
 import org.dmg.pmml.DataType;
 import org.dmg.pmml.OpType;
 import org.jpmml.evaluator.mining.MissingPredictionTest;
+import org.jpmml.evaluator.mining.ModelChainSimpleTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -72,4 +73,23 @@ public class ModelEvaluationContextTest extends ModelEvaluatorTest {
 
 		assertEquals(FieldValues.MISSING_VALUE, context.evaluate("x"));
  	}
+
+	@Test
+	public void evaluateReused() throws Exception {
+		ModelEvaluator<?> evaluator = createModelEvaluator(ModelChainSimpleTest.class);
+
+		ModelEvaluationContext context = evaluator.createEvaluationContext();
+
+		for(int i = 0; i < 3; i++){
+			Map<String, ?> arguments = createArguments("petal_length", 1.4d, "petal_width", 0.2d, "temperature", (double)i, "cloudiness", 0d);
+
+			Map<String, ?> expectedResults = evaluator.evaluate(arguments);
+
+			assertEquals(expectedResults, evaluator.evaluate(arguments, context));
+		}
+
+		ModelEvaluator<?> otherEvaluator = createModelEvaluator(ModelChainSimpleTest.class);
+
+		assertThrows(IllegalArgumentException.class, () -> otherEvaluator.evaluate(createArguments(), context));
+	}
 }
\ No newline at end of file
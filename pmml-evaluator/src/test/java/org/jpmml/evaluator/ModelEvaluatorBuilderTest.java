@@ -18,17 +18,28 @@
  */
 package org.jpmml.evaluator;
 
+import org.dmg.pmml.DataDictionary;
 import org.dmg.pmml.False;
+import org.dmg.pmml.Header;
 import org.dmg.pmml.MiningFunction;
 import org.dmg.pmml.MiningSchema;
+import org.dmg.pmml.ModelStats;
+import org.dmg.pmml.ModelVerification;
 import org.dmg.pmml.PMML;
+import org.dmg.pmml.Version;
 import org.dmg.pmml.tree.LeafNode;
 import org.dmg.pmml.tree.Node;
 import org.dmg.pmml.tree.TreeModel;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ModelEvaluatorBuilderTest {
 
@@ -71,6 +82,55 @@ public class ModelEvaluatorBuilderTest {
 		assertNotSame(valueFactoryFactory, clonedModelEvaluatorBuilder.getValueFactoryFactory());
 	}
 
+	@Test
+	public void buildStripped(){
+		Node root = new LeafNode(null, False.INSTANCE);
+
+		TreeModel treeModel = new TreeModel(MiningFunction.REGRESSION, new MiningSchema(), root)
+			.setModelStats(new ModelStats())
+			.setModelVerification(new ModelVerification());
+
+		PMML pmml = new PMML(Version.PMML_4_4.getVersion(), new Header(), new DataDictionary())
+			.addModels(treeModel, new TreeModel(MiningFunction.REGRESSION, new MiningSchema(), root));
+
+		ModelEvaluatorBuilder modelEvaluatorBuilder = new ModelEvaluatorBuilder(pmml, treeModel);
+
+		ModelEvaluator<?> modelEvaluator = modelEvaluatorBuilder.build();
+
+		assertFalse(modelEvaluator.isStripped());
+
+		assertSame(pmml, modelEvaluator.getPMML());
+		assertSame(treeModel, modelEvaluator.getModel());
+
+		modelEvaluator = modelEvaluatorBuilder
+			.setStripNonScoringElements(true)
+			.build();
+
+		assertTrue(modelEvaluator.isStripped());
+
+		PMML strippedPMML = modelEvaluator.getPMML();
+		TreeModel strippedTreeModel = (TreeModel)modelEvaluator.getModel();
+
+		assertNotSame(pmml, strippedPMML);
+		assertNotSame(treeModel, strippedTreeModel);
+
+		assertEquals(2, (pmml.getModels()).size());
+		assertEquals(1, (strippedPMML.getModels()).size());
+
+		assertSame(treeModel.getMiningSchema(), strippedTreeModel.getMiningSchema());
+		assertSame(treeModel.getNode(), strippedTreeModel.getNode());
+
+		assertNotNull(treeModel.getModelStats());
+		assertNotNull(treeModel.getModelVerification());
+
+		assertNull(strippedTreeModel.getModelStats());
+		assertNull(strippedTreeModel.getModelVerification());
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class, modelEvaluator::verify);
+
+		assertTrue((exception.getMessage()).contains("setStripNonScoringElements"));
+	}
+
 	static
 	private ModelEvaluatorBuilder createModelEvaluatorBuilder(){
 		Node root = new LeafNode(null, False.INSTANCE);
@@ -88,6 +88,7 @@ public class ModelEvaluatorTest {
 			.setModelEvaluatorFactory(configuration.getModelEvaluatorFactory())
 			.setValueFactoryFactory(configuration.getValueFactoryFactory())
 			.setOutputFilter(configuration.getOutputFilter())
+			.setStackTraceEnabled(configuration.isStackTraceEnabled())
 			.setCheckSchema(false)
 			.setVisitors(visitorBattery);
 
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.Visitor;
+import org.dmg.pmml.VisitorAction;
+import org.dmg.pmml.mining.MiningModel;
+import org.jpmml.model.visitors.AbstractVisitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelRegistryTest {
+
+	@Test
+	public void load() throws Exception {
+		ModelRegistry modelRegistry = new ModelRegistry();
+
+		ModelEvaluator<?> firstModelEvaluator;
+		ModelEvaluator<?> secondModelEvaluator;
+
+		try(InputStream is = getResourceAsStream()){
+			firstModelEvaluator = modelRegistry.load("first", is);
+		}
+
+		try(InputStream is = getResourceAsStream()){
+			secondModelEvaluator = modelRegistry.load("second", is);
+		}
+
+		assertEquals(2, (modelRegistry.keySet()).size());
+
+		assertSame(firstModelEvaluator, modelRegistry.get("first"));
+		assertSame(secondModelEvaluator, modelRegistry.get("second"));
+
+		assertNotSame(firstModelEvaluator, secondModelEvaluator);
+		assertNotSame(firstModelEvaluator.getPMML(), secondModelEvaluator.getPMML());
+
+		assertSame((firstModelEvaluator.getPMML()).getDataDictionary(), (secondModelEvaluator.getPMML()).getDataDictionary());
+		assertSame(firstModelEvaluator.getModel(), secondModelEvaluator.getModel());
+
+		StructuralCache structuralCache = modelRegistry.getStructuralCache();
+
+		Map<Class<? extends PMMLObject>, StructuralCache.Statistics> statistics = structuralCache.getStatistics();
+
+		assertEquals(1L, (statistics.get(DataDictionary.class)).getHits());
+		// The top-level model chain, and the nested sum
+		assertEquals(2L, (statistics.get(MiningModel.class)).getHits());
+
+		// Every object of the second PMML class model object is counted once, even if the models are nested
+		PMML pmml = secondModelEvaluator.getPMML();
+
+		assertEquals(countObjects(pmml.getDataDictionary()) + countObjects(pmml.getTransformationDictionary()) + countObjects(secondModelEvaluator.getModel()), structuralCache.getSavedObjects());
+
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("x", 1d);
+
+		assertEquals(EvaluatorUtil.decodeAll(firstModelEvaluator.evaluate(arguments)), EvaluatorUtil.decodeAll(secondModelEvaluator.evaluate(arguments)));
+
+		modelRegistry.remove("first");
+
+		assertNull(modelRegistry.get("first"));
+	}
+
+	@Test
+	public void swap(@TempDir Path tmpDir) throws Exception {
+		File file = createFile(tmpDir, "model.pmml");
+
+		List<ModelVersion> releasedModelVersions = new ArrayList<>();
+
+		ModelRegistry modelRegistry = new ModelRegistry()
+			.setModelVersionListener(releasedModelVersions::add);
+
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("x", 1d);
+
+		modelRegistry.setWarmUpArguments(Collections.singletonList(arguments));
+
+		modelRegistry.load("model", file);
+
+		ModelVersion firstModelVersion = modelRegistry.acquire("model");
+
+		assertEquals(1, firstModelVersion.getReferenceCount());
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		try {
+			(modelRegistry.loadAsync("model", file, executorService)).get();
+		} finally {
+			executorService.shutdown();
+		}
+
+		ModelVersion secondModelVersion = modelRegistry.getModelVersion("model");
+
+		assertNotSame(firstModelVersion, secondModelVersion);
+		assertTrue(secondModelVersion.getVersion() > firstModelVersion.getVersion());
+
+		assertTrue(firstModelVersion.isRetired());
+		assertFalse(firstModelVersion.isReleased());
+		assertEquals(Collections.emptyList(), releasedModelVersions);
+
+		// The in-flight request finishes on the previous model version
+		try(ModelVersion modelVersion = firstModelVersion){
+			Evaluator evaluator = modelVersion.getModelEvaluator();
+
+			evaluator.evaluate(arguments);
+		}
+
+		assertEquals(0, firstModelVersion.getReferenceCount());
+		assertEquals(0, secondModelVersion.getReferenceCount());
+
+		// The previous model version is released by its last holder
+		assertTrue(firstModelVersion.isReleased());
+		assertFalse(secondModelVersion.isReleased());
+		assertEquals(Collections.singletonList(firstModelVersion), releasedModelVersions);
+
+		assertThrows(IllegalStateException.class, firstModelVersion::close);
+
+		modelRegistry.setWarmUpArguments(Collections.singletonList(ModelEvaluatorTest.createArguments("x", "one")));
+
+		assertThrows(EvaluationException.class, () -> modelRegistry.load("model", file));
+
+		assertSame(secondModelVersion, modelRegistry.getModelVersion("model"));
+
+		ModelRegistry.Metrics metrics = modelRegistry.getMetrics();
+
+		assertEquals(2L, metrics.getLoads());
+		assertEquals(1L, metrics.getLoadFailures());
+		assertEquals(1L, metrics.getSwaps());
+		assertEquals(0L, metrics.getEvictions());
+		assertEquals(1L, metrics.getReleases());
+
+		modelRegistry.remove("model");
+
+		assertTrue(secondModelVersion.isReleased());
+		assertEquals(Arrays.asList(firstModelVersion, secondModelVersion), releasedModelVersions);
+	}
+
+	@Test
+	public void evict(@TempDir Path tmpDir) throws Exception {
+		ModelRegistry modelRegistry = new ModelRegistry(new LoadingModelEvaluatorBuilder(), 1L, ModelRegistry.UNIT_WEIGHER);
+
+		modelRegistry.register("first", createFile(tmpDir, "first.pmml"));
+		modelRegistry.register("second", createFile(tmpDir, "second.pmml"));
+
+		assertEquals(2, (modelRegistry.keySet()).size());
+		assertEquals(0L, modelRegistry.getRegisteredWeight());
+
+		ModelVersion firstModelVersion = modelRegistry.acquire("first");
+
+		assertEquals(1L, modelRegistry.getRegisteredWeight());
+
+		ModelVersion secondModelVersion = modelRegistry.acquire("second");
+
+		assertEquals(1L, modelRegistry.getRegisteredWeight());
+
+		ModelRegistry.Metrics metrics = modelRegistry.getMetrics();
+
+		assertEquals(2L, metrics.getLoads());
+		assertEquals(1L, metrics.getEvictions());
+		assertEquals(1L, metrics.getEvictedWeight());
+
+		// The evicted model version remains usable by its holders
+		assertEquals(1, firstModelVersion.getReferenceCount());
+
+		assertTrue(firstModelVersion.isRetired());
+		assertEquals(0L, metrics.getReleases());
+
+		firstModelVersion.close();
+		secondModelVersion.close();
+
+		assertTrue(firstModelVersion.isReleased());
+		assertFalse(secondModelVersion.isReleased());
+		assertEquals(1L, metrics.getReleases());
+
+		ModelVersion reloadedModelVersion = modelRegistry.getModelVersion("first");
+
+		assertNotSame(firstModelVersion, reloadedModelVersion);
+
+		assertEquals(3L, metrics.getLoads());
+		assertEquals(2L, metrics.getEvictions());
+
+		assertNull(modelRegistry.getModelVersion("third"));
+	}
+
+	static
+	private File createFile(Path dir, String name) throws Exception {
+		Path path = dir.resolve(name);
+
+		try(InputStream is = getResourceAsStream()){
+			Files.copy(is, path, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		return path.toFile();
+	}
+
+	static
+	private long countObjects(PMMLObject object){
+
+		if(object == null){
+			return 0L;
+		}
+
+		long[] count = {0L};
+
+		Visitor visitor = new AbstractVisitor(){
+
+			@Override
+			public VisitorAction visit(PMMLObject object){
+				count[0]++;
+
+				return super.visit(object);
+			}
+		};
+		visitor.applyTo(object);
+
+		return count[0];
+	}
+
+	static
+	private InputStream getResourceAsStream(){
+		return ModelRegistryTest.class.getResourceAsStream("/pmml/mining/GradientBoosterTest.pmml");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NumberFormatUtilTest {
+
+	@Test
+	public void parseDouble(){
+		String[] strings = {"0", "-0", "+0.0", "1", "-1.5", "0.1", ".5", "1.", "1e5", "1E-5", "1.2345678901234567", "9007199254740993", "123456789e-30", "4.9e-324", "1e400", "NaN", "-Infinity", " 1.5 ", "0x1p3", "1d"};
+
+		for(String string : strings){
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(string)), Double.doubleToLongBits(NumberFormatUtil.parseDouble(string)), string);
+			assertEquals(Float.floatToIntBits(Float.parseFloat(string)), Float.floatToIntBits(NumberFormatUtil.parseFloat(string)), string);
+		}
+
+		String[] invalidStrings = {"", "-", ".", "e5", "1e", "1.5.5", "abc"};
+
+		for(String invalidString : invalidStrings){
+			assertThrows(NumberFormatException.class, () -> NumberFormatUtil.parseDouble(invalidString));
+			assertThrows(NumberFormatException.class, () -> NumberFormatUtil.parseFloat(invalidString));
+		}
+
+		Random random = new Random(42L);
+
+		for(int i = 0; i < 100000; i++){
+			String string = (random.nextInt(1000000) - 500000) + "." + random.nextInt(100000) + (random.nextBoolean() ? ("e" + (random.nextInt(40) - 20)) : "");
+
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(string)), Double.doubleToLongBits(NumberFormatUtil.parseDouble(string)), string);
+			assertEquals(Float.floatToIntBits(Float.parseFloat(string)), Float.floatToIntBits(NumberFormatUtil.parseFloat(string)), string);
+		}
+	}
+
+	@Test
+	public void parseLong(){
+		String[] strings = {"0", "-0", "+1", "-123456789012345678", "9223372036854775807", "-9223372036854775808"};
+
+		for(String string : strings){
+			assertEquals(Long.parseLong(string), NumberFormatUtil.parseLong(string), string);
+		}
+
+		String[] invalidStrings = {"", "-", "+", "1.0", "1e5", "9223372036854775808", " 1"};
+
+		for(String invalidString : invalidStrings){
+			assertThrows(NumberFormatException.class, () -> NumberFormatUtil.parseLong(invalidString));
+		}
+	}
+
+	@Test
+	public void format(){
+		assertEquals("1.0", NumberFormatUtil.format(1d));
+		assertEquals("-0.0", NumberFormatUtil.format(-0d));
+		assertEquals("0.1", NumberFormatUtil.format(0.1d));
+		assertEquals("0.005", NumberFormatUtil.format(0.005d));
+		assertEquals("-123.0625", NumberFormatUtil.format(-123.0625d));
+		assertEquals("1.0E-4", NumberFormatUtil.format(1e-4d));
+		assertEquals("1.0E7", NumberFormatUtil.format(1e7d));
+		assertEquals("NaN", NumberFormatUtil.format(Double.NaN));
+
+		assertEquals("0.1", NumberFormatUtil.format(0.1f));
+		assertEquals("3.1415927", NumberFormatUtil.format((float)Math.PI));
+
+		assertEquals("42", NumberFormatUtil.format(42));
+		assertEquals("true", NumberFormatUtil.format(Boolean.TRUE));
+		assertEquals("abc", NumberFormatUtil.format("abc"));
+
+		Random random = new Random(42L);
+
+		for(int i = 0; i < 100000; i++){
+			double value = (random.nextDouble() - 0.5d) * Math.pow(10d, random.nextInt(10) - 3);
+
+			if(random.nextBoolean()){
+				value = Math.rint(value * 1000d) / 1000d;
+			}
+
+			String string = NumberFormatUtil.format(value);
+
+			assertEquals(value, Double.parseDouble(string), string);
+			assertEquals(Double.toString(value).length(), string.length(), string);
+
+			float floatValue = (float)value;
+
+			String floatString = NumberFormatUtil.format(floatValue);
+
+			assertEquals(floatValue, Float.parseFloat(floatString), floatString);
+			assertEquals(Float.toString(floatValue).length(), floatString.length(), floatString);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.BitSet;
+
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.InvalidValueTreatmentMethod;
+import org.dmg.pmml.PMMLFunctions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NumericKernelTest {
+
+	@Test
+	public void evaluateArithmetic(){
+		Apply apply = new Apply(PMMLFunctions.ADD)
+			.addExpressions(new FieldRef("x"), new Apply(PMMLFunctions.MULTIPLY)
+				.addExpressions(new FieldRef("y"), new Constant(2))
+			);
+
+		checkEquivalence(apply);
+
+		apply.setMapMissingTo(-1d);
+
+		checkEquivalence(apply);
+
+		apply
+			.setMapMissingTo(null)
+			.setDefaultValue(-2d);
+
+		checkEquivalence(apply);
+	}
+
+	@Test
+	public void evaluateMath(){
+		Apply expApply = new Apply(PMMLFunctions.EXP)
+			.addExpressions(new FieldRef("x"));
+
+		Apply apply = new Apply(PMMLFunctions.LN)
+			.addExpressions(expApply);
+
+		NumericColumns columns = createColumns();
+
+		NumericKernel kernel = NumericKernelUtil.compile(apply);
+
+		assertThrows(MissingArgumentException.class, () -> columns.put("result", kernel));
+
+		expApply.setMapMissingTo(0d);
+
+		checkEquivalence(apply);
+
+		apply = new Apply(PMMLFunctions.SQRT)
+			.addExpressions(new Apply(PMMLFunctions.ABS)
+				.addExpressions(new FieldRef("y"))
+				.setMapMissingTo(0d)
+			);
+
+		checkEquivalence(apply);
+	}
+
+	@Test
+	public void evaluateInvalid(){
+		String[] functions = {PMMLFunctions.LN, PMMLFunctions.LOG10, PMMLFunctions.SQRT};
+
+		for(String function : functions){
+			Apply apply = new Apply(function)
+				.addExpressions(new FieldRef("x"))
+				.setMapMissingTo(0d);
+
+			checkInvalidTreatments(apply);
+		}
+
+		// Zero divided by zero
+		Apply apply = new Apply(PMMLFunctions.DIVIDE)
+			.addExpressions(new FieldRef("x"), new FieldRef("x"))
+			.setMapMissingTo(0d);
+
+		checkInvalidTreatments(apply);
+	}
+
+	@Test
+	public void evaluateMissingArgument(){
+		Apply apply = new Apply(PMMLFunctions.POW)
+			.addExpressions(new Constant(2d).setDataType(DataType.DOUBLE), new FieldRef("x"));
+
+		NumericColumns columns = createColumns();
+
+		NumericKernel kernel = NumericKernelUtil.compile(apply);
+
+		MissingArgumentException kernelException = assertThrows(MissingArgumentException.class, () -> columns.put("result", kernel));
+
+		VirtualEvaluationContext context = new VirtualEvaluationContext();
+		context.declare("x", FieldValues.MISSING_VALUE);
+
+		MissingArgumentException exception = assertThrows(MissingArgumentException.class, () -> ExpressionUtil.evaluate(apply, context));
+
+		assertEquals(1, exception.getIndex());
+		assertEquals(exception.getIndex(), kernelException.getIndex());
+		assertEquals(exception.getMessage(), kernelException.getMessage());
+	}
+
+	@Test
+	public void compile(){
+		Apply apply = new Apply(PMMLFunctions.DIVIDE)
+			.addExpressions(new Constant(1), new Constant(2));
+
+		assertNull(NumericKernelUtil.compile(apply));
+
+		apply = new Apply(PMMLFunctions.DIVIDE)
+			.addExpressions(new Constant(1), new Constant(2d).setDataType(DataType.DOUBLE));
+
+		assertNotNull(NumericKernelUtil.compile(apply));
+
+		apply = new Apply(PMMLFunctions.CONCAT)
+			.addExpressions(new FieldRef("x"), new FieldRef("y"));
+
+		assertNull(NumericKernelUtil.compile(apply));
+
+		apply = new Apply(PMMLFunctions.ADD)
+			.addExpressions(new FieldRef("x").setMapMissingTo("missing"), new FieldRef("y"));
+
+		assertNull(NumericKernelUtil.compile(apply));
+	}
+
+	static
+	private void checkInvalidTreatments(Apply apply){
+		NumericColumns columns = createColumns();
+
+		NumericKernel kernel = NumericKernelUtil.compile(apply);
+
+		assertNotNull(kernel);
+
+		assertThrows(EvaluationException.class, () -> columns.put("result", kernel));
+
+		apply.setInvalidValueTreatment(InvalidValueTreatmentMethod.AS_MISSING);
+
+		checkEquivalence(apply);
+
+		apply.setDefaultValue(-1d);
+
+		checkEquivalence(apply);
+
+		apply
+			.setDefaultValue(null)
+			.setInvalidValueTreatment(InvalidValueTreatmentMethod.AS_IS);
+
+		checkEquivalence(apply);
+	}
+
+	static
+	private void checkEquivalence(Expression expression){
+		NumericColumns columns = createColumns();
+
+		NumericKernel kernel = NumericKernelUtil.compile(expression);
+
+		assertNotNull(kernel);
+
+		columns.put("result", kernel);
+
+		double[] x = columns.getValues("x");
+		double[] y = columns.getValues("y");
+		BitSet xMissing = columns.getMissing("x");
+		BitSet yMissing = columns.getMissing("y");
+
+		double[] result = columns.getValues("result");
+		BitSet resultMissing = columns.getMissing("result");
+
+		for(int i = 0; i < columns.getNumberOfRows(); i++){
+			VirtualEvaluationContext context = new VirtualEvaluationContext();
+			context.declare("x", xMissing.get(i) ? FieldValues.MISSING_VALUE : FieldValueUtil.create(TypeInfos.CONTINUOUS_DOUBLE, x[i]));
+			context.declare("y", yMissing.get(i) ? FieldValues.MISSING_VALUE : FieldValueUtil.create(TypeInfos.CONTINUOUS_DOUBLE, y[i]));
+
+			FieldValue value = ExpressionUtil.evaluate(expression, context);
+
+			if(FieldValueUtil.isMissing(value)){
+				assertTrue(resultMissing.get(i));
+			} else
+
+			{
+				assertEquals(value.asDouble(), (Double)result[i]);
+			}
+		}
+	}
+
+	static
+	private NumericColumns createColumns(){
+		NumericColumns columns = new NumericColumns(5);
+
+		BitSet xMissing = new BitSet();
+		xMissing.set(2);
+
+		columns.put("x", new double[]{1d, -0.5d, 0d, 3d, -0d}, xMissing);
+
+		BitSet yMissing = new BitSet();
+		yMissing.set(4);
+
+		columns.put("y", new double[]{2d, 4d, -1.5d, -0d, 0d}, yMissing);
+
+		return columns;
+	}
+}
\ No newline at end of file
@@ -18,6 +18,7 @@
  */
 package org.jpmml.evaluator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ResultTableCollectorTest {
 
@@ -75,6 +78,60 @@ public class ResultTableCollectorTest {
 		assertNull(table.getValues("probability(virginica)"));
 	}
 
+	@Test
+	public void collectPrimitive(){
+		DataField dataField = new DataField("Species", OpType.CATEGORICAL, DataType.STRING);
+		MiningField miningField = new MiningField(dataField.getName());
+
+		List<ResultField> resultFields = Arrays.asList(
+			new TargetField(dataField, miningField, null),
+			new OutputField(new org.dmg.pmml.OutputField("probability(versicolor)", OpType.CONTINUOUS, DataType.DOUBLE))
+		);
+
+		List<Object> results = new ArrayList<>();
+
+		for(int i = 0; i < 1000; i++){
+
+			if(i % 100 == 99){
+				results.add(new EvaluationException("Row " + i));
+			} else
+
+			{
+				results.add(createRecord("setosa", 0.5, (i / 1000d), 0.5));
+			}
+		}
+
+		Table table = results.parallelStream()
+			.collect(new PrimitiveResultTableCollector(resultFields, 16));
+
+		assertEquals(Arrays.asList("Species", "probability(versicolor)"), table.getColumns());
+
+		assertEquals(1000, table.getNumberOfRows());
+
+		assertTrue(table.getValues("Species") instanceof ArrayList);
+
+		DoubleColumn probabilities = (DoubleColumn)table.getValues("probability(versicolor)");
+
+		assertEquals(1000, probabilities.size());
+
+		for(int i = 0; i < 1000; i++){
+
+			if(i % 100 == 99){
+				assertSame(results.get(i), table.getException(i));
+
+				assertNull(table.getValues("Species").get(i));
+				assertTrue(probabilities.isMissing(i));
+			} else
+
+			{
+				assertNull(table.getException(i));
+
+				assertEquals("setosa", table.getValues("Species").get(i));
+				assertEquals(i / 1000d, probabilities.getDouble(i), 0d);
+			}
+		}
+	}
+
 	static
 	private Map<String, ?> createRecord(String species, double probabilitySetosa, double probabilityVersicolor, double probabilityVirginica){
 		Computable targetValue = new Computable(){
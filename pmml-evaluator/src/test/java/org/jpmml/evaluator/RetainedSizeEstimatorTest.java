@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.dmg.pmml.PMMLObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetainedSizeEstimatorTest {
+
+	@Test
+	public void estimate() throws Exception {
+		ModelEvaluator<?> modelEvaluator = new LoadingModelEvaluatorBuilder()
+			.load(RetainedSizeEstimatorTest.class.getResourceAsStream("/pmml/mining/GradientBoosterTest.pmml"))
+			.build();
+
+		Map<String, ?> arguments = ModelEvaluatorTest.createArguments("x", 1d);
+
+		modelEvaluator.evaluate(arguments);
+
+		RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+
+		RetainedSize retainedSize = estimator.estimate(modelEvaluator);
+
+		assertTrue(retainedSize.getSize() > 0L);
+		assertTrue(retainedSize.getObjectCount() > 0L);
+
+		Map<String, Long> segmentSizes = retainedSize.getSegmentSizes();
+
+		// The nested sum, and the final regression
+		assertEquals(2, segmentSizes.size());
+
+		long segmentSize = 0L;
+
+		for(Long size : segmentSizes.values()){
+			assertTrue(size > 0L);
+
+			segmentSize += size;
+		}
+
+		assertTrue(segmentSize + retainedSize.getSharedSize() < retainedSize.getSize());
+
+		long typeSize = 0L;
+
+		Map<Class<?>, Long> typeSizes = retainedSize.getTypeSizes();
+		for(Long size : typeSizes.values()){
+			typeSize += size;
+		}
+
+		assertEquals(retainedSize.getSize(), typeSize);
+
+		assertTrue(typeSizes.keySet().stream().anyMatch(PMMLObject.class::isAssignableFrom));
+
+		assertEquals(retainedSize.getSize(), estimator.weigh(modelEvaluator));
+
+		Set<Object> seenObjects = RetainedSizeEstimator.newObjectSet();
+
+		assertEquals(retainedSize.getSize(), (estimator.estimate(modelEvaluator, seenObjects)).getSize());
+		assertEquals(0L, (estimator.estimate(modelEvaluator, seenObjects)).getSize());
+	}
+}
\ No newline at end of file
@@ -18,11 +18,17 @@
  */
 package org.jpmml.evaluator;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
@@ -80,6 +86,86 @@ public class TableReaderTest {
 		assertEquals(expectedTable.getValues(), Maps.transformValues((Map)table.getValues(), function));
 	}
 
+	@Test
+	public void readChunks() throws IOException {
+		TableReader tableReader = new TableReader(',');
+
+		try(StringReader reader = new StringReader(TableReaderTest.string)){
+
+			try(TableReader.ChunkReader chunkReader = tableReader.open(reader, 2)){
+				Table firstChunk = chunkReader.read();
+
+				assertEquals(Arrays.asList("A", "B", "C"), firstChunk.getColumns());
+				assertEquals(2, firstChunk.getNumberOfRows());
+				assertEquals(Arrays.asList("1", "2"), firstChunk.getValues("A"));
+
+				Table secondChunk = chunkReader.read();
+
+				assertEquals(Arrays.asList("A", "B", "C"), secondChunk.getColumns());
+				assertEquals(1, secondChunk.getNumberOfRows());
+				assertEquals(Arrays.asList("3"), secondChunk.getValues("A"));
+				assertEquals(Arrays.asList("false"), secondChunk.getValues("C"));
+
+				assertNull(chunkReader.read());
+			}
+		}
+	}
+
+	@Test
+	public void readParallel() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append("id,text,value").append("\r\n");
+
+		for(int i = 0; i < 1000; i++){
+			sb.append(i).append(',');
+
+			if(i % 7 == 0){
+				sb.append("\"multi\nline, \"\"quoted\"\"\ntext\"");
+			} else
+
+			// Stray quote characters in unquoted fields
+			if(i % 11 == 0){
+				sb.append("5 1/2\" pipe");
+			} else
+
+			{
+				sb.append("text ").append(i);
+			}
+
+			sb.append(',').append(i % 3 == 0 ? "" : String.valueOf(i * 0.5)).append("\r\n");
+		}
+
+		File file = File.createTempFile("table", ".csv");
+
+		try {
+			Files.write(file.toPath(), (sb.toString()).getBytes(StandardCharsets.UTF_8));
+
+			TableReader tableReader = new TableReader(',');
+
+			Table expectedTable;
+
+			try(StringReader reader = new StringReader(sb.toString())){
+				expectedTable = tableReader.read(reader);
+			}
+
+			ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+			try {
+				for(int numberOfChunks : new int[]{1, 2, 7, 64}){
+					Table table = tableReader.read(file, executorService, numberOfChunks);
+
+					assertEquals(expectedTable.getColumns(), table.getColumns());
+					assertEquals(expectedTable.getNumberOfRows(), table.getNumberOfRows());
+					assertEquals(expectedTable.getValues(), table.getValues());
+				}
+			} finally {
+				executorService.shutdown();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
 	@Test
 	public void detectCsvReaderBuilder() throws IOException {
 		Reader reader = new StringReader("");
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -57,6 +58,55 @@ public class TableSpliteratorTest {
 		checkRemainingValues(spliterator, 0);
 	}
 
+	@Test
+	public void minChunkSize(){
+		Table table = createTable(100);
+
+		TableSpliterator spliterator = table.spliterator()
+			.setMinChunkSize(30);
+
+		TableSpliterator splitSpliterator = spliterator.trySplit();
+
+		assertEquals(50, spliterator.estimateSize());
+		assertEquals(50, splitSpliterator.estimateSize());
+
+		assertEquals(30, splitSpliterator.getMinChunkSize());
+
+		assertNull(spliterator.trySplit());
+		assertNull(splitSpliterator.trySplit());
+
+		checkRemainingValues(splitSpliterator, 0);
+		checkRemainingValues(spliterator, 50);
+	}
+
+	@Test
+	public void costTracker(){
+		TableSpliterator.CostTracker costTracker = new TableSpliterator.CostTracker(1000L);
+
+		assertEquals(-1d, costTracker.getRowCost());
+		assertEquals(1, costTracker.estimateChunkSize());
+
+		costTracker.record(100, 2000L);
+
+		assertEquals(20d, costTracker.getRowCost());
+		assertEquals(50, costTracker.estimateChunkSize());
+
+		Table table = createTable(100);
+
+		TableSpliterator spliterator = table.spliterator()
+			.setCostTracker(costTracker);
+
+		TableSpliterator splitSpliterator = spliterator.trySplit();
+
+		assertSame(costTracker, splitSpliterator.getCostTracker());
+
+		assertNull(splitSpliterator.trySplit());
+
+		checkRemainingValues(splitSpliterator, 0);
+
+		assertEquals(150, costTracker.getRowCount());
+	}
+
 	static
 	private Table createTable(int size){
 		List<Integer> intValues = new ArrayList<>(size);
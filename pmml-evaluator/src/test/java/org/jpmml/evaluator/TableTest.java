@@ -24,12 +24,15 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.dmg.pmml.DataType;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -171,6 +174,69 @@ public class TableTest {
 		assertEquals(Arrays.asList("1", "2", "3", "N/A", "5"), resultsTable.getValues("C"));
 	}
 
+	@Test
+	public void convertValues(){
+		Table table = new Table(3);
+		table.setValues("A", new ArrayList<>(Arrays.asList("1", null, "3")));
+		table.setValues("B", new ArrayList<>(Arrays.asList("1.5", "2.5", null)));
+		table.setValues("C", new ArrayList<>(Arrays.asList("red", "green", "red")));
+
+		PrimitiveColumn<?> intColumn = table.convertValues("A", DataType.INTEGER);
+		PrimitiveColumn<?> doubleColumn = table.convertValues("B", DataType.DOUBLE);
+		PrimitiveColumn<?> stringColumn = table.convertValues("C", DataType.STRING);
+
+		assertNull(table.convertValues("D", DataType.DOUBLE));
+
+		assertTrue(intColumn instanceof IntegerColumn);
+		assertTrue(doubleColumn instanceof DoubleColumn);
+		assertTrue(stringColumn instanceof DictionaryColumn);
+
+		assertSame(doubleColumn, table.convertValues("B", DataType.DOUBLE));
+
+		assertEquals(Arrays.asList(1, null, 3), intColumn);
+		assertEquals(Arrays.asList(1.5d, 2.5d, null), doubleColumn);
+		assertEquals(Arrays.asList("red", "green", "red"), stringColumn);
+
+		assertEquals(Arrays.asList("red", "green"), ((DictionaryColumn)stringColumn).getDictionary());
+
+		Table.Row row = table.createReaderRow(0);
+
+		assertEquals(1, row.get("A"));
+		assertEquals(1.5d, row.get("B"));
+		assertFalse(row.isMissing("A"));
+
+		row.advance();
+
+		assertTrue(row.isMissing("A"));
+		assertNull(row.get("A"));
+
+		row.put("A", 2);
+
+		assertFalse(row.isMissing("A"));
+		assertEquals(2, row.get("A"));
+
+		row.advance();
+
+		assertTrue(row.isMissing("B"));
+
+		row.put("B", 3.5f);
+
+		assertEquals(3.5d, row.get("B"));
+
+		row.advance();
+
+		row.put("A", "4");
+
+		row.advance();
+
+		row.put("A", "5.0");
+
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), intColumn);
+		assertEquals(Arrays.asList(1.5d, 2.5d, 3.5d), doubleColumn);
+
+		assertThrows(IllegalArgumentException.class, () -> table.convertValues("B", DataType.INTEGER));
+	}
+
 	@Test
 	public void blockIndicators(){
 		Table table = new Table(Arrays.asList("A", "B", "C"), 100);
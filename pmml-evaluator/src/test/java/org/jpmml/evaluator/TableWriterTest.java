@@ -25,6 +25,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TableWriterTest {
 
@@ -45,6 +46,42 @@ public class TableWriterTest {
 		assertEquals(expectedString, string);
 	}
 
+	@Test
+	public void writeChunks() throws IOException {
+		String string;
+
+		try(StringWriter writer = new StringWriter()){
+			TableWriter tableWriter = new TableWriter(',');
+
+			try(TableWriter.ChunkWriter chunkWriter = tableWriter.open(writer)){
+				Table firstChunk = new Table(2);
+				firstChunk.setValues("A", Arrays.asList("1", "2"));
+				firstChunk.setValues("B", Arrays.asList("1.0", null));
+				firstChunk.setValues("C", Arrays.asList(null, "true"));
+
+				chunkWriter.write(firstChunk);
+
+				Table secondChunk = new Table(1);
+				secondChunk.setValues("C", Arrays.asList("false"));
+				secondChunk.setValues("A", Arrays.asList("3"));
+				secondChunk.setValues("B", Arrays.asList("3.0"));
+
+				chunkWriter.write(secondChunk);
+
+				Table invalidChunk = new Table(1);
+				invalidChunk.setValues("D", Arrays.asList("4"));
+
+				assertThrows(IllegalArgumentException.class, () -> chunkWriter.write(invalidChunk));
+			}
+
+			string = writer.toString();
+		}
+
+		String expectedString = TableReaderTest.string;
+
+		assertEquals(expectedString, string);
+	}
+
 	protected static Table table;
 
 	static {
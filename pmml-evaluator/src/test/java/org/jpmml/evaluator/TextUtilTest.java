@@ -25,6 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.dmg.pmml.InlineTable;
 import org.dmg.pmml.TextIndex;
 import org.dmg.pmml.TextIndexNormalization;
@@ -32,7 +35,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -85,6 +90,71 @@ public class TextUtilTest {
 		assertSame(firstTokens, secondTokens);
 	}
 
+	@Test
+	public void processTermsBounded(){
+		long tokenCacheMaximumWeight = TextUtil.getTokenCacheMaximumWeight();
+
+		TextUtil.setTokenCacheMaximumWeight(3 * (1 + 2));
+
+		try {
+			TextIndex textIndex = new TextIndex();
+
+			for(int i = 0; i < 10; i++){
+				TextUtil.TermProcessor termProcessor = new TextUtil.TermProcessor(textIndex, "term " + i);
+
+				assertEquals(new TokenizedString("term", String.valueOf(i)), termProcessor.process());
+			}
+
+			TextUtil.TermProcessor termProcessor = new TextUtil.TermProcessor(textIndex, "term " + 9);
+
+			assertEquals(new TokenizedString("term", "9"), termProcessor.process());
+
+			Cache<String, TokenizedString> termTokenCache = TextUtil.getTermTokenCache(textIndex);
+
+			CacheStats stats = termTokenCache.stats();
+
+			assertEquals(1L, stats.hitCount());
+			assertEquals(10L, stats.missCount());
+			assertTrue(stats.evictionCount() >= 7L);
+
+			assertTrue(termTokenCache.size() <= 3L);
+		} finally {
+			TextUtil.setTokenCacheMaximumWeight(tokenCacheMaximumWeight);
+		}
+	}
+
+	@Test
+	public void tokenCacheStats(){
+		TextUtil.TokenCacheStatsCounter statsCounter = new TextUtil.TokenCacheStatsCounter();
+
+		Cache<TextIndex, Cache<String, TokenizedString>> tokenCaches = CacheBuilder.newBuilder()
+			.removalListener(statsCounter)
+			.build();
+
+		TextIndex textIndex = new TextIndex();
+
+		Cache<String, TokenizedString> tokenCache = CacheBuilder.newBuilder()
+			.recordStats()
+			.build();
+
+		tokenCaches.put(textIndex, tokenCache);
+
+		assertNull(tokenCache.getIfPresent("term"));
+
+		tokenCache.put("term", new TokenizedString("term"));
+
+		assertNotNull(tokenCache.getIfPresent("term"));
+
+		assertEquals(0L, (statsCounter.getRetiredStats()).requestCount());
+
+		tokenCaches.invalidate(textIndex);
+
+		CacheStats stats = statsCounter.getRetiredStats();
+
+		assertEquals(1L, stats.hitCount());
+		assertEquals(1L, stats.missCount());
+	}
+
 	@Test
 	public void normalize(){
 		List<List<String>> regexRows = Arrays.asList(
@@ -121,6 +191,59 @@ public class TextUtilTest {
 		}
 	}
 
+	@Test
+	public void normalizeTextIndex(){
+		TextIndexNormalization stepOne = new TextIndexNormalization();
+
+		List<List<String>> cells = Arrays.asList(
+			Arrays.asList("interfaces?", "interface", "true"),
+			Arrays.asList("is|are|seem(ed|s?)|were", "be", "true"),
+			Arrays.asList("user friendl(y|iness)", "user_friendly", "true")
+		);
+
+		stepOne.setInlineTable(ExpressionUtilTest.createInlineTable(cells, stepOne));
+
+		TextIndexNormalization stepTwo = new TextIndexNormalization()
+			.setRecursive(true);
+
+		cells = Arrays.asList(
+			Arrays.asList("aa", "a", null)
+		);
+
+		stepTwo.setInlineTable(ExpressionUtilTest.createInlineTable(cells, stepTwo));
+
+		TextIndex textIndex = new TextIndex()
+			.setCaseSensitive(false)
+			.addTextIndexNormalizations(stepOne, stepTwo);
+
+		TextNormalizer textNormalizer = TextUtil.getTextNormalizer(textIndex);
+
+		assertSame(textNormalizer, TextUtil.getTextNormalizer(textIndex));
+
+		List<String> texts = Arrays.asList(
+			"The Interfaces were user friendly",
+			"The interface seemed user friendliness",
+			"Baaaad",
+			"Nothing to see here"
+		);
+
+		for(String text : texts){
+			String expectedText = text;
+
+			for(TextIndexNormalization textIndexNormalization : textIndex.getTextIndexNormalizations()){
+				expectedText = TextUtil.normalize(textIndex, textIndexNormalization, expectedText);
+			}
+
+			assertEquals(expectedText, TextUtil.normalize(textIndex, text));
+			assertEquals(expectedText, TextUtil.normalize(textIndex, text));
+		}
+
+		assertEquals("The interface be user_friendly", TextUtil.normalize(textIndex, "The Interfaces were user friendly"));
+		assertEquals("Bad", TextUtil.normalize(textIndex, "Baaaad"));
+
+		assertEquals(texts.size(), textNormalizer.size());
+	}
+
 	@Test
 	public void termFrequency(){
 		TokenizedString textTokens = new TokenizedString("x", "x", "x", "x");
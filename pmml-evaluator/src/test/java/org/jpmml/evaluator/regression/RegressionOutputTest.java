@@ -21,8 +21,10 @@ package org.jpmml.evaluator.regression;
 import java.util.Arrays;
 import java.util.Map;
 
+import com.google.common.collect.Lists;
 import org.jpmml.evaluator.Configuration;
 import org.jpmml.evaluator.ConfigurationBuilder;
+import org.jpmml.evaluator.InputField;
 import org.jpmml.evaluator.ModelEvaluator;
 import org.jpmml.evaluator.ModelEvaluatorTest;
 import org.jpmml.evaluator.OutputFilters;
@@ -67,5 +69,21 @@ public class RegressionOutputTest extends ModelEvaluatorTest {
 		results = evaluator.evaluate(arguments);
 
 		assertEquals(1 + 3, results.size());
+
+		configurationBuilder.setPruneOutputFields(true);
+
+		configuration = configurationBuilder.build();
+
+		evaluator.configure(configuration);
+
+		assertEquals(Arrays.asList("input"), Lists.transform(evaluator.getRequiredInputFields(), InputField::getName));
+
+		results = evaluator.evaluate(arguments);
+
+		assertEquals(1 + 3, results.size());
+
+		assertEquals(35d, results.get("FinalResult"));
+		assertEquals(35, results.get("FinalIntegerResult"));
+		assertEquals("waive", results.get("BusinessDecision"));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Evaluator
+ *
+ * JPMML-Evaluator is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Evaluator is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Evaluator.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.evaluator.visitors;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.jpmml.evaluator.EvaluatorUtil;
+import org.jpmml.evaluator.LoadingModelEvaluatorBuilder;
+import org.jpmml.evaluator.ModelEvaluator;
+import org.jpmml.evaluator.ModelEvaluatorBuilder;
+import org.jpmml.evaluator.ModelEvaluatorTest;
+import org.jpmml.evaluator.OutputField;
+import org.jpmml.evaluator.SerializationUtil;
+import org.jpmml.evaluator.mining.SerializedSegment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentSerializerTest {
+
+	@Test
+	public void serializeAndMap(@TempDir Path tmpDir) throws Exception {
+		PMML pmml = loadPMML();
+		PMML serializedPMML = loadPMML();
+
+		SegmentSerializer segmentSerializer = new SegmentSerializer();
+		segmentSerializer.applyTo(serializedPMML);
+
+		List<SerializedSegment> serializedSegments = segmentSerializer.getSerializedSegments();
+
+		assertEquals(2, serializedSegments.size());
+
+		for(SerializedSegment serializedSegment : serializedSegments){
+			assertFalse(serializedSegment.isMaterialized());
+			assertTrue(serializedSegment.getBodySize() > 0);
+		}
+
+		List<Segment> segments = ((MiningModel)(serializedPMML.getModels()).get(0)).requireSegmentation().requireSegments();
+
+		assertEquals(serializedSegments, segments);
+
+		segmentSerializer.mapTo(new File(tmpDir.toFile(), "segments.bin"));
+
+		ModelEvaluator<?> modelEvaluator = new ModelEvaluatorBuilder(pmml)
+			.build();
+
+		ModelEvaluator<?> serializedModelEvaluator = new ModelEvaluatorBuilder(serializedPMML)
+			.build();
+
+		for(SerializedSegment serializedSegment : serializedSegments){
+			assertFalse(serializedSegment.isMaterialized());
+		}
+
+		assertEquals(getOutputNames(modelEvaluator), getOutputNames(serializedModelEvaluator));
+
+		for(int i = 0; i < 5; i++){
+			Map<String, ?> arguments = ModelEvaluatorTest.createArguments("petal_length", 1.4d, "petal_width", 0.2d, "temperature", (double)i, "cloudiness", 0d);
+
+			Map<String, ?> results = EvaluatorUtil.decodeAll(modelEvaluator.evaluate(arguments));
+
+			assertEquals(results, EvaluatorUtil.decodeAll(serializedModelEvaluator.evaluate(arguments)));
+			assertEquals(results, EvaluatorUtil.decodeAll((SerializationUtil.clone(serializedModelEvaluator)).evaluate(arguments)));
+		}
+
+		assertTrue((serializedSegments.get(0)).isMaterialized());
+	}
+
+	static
+	private List<String> getOutputNames(ModelEvaluator<?> modelEvaluator){
+		List<OutputField> outputFields = modelEvaluator.getOutputFields();
+
+		return outputFields.stream()
+			.map(outputField -> outputField.getName() + "@" + outputField.getDepth())
+			.collect(Collectors.toList());
+	}
+
+	static
+	private PMML loadPMML() throws Exception {
+
+		try(InputStream is = SegmentSerializerTest.class.getResourceAsStream("/pmml/mining/ModelChainSimpleTest.pmml")){
+			LoadingModelEvaluatorBuilder modelEvaluatorBuilder = new LoadingModelEvaluatorBuilder()
+				.load(is);
+
+			return modelEvaluatorBuilder.getPMML();
+		}
+	}
+}
\ No newline at end of file